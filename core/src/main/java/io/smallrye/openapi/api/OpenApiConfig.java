@@ -95,6 +95,27 @@ public interface OpenApiConfig {
         return false;
     }
 
+    default boolean indexLookupCacheEnable() {
+        return false;
+    }
+
+    /**
+     * Whether the classes of an application are scanned in parallel. When enabled, the worker threads
+     * share the {@link io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension}s of the scan and
+     * the caches of its {@link io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext} (type
+     * hierarchy, property model, inline schema and parameter template caches). Extension methods are
+     * then called concurrently and must be thread-safe.
+     *
+     * @return true if classes may be scanned in parallel, false by default
+     */
+    default boolean parallelScanEnable() {
+        return false;
+    }
+
+    default boolean compositeFilterEnable() {
+        return false;
+    }
+
     default Map<String, String> getSchemas() {
         return new HashMap<>();
     }
@@ -39,6 +39,9 @@ public class OpenApiConfigImpl implements OpenApiConfig {
     private Boolean privatePropertiesEnable;
     private String propertyNamingStrategy;
     private Boolean sortedPropertiesEnable;
+    private Boolean indexLookupCacheEnable;
+    private Boolean parallelScanEnable;
+    private Boolean compositeFilterEnable;
     private Map<String, String> schemas;
     private String version;
     private String infoTitle;
@@ -278,6 +281,39 @@ public class OpenApiConfigImpl implements OpenApiConfig {
         return sortedPropertiesEnable;
     }
 
+    @Override
+    public boolean indexLookupCacheEnable() {
+        if (indexLookupCacheEnable == null) {
+            indexLookupCacheEnable = getConfig()
+                    .getOptionalValue(OpenApiConstants.SMALLRYE_INDEX_LOOKUP_CACHE_ENABLE, Boolean.class)
+                    .orElse(OpenApiConfig.super.indexLookupCacheEnable());
+        }
+
+        return indexLookupCacheEnable;
+    }
+
+    @Override
+    public boolean parallelScanEnable() {
+        if (parallelScanEnable == null) {
+            parallelScanEnable = getConfig()
+                    .getOptionalValue(OpenApiConstants.SMALLRYE_PARALLEL_SCAN_ENABLE, Boolean.class)
+                    .orElse(OpenApiConfig.super.parallelScanEnable());
+        }
+
+        return parallelScanEnable;
+    }
+
+    @Override
+    public boolean compositeFilterEnable() {
+        if (compositeFilterEnable == null) {
+            compositeFilterEnable = getConfig()
+                    .getOptionalValue(OpenApiConstants.SMALLRYE_COMPOSITE_FILTER_ENABLE, Boolean.class)
+                    .orElse(OpenApiConfig.super.compositeFilterEnable());
+        }
+
+        return compositeFilterEnable;
+    }
+
     @Override
     public Map<String, String> getSchemas() {
         if (schemas == null) {
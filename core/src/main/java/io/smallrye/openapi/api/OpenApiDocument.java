@@ -1,5 +1,6 @@
 package io.smallrye.openapi.api;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -21,6 +22,13 @@ import io.smallrye.openapi.api.util.MergeUtil;
  * Note that the model must be initialized first!
  * </p>
  *
+ * <p>
+ * {@link #INSTANCE} holds the document of a single application. Applications sharing a JVM,
+ * e.g. several deployments or versions of an API, each use their own holder created with
+ * {@link #newInstance()}. Separate holders do not share any state and may be initialized
+ * concurrently, see also {@link OpenApiDocumentRegistry}.
+ * </p>
+ *
  * @author Martin Kouba
  */
 public class OpenApiDocument {
@@ -36,23 +44,37 @@ public class OpenApiDocument {
     private transient String archiveName;
     private transient String version;
 
-    private transient OpenAPI model;
+    /*
+     * Written while holding the monitor of the holder, after the model is complete. Readers
+     * only need the volatile read to see the complete model and do not lock.
+     */
+    private transient volatile OpenAPI model;
 
     private OpenApiDocument() {
     }
 
     /**
+     * Create a new holder, independent of {@link #INSTANCE}.
+     *
+     * @return a new, empty holder
+     */
+    public static OpenApiDocument newInstance() {
+        return new OpenApiDocument();
+    }
+
+    /**
+     * Retrieve the final model. Once initialized, the model is published through a volatile
+     * field and reading it does not require a lock.
      *
      * @return the final OpenAPI document produced during the startup of the app
      * @throws IllegalStateException If the final model is not initialized yet
      */
     public OpenAPI get() {
-        synchronized (INSTANCE) {
-            if (model == null) {
-                throw ApiMessages.msg.modelNotInitialized();
-            }
-            return model;
+        OpenAPI result = model;
+        if (result == null) {
+            throw ApiMessages.msg.modelNotInitialized();
         }
+        return result;
     }
 
     /**
@@ -61,7 +83,7 @@ public class OpenApiDocument {
      * @param model OpenAPI model instance
      */
     public void set(OpenAPI model) {
-        synchronized (INSTANCE) {
+        synchronized (this) {
             this.model = model;
         }
     }
@@ -70,7 +92,7 @@ public class OpenApiDocument {
      * Reset the holder.
      */
     public void reset() {
-        synchronized (INSTANCE) {
+        synchronized (this) {
             model = null;
             clear();
         }
@@ -80,9 +102,7 @@ public class OpenApiDocument {
      * @return {@code true} if model initialized
      */
     public boolean isSet() {
-        synchronized (INSTANCE) {
-            return model != null;
-        }
+        return model != null;
     }
 
     public synchronized void config(OpenApiConfig config) {
@@ -116,7 +136,7 @@ public class OpenApiDocument {
     }
 
     public void initialize() {
-        synchronized (INSTANCE) {
+        synchronized (this) {
             if (model != null) {
                 modelAlreadyInitialized();
             }
@@ -167,7 +187,8 @@ public class OpenApiDocument {
 
     /**
      * Filter the final model using a {@link OASFilter} configured by the app. If no filter has been configured, this will
-     * simply return the model unchanged.
+     * simply return the model unchanged. When composite filtering is enabled, all filters are applied in a single
+     * traversal of the model.
      *
      * @param model
      */
@@ -175,6 +196,9 @@ public class OpenApiDocument {
         if (model == null || filters.isEmpty()) {
             return model;
         }
+        if (config.compositeFilterEnable()) {
+            return FilterUtil.applyFilters(new ArrayList<>(filters.values()), model);
+        }
         for (OASFilter filter : filters.values()) {
             model = FilterUtil.applyFilter(filter, model);
         }
@@ -182,7 +206,7 @@ public class OpenApiDocument {
     }
 
     private void set(Runnable action) {
-        synchronized (INSTANCE) {
+        synchronized (this) {
             if (model != null) {
                 modelAlreadyInitialized();
             }
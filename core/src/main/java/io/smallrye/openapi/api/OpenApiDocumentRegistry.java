@@ -0,0 +1,95 @@
+package io.smallrye.openapi.api;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+/**
+ * Holds the final OpenAPI documents of several applications sharing a JVM, keyed by
+ * an application-defined deployment key, e.g. the name of a tenant, a deployment or a
+ * version of an API. Each document is built using its own {@link OpenApiDocument}, so
+ * documents with different keys may be built concurrently.
+ *
+ * <p>
+ * A registered model is the final model of the deployment and must not be modified.
+ * </p>
+ */
+public class OpenApiDocumentRegistry {
+
+    private final Map<String, OpenAPI> documents = new ConcurrentHashMap<>();
+
+    /**
+     * Build the document of a deployment and register it under the given key, replacing
+     * any document previously registered for the key. The initializer populates a new
+     * {@link OpenApiDocument} (config, models, filters, etc.), which is then initialized.
+     *
+     * @param key the deployment key
+     * @param initializer populates the document holder, it must not initialize the holder
+     * @return the final OpenAPI model of the deployment
+     */
+    public OpenAPI build(String key, Consumer<OpenApiDocument> initializer) {
+        OpenApiDocument document = OpenApiDocument.newInstance();
+        initializer.accept(document);
+        document.initialize();
+
+        OpenAPI model = document.get();
+        register(key, model);
+        return model;
+    }
+
+    /**
+     * Register the final model of a deployment, e.g. as returned by
+     * {@link io.smallrye.openapi.runtime.OpenApiProcessor#bootstrap(OpenApiConfig, org.jboss.jandex.IndexView)
+     * OpenApiProcessor.bootstrap}, replacing any document previously registered for the key.
+     *
+     * @param key the deployment key
+     * @param model the final OpenAPI model of the deployment, not null
+     */
+    public void register(String key, OpenAPI model) {
+        documents.put(key, model);
+    }
+
+    /**
+     * @param key the deployment key
+     * @return the final OpenAPI model of the deployment
+     * @throws IllegalStateException If no model has been registered for the key
+     */
+    public OpenAPI get(String key) {
+        OpenAPI model = documents.get(key);
+
+        if (model == null) {
+            throw ApiMessages.msg.modelNotInitialized();
+        }
+
+        return model;
+    }
+
+    /**
+     * @param key the deployment key
+     * @return {@code true} if a model has been registered for the key
+     */
+    public boolean isSet(String key) {
+        return documents.containsKey(key);
+    }
+
+    /**
+     * Remove the document of a deployment, e.g. when it is undeployed.
+     *
+     * @param key the deployment key
+     * @return the model previously registered for the key, or null
+     */
+    public OpenAPI remove(String key) {
+        return documents.remove(key);
+    }
+
+    /**
+     * @return the keys of all registered deployments
+     */
+    public Set<String> keys() {
+        return Collections.unmodifiableSet(documents.keySet());
+    }
+}
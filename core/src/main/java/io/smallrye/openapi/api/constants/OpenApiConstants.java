@@ -25,6 +25,9 @@ public final class OpenApiConstants {
     public static final String SUFFIX_PRIVATE_PROPERTIES_ENABLE = "private-properties.enable";
     public static final String SUFFIX_PROPERTY_NAMING_STRATEGY = "property-naming-strategy";
     public static final String SUFFIX_SORTED_PROPERTIES_ENABLE = "sorted-properties.enable";
+    public static final String SUFFIX_INDEX_LOOKUP_CACHE_ENABLE = "index-lookup-cache.enable";
+    public static final String SUFFIX_PARALLEL_SCAN_ENABLE = "parallel-scan.enable";
+    public static final String SUFFIX_COMPOSITE_FILTER_ENABLE = "composite-filter.enable";
 
     public static final String SCAN_DEPENDENCIES_DISABLE = OASConfig.EXTENSIONS_PREFIX + SUFFIX_SCAN_DEPENDENCIES_DISABLE;
     public static final String SCAN_DEPENDENCIES_JARS = OASConfig.EXTENSIONS_PREFIX + SUFFIX_SCAN_DEPENDENCIES_JARS;
@@ -42,6 +45,9 @@ public final class OpenApiConstants {
     public static final String SMALLRYE_PRIVATE_PROPERTIES_ENABLE = SMALLRYE_PREFIX + SUFFIX_PRIVATE_PROPERTIES_ENABLE;
     public static final String SMALLRYE_PROPERTY_NAMING_STRATEGY = SMALLRYE_PREFIX + SUFFIX_PROPERTY_NAMING_STRATEGY;
     public static final String SMALLRYE_SORTED_PROPERTIES_ENABLE = SMALLRYE_PREFIX + SUFFIX_SORTED_PROPERTIES_ENABLE;
+    public static final String SMALLRYE_INDEX_LOOKUP_CACHE_ENABLE = SMALLRYE_PREFIX + SUFFIX_INDEX_LOOKUP_CACHE_ENABLE;
+    public static final String SMALLRYE_PARALLEL_SCAN_ENABLE = SMALLRYE_PREFIX + SUFFIX_PARALLEL_SCAN_ENABLE;
+    public static final String SMALLRYE_COMPOSITE_FILTER_ENABLE = SMALLRYE_PREFIX + SUFFIX_COMPOSITE_FILTER_ENABLE;
 
     public static final String VERSION = SMALLRYE_PREFIX + "openapi";
     public static final String INFO_TITLE = SMALLRYE_PREFIX + "info.title";
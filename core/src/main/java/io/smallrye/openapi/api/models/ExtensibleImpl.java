@@ -16,6 +16,48 @@ import io.smallrye.openapi.runtime.util.ModelUtil;
 public abstract class ExtensibleImpl<T extends Extensible<T>> implements Extensible<T>, ModelImpl {
 
     private Map<String, Object> extensions;
+    private boolean extensionsShared;
+
+    /**
+     * Use the extensions of the source model for this model as well. The map of
+     * extensions is shared until either of the models modifies its extensions.
+     *
+     * @param source the model whose extensions are shared
+     */
+    protected void shareExtensions(ExtensibleImpl<?> source) {
+        this.extensions = source.extensions;
+        this.extensionsShared = source.extensions != null;
+
+        if (this.extensionsShared && !source.extensionsShared) {
+            source.extensionsShared = true;
+        }
+    }
+
+    /**
+     * Mark the map of extensions as shared, so that it is copied before it is modified and
+     * sharing it with a copy (see {@link #shareExtensions(ExtensibleImpl)}) does not modify
+     * this model.
+     */
+    protected void markExtensionsShared() {
+        this.extensionsShared = this.extensions != null;
+    }
+
+    /**
+     * Called before the extensions are modified. Models that may not be modified throw an
+     * exception.
+     */
+    protected void checkModifiable() {
+    }
+
+    private Map<String, Object> modifiableExtensions() {
+        checkModifiable();
+
+        if (extensionsShared) {
+            this.extensions = new LinkedHashMap<>(this.extensions);
+            this.extensionsShared = false;
+        }
+        return this.extensions;
+    }
 
     /**
      * @see org.eclipse.microprofile.openapi.models.Extensible#getExtensions()
@@ -31,7 +73,7 @@ public abstract class ExtensibleImpl<T extends Extensible<T>> implements Extensi
     @SuppressWarnings("unchecked")
     @Override
     public T addExtension(String name, Object value) {
-        this.extensions = ModelUtil.add(name, value, this.extensions, LinkedHashMap<String, Object>::new);
+        this.extensions = ModelUtil.add(name, value, modifiableExtensions(), LinkedHashMap<String, Object>::new);
         return (T) this;
     }
 
@@ -40,7 +82,7 @@ public abstract class ExtensibleImpl<T extends Extensible<T>> implements Extensi
      */
     @Override
     public void removeExtension(String name) {
-        ModelUtil.remove(this.extensions, name);
+        ModelUtil.remove(modifiableExtensions(), name);
     }
 
     /**
@@ -48,7 +90,9 @@ public abstract class ExtensibleImpl<T extends Extensible<T>> implements Extensi
      */
     @Override
     public void setExtensions(Map<String, Object> extensions) {
+        checkModifiable();
         this.extensions = ModelUtil.replace(extensions, LinkedHashMap<String, Object>::new);
+        this.extensionsShared = false;
     }
 
 }
@@ -1,6 +1,7 @@
 package io.smallrye.openapi.api.models;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
@@ -31,49 +32,70 @@ public interface MapModel<V> extends Map<String, V> {
         function.accept(map);
     }
 
+    /**
+     * Retrieve the map for a view that may be used to modify it, such as {@link #keySet()}.
+     * An absent map is not created, an empty view is used instead.
+     *
+     * @return the map, or an empty (immutable) map if not present
+     */
+    default Map<String, V> getViewableMap() {
+        Map<String, V> map = getMap();
+        return map != null ? map : Collections.emptyMap();
+    }
+
+    // Read operations do not create the map
+
     @Override
     default int size() {
-        return invokeFunction(Map::size);
+        Map<String, V> map = getMap();
+        return map != null ? map.size() : 0;
     }
 
     @Override
     default boolean isEmpty() {
-        return invokeFunction(Map::isEmpty);
+        Map<String, V> map = getMap();
+        return map == null || map.isEmpty();
     }
 
     @Override
     default boolean containsValue(Object value) {
-        return invokeFunction(map -> map.containsValue(value));
+        Map<String, V> map = getMap();
+        return map != null && map.containsValue(value);
     }
 
     @Override
     default void clear() {
-        invoke(Map::clear);
+        Map<String, V> map = getMap();
+        if (map != null) {
+            map.clear();
+        }
     }
 
     @Override
     default Set<String> keySet() {
-        return invokeFunction(Map::keySet);
+        return getViewableMap().keySet();
     }
 
     @Override
     default Collection<V> values() {
-        return invokeFunction(Map::values);
+        return getViewableMap().values();
     }
 
     @Override
     default Set<Entry<String, V>> entrySet() {
-        return invokeFunction(Map::entrySet);
+        return getViewableMap().entrySet();
     }
 
     @Override
     default V get(Object key) {
-        return invokeFunction(map -> map.get(key));
+        Map<String, V> map = getMap();
+        return map != null ? map.get(key) : null;
     }
 
     @Override
     default boolean containsKey(Object key) {
-        return invokeFunction(map -> map.containsKey(key));
+        Map<String, V> map = getMap();
+        return map != null && map.containsKey(key);
     }
 
     @Override
@@ -88,6 +110,7 @@ public interface MapModel<V> extends Map<String, V> {
 
     @Override
     default V remove(Object key) {
-        return invokeFunction(map -> map.remove(key));
+        Map<String, V> map = getMap();
+        return map != null ? map.remove(key) : null;
     }
 }
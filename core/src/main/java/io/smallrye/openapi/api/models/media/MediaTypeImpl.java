@@ -22,6 +22,30 @@ public class MediaTypeImpl extends ExtensibleImpl<MediaType> implements MediaTyp
     private Map<String, Example> examples;
     private Map<String, Encoding> encoding;
 
+    /**
+     * Create a copy of the given media type. The schema is copied using
+     * {@link SchemaImpl#copyOf(Schema)}, the maps of examples and encodings are copied
+     * and the extensions are shared until either media type modifies them. Examples and
+     * encodings themselves are not copied.
+     *
+     * @param mediaType the media type to copy, may be null
+     * @return a copy of the media type, or the media type itself if it is not a {@link MediaTypeImpl}
+     */
+    public static MediaType copyOf(MediaType mediaType) {
+        if (!(mediaType instanceof MediaTypeImpl)) {
+            return mediaType;
+        }
+
+        MediaTypeImpl source = (MediaTypeImpl) mediaType;
+        MediaTypeImpl copy = new MediaTypeImpl();
+        copy.schema = SchemaImpl.copyOf(source.schema);
+        copy.example = source.example;
+        copy.examples = source.examples != null ? new LinkedHashMap<>(source.examples) : null;
+        copy.encoding = source.encoding != null ? new LinkedHashMap<>(source.encoding) : null;
+        copy.shareExtensions(source);
+        return copy;
+    }
+
     /**
      * @see org.eclipse.microprofile.openapi.models.media.MediaType#getSchema()
      */
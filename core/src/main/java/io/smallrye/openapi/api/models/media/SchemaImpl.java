@@ -2,6 +2,7 @@ package io.smallrye.openapi.api.models.media;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,6 +14,7 @@ import org.eclipse.microprofile.openapi.models.media.XML;
 
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.ExtensibleImpl;
+import io.smallrye.openapi.api.models.ExternalDocumentationImpl;
 import io.smallrye.openapi.api.models.ModelImpl;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
@@ -21,6 +23,13 @@ import io.smallrye.openapi.runtime.util.ModelUtil;
  */
 public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelImpl {
 
+    private static final int SHARED_REQUIRED = 1;
+    private static final int SHARED_ENUMERATION = 1 << 1;
+    private static final int SHARED_ALL_OF = 1 << 2;
+    private static final int SHARED_PROPERTIES = 1 << 3;
+    private static final int SHARED_ONE_OF = 1 << 4;
+    private static final int SHARED_ANY_OF = 1 << 5;
+
     private String ref;
     private String format;
     private final String name;
@@ -60,6 +69,8 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     private Boolean writeOnly;
     private Boolean deprecated;
     private int modCount;
+    private int shared;
+    private boolean frozen;
 
     public static boolean isNamed(Schema schema) {
         return schema instanceof SchemaImpl && ((SchemaImpl) schema).name != null;
@@ -69,6 +80,292 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
         return schema instanceof SchemaImpl ? ((SchemaImpl) schema).modCount : -1;
     }
 
+    /**
+     * Freeze the given schema and all of its nested schemas (properties, items, additional
+     * properties, allOf, anyOf, oneOf and not). A frozen schema may no longer be modified,
+     * attempts to do so fail with an {@link UnsupportedOperationException}. Frozen schemas
+     * may therefore be shared by any number of copies, see {@link #copyOf(Schema)}, and read
+     * concurrently. The XML, external documentation and discriminator models of a frozen
+     * schema must not be modified either.
+     *
+     * @param schema the schema to freeze, may be null
+     * @return the schema
+     */
+    public static Schema freeze(Schema schema) {
+        if (schema instanceof SchemaImpl) {
+            ((SchemaImpl) schema).freeze();
+        }
+        return schema;
+    }
+
+    private void freeze() {
+        if (frozen) {
+            return;
+        }
+
+        frozen = true;
+        markExtensionsShared();
+        freeze(items);
+        freeze(allOf);
+        if (properties != null) {
+            freeze(properties.values());
+        }
+        freeze(additionalPropertiesSchema);
+        freeze(oneOf);
+        freeze(anyOf);
+        freeze(not);
+    }
+
+    private static void freeze(Collection<Schema> schemas) {
+        if (schemas != null) {
+            schemas.forEach(SchemaImpl::freeze);
+        }
+    }
+
+    /**
+     * @param schema the schema, may be null
+     * @return true if the schema is frozen, see {@link #freeze(Schema)}
+     */
+    public static boolean isFrozen(Schema schema) {
+        return schema instanceof SchemaImpl && ((SchemaImpl) schema).frozen;
+    }
+
+    /**
+     * Create a copy of the given schema that may be modified without affecting the original.
+     * The XML, external documentation and discriminator models are copied, the extensions
+     * are shared until either schema modifies them. Other values such as examples are shared
+     * with the original.
+     *
+     * Nested schemas (properties, items, additional properties, allOf, anyOf, oneOf and not)
+     * that are frozen, see {@link #freeze(Schema)}, are shared by the copy, all others are
+     * copied in the same way. The copy of a frozen schema is therefore created in constant
+     * time: it shares all of its nested schemas, as well as its lists and maps of nested
+     * schemas, required properties and enumerations. A shared list or map is copied when the
+     * copy is first modified using the corresponding setter, add or remove method. The copy
+     * itself is not frozen. Its nested schemas must be replaced by copies of their own before
+     * they are modified, e.g. using <code>copy.addProperty(name, copyOf(copy.getProperties().get(name)))</code>.
+     *
+     * @param schema the schema to copy, may be null
+     * @return a copy of the schema, or the schema itself if it is not a {@link SchemaImpl}
+     */
+    public static Schema copyOf(Schema schema) {
+        if (!(schema instanceof SchemaImpl)) {
+            return schema;
+        }
+
+        SchemaImpl source = (SchemaImpl) schema;
+        SchemaImpl copy = copyFields(source);
+
+        if (source.frozen) {
+            copy.shared = source.containers();
+        } else {
+            copy.required = ModelUtil.replace(source.required, ArrayList<String>::new);
+            copy.enumeration = ModelUtil.replace(source.enumeration, ArrayList<Object>::new);
+            copy.items = copyUnlessFrozen(source.items);
+            copy.allOf = copyUnlessFrozen(source.allOf);
+            copy.properties = copyUnlessFrozen(source.properties);
+            copy.additionalPropertiesSchema = copyUnlessFrozen(source.additionalPropertiesSchema);
+            copy.oneOf = copyUnlessFrozen(source.oneOf);
+            copy.anyOf = copyUnlessFrozen(source.anyOf);
+            copy.not = copyUnlessFrozen(source.not);
+        }
+
+        copy.xml = copyOf(source.xml);
+        copy.externalDocs = copyOf(source.externalDocs);
+        copy.discriminator = copyOf(source.discriminator);
+        copy.shareExtensions(source);
+
+        return copy;
+    }
+
+    private static SchemaImpl copyFields(SchemaImpl source) {
+        SchemaImpl copy = new SchemaImpl(source.name);
+
+        copy.ref = source.ref;
+        copy.format = source.format;
+        copy.title = source.title;
+        copy.description = source.description;
+        copy.defaultValue = source.defaultValue;
+        copy.multipleOf = source.multipleOf;
+        copy.maximum = source.maximum;
+        copy.exclusiveMaximum = source.exclusiveMaximum;
+        copy.minimum = source.minimum;
+        copy.exclusiveMinimum = source.exclusiveMinimum;
+        copy.maxLength = source.maxLength;
+        copy.minLength = source.minLength;
+        copy.pattern = source.pattern;
+        copy.maxItems = source.maxItems;
+        copy.minItems = source.minItems;
+        copy.uniqueItems = source.uniqueItems;
+        copy.maxProperties = source.maxProperties;
+        copy.minProperties = source.minProperties;
+        copy.required = source.required;
+        copy.enumeration = source.enumeration;
+        copy.type = source.type;
+        copy.items = source.items;
+        copy.allOf = source.allOf;
+        copy.properties = source.properties;
+        copy.additionalPropertiesSchema = source.additionalPropertiesSchema;
+        copy.additionalPropertiesBoolean = source.additionalPropertiesBoolean;
+        copy.readOnly = source.readOnly;
+        copy.example = source.example;
+        copy.oneOf = source.oneOf;
+        copy.anyOf = source.anyOf;
+        copy.not = source.not;
+        copy.nullable = source.nullable;
+        copy.writeOnly = source.writeOnly;
+        copy.deprecated = source.deprecated;
+        copy.modCount = source.modCount;
+        return copy;
+    }
+
+    private int containers() {
+        int parts = 0;
+        parts |= required != null ? SHARED_REQUIRED : 0;
+        parts |= enumeration != null ? SHARED_ENUMERATION : 0;
+        parts |= allOf != null ? SHARED_ALL_OF : 0;
+        parts |= properties != null ? SHARED_PROPERTIES : 0;
+        parts |= oneOf != null ? SHARED_ONE_OF : 0;
+        parts |= anyOf != null ? SHARED_ANY_OF : 0;
+        return parts;
+    }
+
+    private static Schema copyUnlessFrozen(Schema schema) {
+        return isFrozen(schema) ? schema : copyOf(schema);
+    }
+
+    private static List<Schema> copyUnlessFrozen(List<Schema> schemas) {
+        if (schemas == null) {
+            return null;
+        }
+
+        List<Schema> copy = new ArrayList<>(schemas.size());
+        for (Schema schema : schemas) {
+            copy.add(copyUnlessFrozen(schema));
+        }
+        return copy;
+    }
+
+    private static Map<String, Schema> copyUnlessFrozen(Map<String, Schema> schemas) {
+        if (schemas == null) {
+            return null;
+        }
+
+        Map<String, Schema> copy = new LinkedHashMap<>(schemas.size());
+        for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+            copy.put(entry.getKey(), copyUnlessFrozen(entry.getValue()));
+        }
+        return copy;
+    }
+
+    /**
+     * Replace the frozen schemas nested directly in the given schema by copies, see
+     * {@link #copyOf(Schema)}, so that they may be modified. The schemas nested in the copies
+     * remain frozen. The given schema is otherwise unchanged.
+     *
+     * @param schema the schema, may be null
+     * @throws UnsupportedOperationException if the schema itself is frozen
+     */
+    public static void copyFrozenNested(Schema schema) {
+        if (schema instanceof SchemaImpl) {
+            ((SchemaImpl) schema).copyFrozenNested();
+        }
+    }
+
+    private void copyFrozenNested() {
+        checkModifiable();
+        items = copyIfFrozen(items);
+        allOf = copyIfFrozen(SHARED_ALL_OF, allOf);
+        properties = copyIfFrozen(properties);
+        additionalPropertiesSchema = copyIfFrozen(additionalPropertiesSchema);
+        oneOf = copyIfFrozen(SHARED_ONE_OF, oneOf);
+        anyOf = copyIfFrozen(SHARED_ANY_OF, anyOf);
+        not = copyIfFrozen(not);
+    }
+
+    private static Schema copyIfFrozen(Schema schema) {
+        return isFrozen(schema) ? copyOf(schema) : schema;
+    }
+
+    private List<Schema> copyIfFrozen(int part, List<Schema> schemas) {
+        if (schemas == null || schemas.stream().noneMatch(SchemaImpl::isFrozen)) {
+            return schemas;
+        }
+
+        List<Schema> copy = modifiable(part, schemas);
+        copy.replaceAll(SchemaImpl::copyIfFrozen);
+        return copy;
+    }
+
+    private Map<String, Schema> copyIfFrozen(Map<String, Schema> schemas) {
+        if (schemas == null || schemas.values().stream().noneMatch(SchemaImpl::isFrozen)) {
+            return schemas;
+        }
+
+        Map<String, Schema> copy = modifiable(SHARED_PROPERTIES, schemas);
+        copy.replaceAll((key, schema) -> copyIfFrozen(schema));
+        return copy;
+    }
+
+    /**
+     * Retrieve the list for modification. A list shared with a copy is first copied.
+     */
+    private <V> List<V> modifiable(int part, List<V> values) {
+        if ((shared & part) == 0 || values == null) {
+            return values;
+        }
+        shared &= ~part;
+        return new ArrayList<>(values);
+    }
+
+    /**
+     * Retrieve the map for modification. A map shared with a copy is first copied.
+     */
+    private Map<String, Schema> modifiable(int part, Map<String, Schema> values) {
+        if ((shared & part) == 0 || values == null) {
+            return values;
+        }
+        shared &= ~part;
+        return new LinkedHashMap<>(values);
+    }
+
+    private static XML copyOf(XML xml) {
+        if (xml == null) {
+            return null;
+        }
+
+        XML copy = new XMLImpl()
+                .name(xml.getName())
+                .namespace(xml.getNamespace())
+                .prefix(xml.getPrefix())
+                .attribute(xml.getAttribute())
+                .wrapped(xml.getWrapped());
+        copy.setExtensions(xml.getExtensions());
+        return copy;
+    }
+
+    private static ExternalDocumentation copyOf(ExternalDocumentation externalDocs) {
+        if (externalDocs == null) {
+            return null;
+        }
+
+        ExternalDocumentation copy = new ExternalDocumentationImpl()
+                .description(externalDocs.getDescription())
+                .url(externalDocs.getUrl());
+        copy.setExtensions(externalDocs.getExtensions());
+        return copy;
+    }
+
+    private static Discriminator copyOf(Discriminator discriminator) {
+        if (discriminator == null) {
+            return null;
+        }
+
+        return new DiscriminatorImpl()
+                .propertyName(discriminator.getPropertyName())
+                .mapping(discriminator.getMapping());
+    }
+
     public SchemaImpl(String name) {
         this.name = name;
     }
@@ -81,7 +378,15 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
         return name;
     }
 
+    @Override
+    protected void checkModifiable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Frozen schema");
+        }
+    }
+
     private void incrementModCount() {
+        checkModifiable();
         modCount++;
     }
 
@@ -171,6 +476,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     public void setEnumeration(List<Object> enumeration) {
         incrementModCount();
         this.enumeration = ModelUtil.replace(enumeration, ArrayList<Object>::new);
+        this.shared &= ~SHARED_ENUMERATION;
     }
 
     /**
@@ -179,7 +485,8 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public Schema addEnumeration(Object enumeration) {
         incrementModCount();
-        this.enumeration = ModelUtil.add(enumeration, this.enumeration, ArrayList<Object>::new);
+        this.enumeration = ModelUtil.add(enumeration, modifiable(SHARED_ENUMERATION, this.enumeration),
+                ArrayList<Object>::new);
         return this;
     }
 
@@ -189,6 +496,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void removeEnumeration(Object enumeration) {
         incrementModCount();
+        this.enumeration = modifiable(SHARED_ENUMERATION, this.enumeration);
         ModelUtil.remove(this.enumeration, enumeration);
     }
 
@@ -428,6 +736,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     public void setRequired(List<String> required) {
         incrementModCount();
         this.required = ModelUtil.replace(required, ArrayList<String>::new);
+        this.shared &= ~SHARED_REQUIRED;
     }
 
     /**
@@ -436,7 +745,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public Schema addRequired(String required) {
         incrementModCount();
-        this.required = ModelUtil.add(required, this.required, ArrayList<String>::new);
+        this.required = ModelUtil.add(required, modifiable(SHARED_REQUIRED, this.required), ArrayList<String>::new);
         return this;
     }
 
@@ -446,6 +755,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void removeRequired(String required) {
         incrementModCount();
+        this.required = modifiable(SHARED_REQUIRED, this.required);
         ModelUtil.remove(this.required, required);
     }
 
@@ -498,6 +808,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     public void setProperties(Map<String, Schema> properties) {
         incrementModCount();
         this.properties = ModelUtil.replace(properties, LinkedHashMap<String, Schema>::new);
+        this.shared &= ~SHARED_PROPERTIES;
     }
 
     /**
@@ -507,7 +818,8 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public Schema addProperty(String key, Schema propertySchema) {
         incrementModCount();
-        this.properties = ModelUtil.add(key, propertySchema, this.properties, LinkedHashMap<String, Schema>::new);
+        this.properties = ModelUtil.add(key, propertySchema, modifiable(SHARED_PROPERTIES, this.properties),
+                LinkedHashMap<String, Schema>::new);
         return this;
     }
 
@@ -517,6 +829,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void removeProperty(String key) {
         incrementModCount();
+        this.properties = modifiable(SHARED_PROPERTIES, this.properties);
         ModelUtil.remove(this.properties, key);
     }
 
@@ -735,6 +1048,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     public void setAllOf(List<Schema> allOf) {
         incrementModCount();
         this.allOf = ModelUtil.replace(allOf, ArrayList<Schema>::new);
+        this.shared &= ~SHARED_ALL_OF;
     }
 
     /**
@@ -743,7 +1057,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public Schema addAllOf(Schema allOf) {
         incrementModCount();
-        this.allOf = ModelUtil.add(allOf, this.allOf, ArrayList<Schema>::new);
+        this.allOf = ModelUtil.add(allOf, modifiable(SHARED_ALL_OF, this.allOf), ArrayList<Schema>::new);
         return this;
     }
 
@@ -753,6 +1067,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void removeAllOf(Schema allOf) {
         incrementModCount();
+        this.allOf = modifiable(SHARED_ALL_OF, this.allOf);
         ModelUtil.remove(this.allOf, allOf);
     }
 
@@ -771,6 +1086,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     public void setAnyOf(List<Schema> anyOf) {
         incrementModCount();
         this.anyOf = ModelUtil.replace(anyOf, ArrayList<Schema>::new);
+        this.shared &= ~SHARED_ANY_OF;
     }
 
     /**
@@ -779,7 +1095,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public Schema addAnyOf(Schema anyOf) {
         incrementModCount();
-        this.anyOf = ModelUtil.add(anyOf, this.anyOf, ArrayList<Schema>::new);
+        this.anyOf = ModelUtil.add(anyOf, modifiable(SHARED_ANY_OF, this.anyOf), ArrayList<Schema>::new);
         return this;
     }
 
@@ -789,6 +1105,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void removeAnyOf(Schema anyOf) {
         incrementModCount();
+        this.anyOf = modifiable(SHARED_ANY_OF, this.anyOf);
         ModelUtil.remove(this.anyOf, anyOf);
     }
 
@@ -807,6 +1124,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     public void setOneOf(List<Schema> oneOf) {
         incrementModCount();
         this.oneOf = ModelUtil.replace(oneOf, ArrayList<Schema>::new);
+        this.shared &= ~SHARED_ONE_OF;
     }
 
     /**
@@ -815,7 +1133,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public Schema addOneOf(Schema oneOf) {
         incrementModCount();
-        this.oneOf = ModelUtil.add(oneOf, this.oneOf, ArrayList<Schema>::new);
+        this.oneOf = ModelUtil.add(oneOf, modifiable(SHARED_ONE_OF, this.oneOf), ArrayList<Schema>::new);
         return this;
     }
 
@@ -825,6 +1143,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void removeOneOf(Schema oneOf) {
         incrementModCount();
+        this.oneOf = modifiable(SHARED_ONE_OF, this.oneOf);
         ModelUtil.remove(this.oneOf, oneOf);
     }
 
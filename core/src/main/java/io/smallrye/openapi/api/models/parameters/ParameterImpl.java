@@ -5,12 +5,16 @@ import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.examples.Example;
 import org.eclipse.microprofile.openapi.models.media.Content;
+import org.eclipse.microprofile.openapi.models.media.MediaType;
 import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.eclipse.microprofile.openapi.models.parameters.Parameter;
 
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.ExtensibleImpl;
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.models.media.ContentImpl;
+import io.smallrye.openapi.api.models.media.MediaTypeImpl;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
@@ -33,6 +37,55 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
     private Map<String, Example> examples;
     private Content content;
 
+    /**
+     * Create a copy of the given parameter that may be modified without affecting the
+     * original. The schemas and the media types of the parameter's content are copied
+     * using {@link SchemaImpl#copyOf(Schema)} and {@link MediaTypeImpl#copyOf(MediaType)},
+     * the extensions are shared until either parameter modifies them. Examples are not copied.
+     *
+     * @param parameter the parameter to copy, may be null
+     * @return a copy of the parameter, or the parameter itself if it is not a {@link ParameterImpl}
+     */
+    public static Parameter copyOf(Parameter parameter) {
+        if (!(parameter instanceof ParameterImpl)) {
+            return parameter;
+        }
+
+        ParameterImpl source = (ParameterImpl) parameter;
+        ParameterImpl copy = new ParameterImpl();
+        copy.ref = source.ref;
+        copy.name = source.name;
+        copy.in = source.in;
+        copy.description = source.description;
+        copy.required = source.required;
+        copy.schema = SchemaImpl.copyOf(source.schema);
+        copy.allowEmptyValue = source.allowEmptyValue;
+        copy.deprecated = source.deprecated;
+        copy.style = source.style;
+        copy.explode = source.explode;
+        copy.allowReserved = source.allowReserved;
+        copy.example = source.example;
+        copy.examples = source.examples != null ? new LinkedHashMap<>(source.examples) : null;
+        copy.content = copyOf(source.content);
+        copy.shareExtensions(source);
+        return copy;
+    }
+
+    private static Content copyOf(Content content) {
+        if (!(content instanceof ContentImpl)) {
+            return content;
+        }
+
+        // Each media type is copied, the map of the original is not shared
+        Content copy = new ContentImpl();
+
+        if (content.getMediaTypes() != null) {
+            content.getMediaTypes().forEach((name, mediaType) -> copy.addMediaType(name, MediaTypeImpl.copyOf(mediaType)));
+        }
+
+        return copy;
+    }
+
     /**
      * @see org.eclipse.microprofile.openapi.models.Reference#getRef()
      */
@@ -2,6 +2,8 @@ package io.smallrye.openapi.api.util;
 
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 
 /**
  * Help to get a default classLoader
@@ -21,4 +23,21 @@ public class ClassLoaderUtil {
                 .doPrivileged((PrivilegedAction<ClassLoader>) () -> Thread.currentThread().getContextClassLoader());
     }
 
+    /**
+     * Creates a {@link ForkJoinPool} whose worker threads use the context class loader of the
+     * calling thread. Threads of the default factory use the system class loader instead, so
+     * tasks could not load application classes (e.g. configured filters or model readers).
+     * 
+     * @return a new pool, to be shut down by the caller
+     */
+    public static final ForkJoinPool newForkJoinPool() {
+        final ClassLoader classLoader = getDefaultClassLoader();
+
+        return new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }, null, false);
+    }
+
 }
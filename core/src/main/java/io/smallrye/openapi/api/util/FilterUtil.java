@@ -1,12 +1,18 @@
 package io.smallrye.openapi.api.util;
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.LinkedHashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
 import org.eclipse.microprofile.openapi.OASFilter;
@@ -14,6 +20,7 @@ import org.eclipse.microprofile.openapi.models.Components;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.Operation;
 import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
 import org.eclipse.microprofile.openapi.models.callbacks.Callback;
 import org.eclipse.microprofile.openapi.models.headers.Header;
 import org.eclipse.microprofile.openapi.models.links.Link;
@@ -25,6 +32,11 @@ import org.eclipse.microprofile.openapi.models.parameters.Parameter;
 import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
 import org.eclipse.microprofile.openapi.models.responses.APIResponse;
 import org.eclipse.microprofile.openapi.models.responses.APIResponses;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+
+import io.smallrye.openapi.api.models.media.SchemaImpl;
 
 /**
  * @author eric.wittmann@gmail.com
@@ -32,11 +44,15 @@ import org.eclipse.microprofile.openapi.models.responses.APIResponses;
  */
 public class FilterUtil {
 
+    private static final Runnable NO_REMOVALS = () -> {
+    };
+
     private FilterUtil() {
     }
 
     /**
-     * Apply the given filter to the given model.
+     * Apply the given filter to the given model. When the filter is a {@link ThreadSafeOASFilter},
+     * the component maps and path items of the model are filtered in parallel.
      * 
      * @param filter
      *        OASFilter
@@ -45,6 +61,10 @@ public class FilterUtil {
      * @return Filtered OpenAPI model
      */
     public static final OpenAPI applyFilter(OASFilter filter, OpenAPI model) {
+        if (isThreadSafe(filter)) {
+            return applyFilterInParallel(filter, model);
+        }
+
         filterComponents(filter, model.getComponents());
 
         if (model.getPaths() != null) {
@@ -63,6 +83,147 @@ public class FilterUtil {
         return model;
     }
 
+    private static boolean isThreadSafe(OASFilter filter) {
+        if (filter instanceof CompositeFilter) {
+            return ((CompositeFilter) filter).threadSafe;
+        }
+        return filter instanceof ThreadSafeOASFilter;
+    }
+
+    /**
+     * Apply the given thread-safe filter to the given model, filtering each component map and each
+     * path item in a separate task on a {@link ForkJoinPool} whose threads use the context class loader
+     * of the calling thread (see {@link ClassLoaderUtil#newForkJoinPool()}). Removals from the component
+     * maps and from the paths are applied once all tasks have completed, in the order of the
+     * model. Servers, tags and the model itself are then filtered by the calling thread.
+     *
+     * The same model instance may be reachable from several tasks, e.g. a schema holding a
+     * reference that is used by many operations. Each instance is therefore visited only once,
+     * see {@link ParallelFilter}.
+     */
+    private static OpenAPI applyFilterInParallel(OASFilter modelFilter, OpenAPI model) {
+        ParallelFilter filter = new ParallelFilter(modelFilter);
+        ForkJoinPool pool = ClassLoaderUtil.newForkJoinPool();
+
+        try {
+            List<ForkJoinTask<Runnable>> tasks = new ArrayList<>();
+            Components components = model.getComponents();
+
+            if (components != null) {
+                tasks.add(pool.submit(deferred(filter, components.getCallbacks(), FilterUtil::filterCallback,
+                        filter::filterCallback, components::removeCallback)));
+                tasks.add(pool.submit(deferred(filter, components.getHeaders(), FilterUtil::filterHeader,
+                        filter::filterHeader, components::removeHeader)));
+                tasks.add(pool.submit(deferred(filter, components.getLinks(), FilterUtil::filterLink,
+                        filter::filterLink, components::removeLink)));
+                tasks.add(pool.submit(deferred(filter, components.getParameters(), FilterUtil::filterParameter,
+                        filter::filterParameter, components::removeParameter)));
+                tasks.add(pool.submit(deferred(filter, components.getRequestBodies(), FilterUtil::filterRequestBody,
+                        filter::filterRequestBody, components::removeRequestBody)));
+                tasks.add(pool.submit(deferred(filter, components.getResponses(), FilterUtil::filterAPIResponse,
+                        filter::filterAPIResponse, components::removeResponse)));
+                tasks.add(pool.submit(deferred(filter, components.getSchemas(), FilterUtil::filterSchema,
+                        filter::filterSchema, components::removeSchema)));
+                tasks.add(pool.submit(deferred(filter, components.getSecuritySchemes(), null,
+                        filter::filterSecurityScheme, components::removeSecurityScheme)));
+            }
+
+            Paths paths = model.getPaths();
+
+            if (paths != null && paths.getPathItems() != null) {
+                for (Map.Entry<String, PathItem> entry : paths.getPathItems().entrySet()) {
+                    String key = entry.getKey();
+                    PathItem pathItem = entry.getValue();
+
+                    tasks.add(pool.submit(() -> {
+                        PathItem result = visit(filter, pathItem, FilterUtil::filterPathItem, filter::filterPathItem);
+                        return result == null ? () -> paths.removePathItem(key) : NO_REMOVALS;
+                    }));
+                }
+            }
+
+            List<Runnable> removals = new ArrayList<>(tasks.size());
+
+            for (ForkJoinTask<Runnable> task : tasks) {
+                removals.add(task.join());
+            }
+
+            removals.forEach(Runnable::run);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        filter(modelFilter, model.getServers(), null, modelFilter::filterServer, model::removeServer);
+        filter(modelFilter, model.getTags(), null, modelFilter::filterTag, model::removeTag);
+
+        modelFilter.filterOpenAPI(model);
+
+        return model;
+    }
+
+    /**
+     * Visit the given model: filter its nested models using the content filter, then the model
+     * itself. When filtering in parallel, a model instance is only visited once.
+     *
+     * @return the result of the model filter
+     */
+    private static <T> T visit(OASFilter filter,
+            T model,
+            BiConsumer<OASFilter, T> contentFilter,
+            UnaryOperator<T> modelFilter) {
+
+        Supplier<T> visitor = () -> {
+            if (contentFilter != null) {
+                contentFilter.accept(filter, model);
+            }
+            return modelFilter.apply(model);
+        };
+
+        if (filter instanceof ParallelFilter) {
+            return ((ParallelFilter) filter).visitOnce(model, visitor);
+        }
+
+        return visitor.get();
+    }
+
+    /**
+     * Creates a task filtering the given models that returns the removals to be applied.
+     */
+    private static <K, V> Callable<Runnable> deferred(OASFilter filter,
+            Map<K, V> models,
+            BiConsumer<OASFilter, V> contentFilter,
+            UnaryOperator<V> modelFilter,
+            Consumer<K> remover) {
+
+        return () -> {
+            List<K> removed = filterEntries(filter, models, contentFilter, modelFilter);
+            return removed != null ? () -> removed.forEach(remover) : NO_REMOVALS;
+        };
+    }
+
+    /**
+     * Apply the given filters to the given model in a single traversal of the model. At
+     * each node the filters are applied in the given order, a node removed by one of the
+     * filters is not passed to the subsequent filters.
+     *
+     * Unlike applying each filter with {@link #applyFilter(OASFilter, OpenAPI)}, every
+     * filter observes a node after all of the filters have been applied to the nested
+     * nodes, and {@link OASFilter#filterOpenAPI(OpenAPI)} of each filter is invoked once
+     * all nodes have been filtered.
+     *
+     * @param filters
+     *        the OASFilters to apply, in order
+     * @param model
+     *        OpenAPI model
+     * @return Filtered OpenAPI model
+     */
+    public static final OpenAPI applyFilters(List<OASFilter> filters, OpenAPI model) {
+        if (filters.size() == 1) {
+            return applyFilter(filters.get(0), model);
+        }
+        return applyFilter(new CompositeFilter(filters), model);
+    }
+
     /**
      * Filters the given model.
      * 
@@ -100,20 +261,35 @@ public class FilterUtil {
             UnaryOperator<V> modelFilter,
             Consumer<K> remover) {
 
-        if (models != null) {
-            // The collection must be copied since the original may be modified via the remover
-            for (Map.Entry<K, V> entry : new LinkedHashSet<>(models.entrySet())) {
-                V model = entry.getValue();
+        // Removals are deferred since the original may be modified via the remover
+        List<K> removed = filterEntries(filter, models, contentFilter, modelFilter);
 
-                if (contentFilter != null) {
-                    contentFilter.accept(filter, model);
-                }
+        if (removed != null) {
+            removed.forEach(remover);
+        }
+    }
 
-                if (modelFilter.apply(model) == null) {
-                    remover.accept(entry.getKey());
+    /**
+     * Filters the given models without removing any of them.
+     *
+     * @return the keys of the models to be removed, or null if none
+     */
+    private static <K, V> List<K> filterEntries(OASFilter filter,
+            Map<K, V> models,
+            BiConsumer<OASFilter, V> contentFilter,
+            UnaryOperator<V> modelFilter) {
+
+        List<K> removed = null;
+
+        if (models != null) {
+            for (Map.Entry<K, V> entry : models.entrySet()) {
+                if (visit(filter, entry.getValue(), contentFilter, modelFilter) == null) {
+                    removed = add(removed, entry.getKey());
                 }
             }
         }
+
+        return removed;
     }
 
     /**
@@ -133,17 +309,27 @@ public class FilterUtil {
             Consumer<T> remover) {
 
         if (models != null) {
-            // The collection must be copied since the original may be modified via the remover
-            for (T model : new ArrayList<>(models)) {
-                if (contentFilter != null) {
-                    contentFilter.accept(filter, model);
-                }
+            // Removals are deferred since the original may be modified via the remover
+            List<T> removed = null;
 
-                if (modelFilter.apply(model) == null) {
-                    remover.accept(model);
+            for (T model : models) {
+                if (visit(filter, model, contentFilter, modelFilter) == null) {
+                    removed = add(removed, model);
                 }
             }
+
+            if (removed != null) {
+                removed.forEach(remover);
+            }
+        }
+    }
+
+    private static <T> List<T> add(List<T> list, T value) {
+        if (list == null) {
+            list = new ArrayList<>();
         }
+        list.add(value);
+        return list;
     }
 
     /**
@@ -163,11 +349,7 @@ public class FilterUtil {
             Consumer<T> mutator) {
 
         if (model != null) {
-            if (contentFilter != null) {
-                contentFilter.accept(filter, model);
-            }
-
-            mutator.accept(modelFilter.apply(model));
+            mutator.accept(visit(filter, model, contentFilter, modelFilter));
         }
     }
 
@@ -179,15 +361,7 @@ public class FilterUtil {
      */
     private static void filterCallback(OASFilter filter, Callback model) {
         if (model != null) {
-            Collection<String> keys = new ArrayList<>(model.getPathItems().keySet());
-            for (String key : keys) {
-                PathItem childModel = model.getPathItem(key);
-                filterPathItem(filter, childModel);
-
-                if (filter.filterPathItem(childModel) == null) {
-                    model.removePathItem(key);
-                }
-            }
+            filter(filter, model.getPathItems(), FilterUtil::filterPathItem, filter::filterPathItem, model::removePathItem);
         }
     }
 
@@ -221,6 +395,16 @@ public class FilterUtil {
      * @param model
      */
     private static void filterOperation(OASFilter filter, Operation model, Consumer<Operation> mutator) {
+        filter(filter, model, FilterUtil::filterOperation, filter::filterOperation, mutator);
+    }
+
+    /**
+     * Filters the given model.
+     * 
+     * @param filter
+     * @param model
+     */
+    private static void filterOperation(OASFilter filter, Operation model) {
         if (model != null) {
             filter(filter, model.getCallbacks(), FilterUtil::filterCallback, filter::filterCallback, model::removeCallback);
             filter(filter, model.getParameters(), FilterUtil::filterParameter, filter::filterParameter, model::removeParameter);
@@ -234,8 +418,6 @@ public class FilterUtil {
             }
 
             filter(filter, model.getServers(), null, filter::filterServer, model::removeServer);
-
-            mutator.accept(filter.filterOperation(model));
         }
     }
 
@@ -248,7 +430,7 @@ public class FilterUtil {
     private static void filterHeader(OASFilter filter, Header model) {
         if (model != null) {
             filterContent(filter, model.getContent());
-            filter(filter, model.getSchema(), FilterUtil::filterSchema, filter::filterSchema, model::setSchema);
+            filter(filter, modifiable(model.getSchema()), FilterUtil::filterSchema, filter::filterSchema, model::setSchema);
         }
     }
 
@@ -260,10 +442,8 @@ public class FilterUtil {
      */
     private static void filterContent(OASFilter filter, Content model) {
         if (model != null && model.getMediaTypes() != null) {
-            Collection<String> keys = new ArrayList<>(model.getMediaTypes().keySet());
-            for (String key : keys) {
-                MediaType childModel = model.getMediaType(key);
-                filterMediaType(filter, childModel);
+            for (MediaType childModel : model.getMediaTypes().values()) {
+                visit(filter, childModel, FilterUtil::filterMediaType, UnaryOperator.identity());
             }
         }
     }
@@ -277,7 +457,7 @@ public class FilterUtil {
     private static void filterMediaType(OASFilter filter, MediaType model) {
         if (model != null) {
             filterEncoding(filter, model.getEncoding());
-            filter(filter, model.getSchema(), FilterUtil::filterSchema, filter::filterSchema, model::setSchema);
+            filter(filter, modifiable(model.getSchema()), FilterUtil::filterSchema, filter::filterSchema, model::setSchema);
         }
     }
 
@@ -289,10 +469,8 @@ public class FilterUtil {
      */
     private static void filterEncoding(OASFilter filter, Map<String, Encoding> models) {
         if (models != null) {
-            Collection<String> keys = new ArrayList<>(models.keySet());
-            for (String key : keys) {
-                Encoding model = models.get(key);
-                filterEncoding(filter, model);
+            for (Encoding model : models.values()) {
+                visit(filter, model, FilterUtil::filterEncoding, UnaryOperator.identity());
             }
         }
     }
@@ -330,7 +508,7 @@ public class FilterUtil {
     private static void filterParameter(OASFilter filter, Parameter model) {
         if (model != null) {
             filterContent(filter, model.getContent());
-            filter(filter, model.getSchema(), FilterUtil::filterSchema, filter::filterSchema, model::setSchema);
+            filter(filter, modifiable(model.getSchema()), FilterUtil::filterSchema, filter::filterSchema, model::setSchema);
         }
     }
 
@@ -368,6 +546,8 @@ public class FilterUtil {
      */
     private static void filterSchema(OASFilter filter, Schema model) {
         if (model != null) {
+            // Shared (frozen) nested schemas are replaced by copies, the filter may modify them
+            SchemaImpl.copyFrozenNested(model);
             filter(filter, model.getAdditionalPropertiesSchema(), FilterUtil::filterSchema, filter::filterSchema,
                     model::setAdditionalPropertiesSchema);
             filter(filter, model.getAllOf(), FilterUtil::filterSchema, filter::filterSchema, model::removeAllOf);
@@ -377,4 +557,248 @@ public class FilterUtil {
             filter(filter, model.getProperties(), FilterUtil::filterSchema, filter::filterSchema, model::removeProperty);
         }
     }
+
+    /**
+     * Retrieve a schema that the filter may modify. A frozen schema (see {@link SchemaImpl#freeze(Schema)})
+     * may be shared, it is replaced by a copy.
+     */
+    private static Schema modifiable(Schema schema) {
+        return SchemaImpl.isFrozen(schema) ? SchemaImpl.copyOf(schema) : schema;
+    }
+
+    /**
+     * Applies a chain of filters to each node, see {@link FilterUtil#applyFilters(List, OpenAPI)}.
+     *
+     * When not all of the filters are thread-safe, the model is filtered serially and a model
+     * instance reachable from several places is visited at each of them. A {@link ThreadSafeOASFilter}
+     * is nevertheless passed each instance once, as when filtering in parallel: its result for an
+     * instance is recorded, by identity, and reused when the instance is reached again.
+     */
+    private static final class CompositeFilter implements OASFilter {
+        private final OASFilter[] filters;
+        private final boolean threadSafe;
+        /**
+         * Results of each filter by model instance, null for filters passed every occurrence
+         */
+        private final List<Map<Object, Object>> results;
+
+        CompositeFilter(List<OASFilter> filters) {
+            this.filters = filters.toArray(new OASFilter[0]);
+            this.threadSafe = filters.stream().allMatch(ThreadSafeOASFilter.class::isInstance);
+            this.results = new ArrayList<>(filters.size());
+
+            for (OASFilter filter : filters) {
+                boolean visitOnce = !threadSafe && filter instanceof ThreadSafeOASFilter;
+                results.add(visitOnce ? new IdentityHashMap<>() : null);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T apply(T model, BiFunction<OASFilter, T, T> modelFilter) {
+            for (int i = 0; i < filters.length; i++) {
+                Map<Object, Object> filterResults = results.get(i);
+
+                if (filterResults == null) {
+                    model = modelFilter.apply(filters[i], model);
+                } else if (filterResults.containsKey(model)) {
+                    model = (T) filterResults.get(model);
+                } else {
+                    T instance = model;
+                    model = modelFilter.apply(filters[i], instance);
+                    filterResults.put(instance, model);
+                }
+
+                if (model == null) {
+                    break;
+                }
+            }
+            return model;
+        }
+
+        @Override
+        public PathItem filterPathItem(PathItem pathItem) {
+            return apply(pathItem, OASFilter::filterPathItem);
+        }
+
+        @Override
+        public Operation filterOperation(Operation operation) {
+            return apply(operation, OASFilter::filterOperation);
+        }
+
+        @Override
+        public Parameter filterParameter(Parameter parameter) {
+            return apply(parameter, OASFilter::filterParameter);
+        }
+
+        @Override
+        public Header filterHeader(Header header) {
+            return apply(header, OASFilter::filterHeader);
+        }
+
+        @Override
+        public RequestBody filterRequestBody(RequestBody requestBody) {
+            return apply(requestBody, OASFilter::filterRequestBody);
+        }
+
+        @Override
+        public APIResponse filterAPIResponse(APIResponse apiResponse) {
+            return apply(apiResponse, OASFilter::filterAPIResponse);
+        }
+
+        @Override
+        public Schema filterSchema(Schema schema) {
+            return apply(schema, OASFilter::filterSchema);
+        }
+
+        @Override
+        public SecurityScheme filterSecurityScheme(SecurityScheme securityScheme) {
+            return apply(securityScheme, OASFilter::filterSecurityScheme);
+        }
+
+        @Override
+        public Server filterServer(Server server) {
+            return apply(server, OASFilter::filterServer);
+        }
+
+        @Override
+        public Tag filterTag(Tag tag) {
+            return apply(tag, OASFilter::filterTag);
+        }
+
+        @Override
+        public Link filterLink(Link link) {
+            return apply(link, OASFilter::filterLink);
+        }
+
+        @Override
+        public Callback filterCallback(Callback callback) {
+            return apply(callback, OASFilter::filterCallback);
+        }
+
+        @Override
+        public void filterOpenAPI(OpenAPI openAPI) {
+            for (OASFilter filter : filters) {
+                filter.filterOpenAPI(openAPI);
+            }
+        }
+    }
+
+    /**
+     * Filter used while filtering a model in parallel, see {@link FilterUtil#applyFilter(OASFilter, OpenAPI)}.
+     * It delegates to the thread-safe filter and records the result of each model instance visited,
+     * by identity. A task reaching an instance that has already been visited (or is being visited by
+     * another task) uses the recorded result, waiting for it if necessary. The filter is therefore
+     * passed each instance once, and the instance and its nested models are only modified by the
+     * task visiting it.
+     */
+    private static final class ParallelFilter implements OASFilter {
+        private final OASFilter filter;
+        private final Map<IdentityKey, CompletableFuture<Object>> results = new ConcurrentHashMap<>();
+
+        ParallelFilter(OASFilter filter) {
+            this.filter = filter;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T visitOnce(T model, Supplier<T> visitor) {
+            CompletableFuture<Object> result = new CompletableFuture<>();
+            CompletableFuture<Object> existing = results.putIfAbsent(new IdentityKey(model), result);
+
+            if (existing != null) {
+                return (T) existing.join();
+            }
+
+            try {
+                T value = visitor.get();
+                result.complete(value);
+                return value;
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        @Override
+        public PathItem filterPathItem(PathItem pathItem) {
+            return filter.filterPathItem(pathItem);
+        }
+
+        @Override
+        public Operation filterOperation(Operation operation) {
+            return filter.filterOperation(operation);
+        }
+
+        @Override
+        public Parameter filterParameter(Parameter parameter) {
+            return filter.filterParameter(parameter);
+        }
+
+        @Override
+        public Header filterHeader(Header header) {
+            return filter.filterHeader(header);
+        }
+
+        @Override
+        public RequestBody filterRequestBody(RequestBody requestBody) {
+            return filter.filterRequestBody(requestBody);
+        }
+
+        @Override
+        public APIResponse filterAPIResponse(APIResponse apiResponse) {
+            return filter.filterAPIResponse(apiResponse);
+        }
+
+        @Override
+        public Schema filterSchema(Schema schema) {
+            return filter.filterSchema(schema);
+        }
+
+        @Override
+        public SecurityScheme filterSecurityScheme(SecurityScheme securityScheme) {
+            return filter.filterSecurityScheme(securityScheme);
+        }
+
+        @Override
+        public Server filterServer(Server server) {
+            return filter.filterServer(server);
+        }
+
+        @Override
+        public Tag filterTag(Tag tag) {
+            return filter.filterTag(tag);
+        }
+
+        @Override
+        public Link filterLink(Link link) {
+            return filter.filterLink(link);
+        }
+
+        @Override
+        public Callback filterCallback(Callback callback) {
+            return filter.filterCallback(callback);
+        }
+
+        @Override
+        public void filterOpenAPI(OpenAPI openAPI) {
+            filter.filterOpenAPI(openAPI);
+        }
+    }
+
+    private static final class IdentityKey {
+        private final Object model;
+
+        IdentityKey(Object model) {
+            this.model = model;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(model);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof IdentityKey && ((IdentityKey) obj).model == model;
+        }
+    }
 }
@@ -3,7 +3,9 @@ package io.smallrye.openapi.api.util;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -18,6 +20,7 @@ import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.Reference;
+import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.eclipse.microprofile.openapi.models.parameters.Parameter;
 import org.eclipse.microprofile.openapi.models.responses.APIResponses;
 import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
@@ -25,6 +28,7 @@ import org.eclipse.microprofile.openapi.models.servers.Server;
 import org.eclipse.microprofile.openapi.models.tags.Tag;
 
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
 
 /**
  * Used to merge OAI data models into a single one. The MP+OAI 1.0 spec
@@ -43,6 +47,16 @@ public class MergeUtil {
         EXCLUDED_PROPERTIES.add("openapi");
     }
 
+    /**
+     * The mergeable properties of each class, resolved once per class.
+     */
+    private static final ClassValue<PropertyMerger[]> PROPERTY_MERGERS = new ClassValue<PropertyMerger[]>() {
+        @Override
+        protected PropertyMerger[] computeValue(Class<?> type) {
+            return createPropertyMergers(type);
+        }
+    };
+
     private MergeUtil() {
     }
 
@@ -58,14 +72,16 @@ public class MergeUtil {
     }
 
     /**
-     * Generic merge of two objects of the same type.
+     * Generic merge of two objects of the same type. The second object is merged into
+     * the first one, unless the first one is a frozen schema (see {@link SchemaImpl#freeze(Schema)}),
+     * which is copied instead.
      * 
      * @param object1 First object
      * @param object2 Second object
      * @param <T> Type parameter
      * @return Merged object
      */
-    @SuppressWarnings({ "rawtypes" })
+    @SuppressWarnings("unchecked")
     public static <T> T mergeObjects(T object1, T object2) {
         if (object1 == null && object2 != null) {
             return object2;
@@ -83,62 +99,128 @@ public class MergeUtil {
             return object2;
         }
 
+        if (object1 instanceof Schema && SchemaImpl.isFrozen((Schema) object1)) {
+            object1 = (T) SchemaImpl.copyOf((Schema) object1);
+        }
+
+        for (PropertyMerger merger : PROPERTY_MERGERS.get(object1.getClass())) {
+            merger.merge(object1, object2);
+        }
+
+        return object1;
+    }
+
+    private static PropertyMerger[] createPropertyMergers(Class<?> type) {
         PropertyDescriptor[] descriptors = new PropertyDescriptor[0];
         try {
-            descriptors = Introspector.getBeanInfo(object1.getClass()).getPropertyDescriptors();
+            descriptors = Introspector.getBeanInfo(type).getPropertyDescriptors();
         } catch (IntrospectionException e) {
-            UtilLogging.logger.failedToIntrospectBeanInfo(object1.getClass(), e);
+            UtilLogging.logger.failedToIntrospectBeanInfo(type, e);
         }
 
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        List<PropertyMerger> mergers = new ArrayList<>(descriptors.length);
+
         for (PropertyDescriptor descriptor : descriptors) {
             if (EXCLUDED_PROPERTIES.contains(descriptor.getName())) {
                 continue;
             }
-            Class ptype = descriptor.getPropertyType();
+            Class<?> ptype = descriptor.getPropertyType();
+            Method readMethod = descriptor.getReadMethod();
             Method writeMethod = descriptor.getWriteMethod();
-            if (writeMethod != null) {
+            if (readMethod != null && writeMethod != null) {
+                final PropertyKind kind;
                 if (Constructible.class.isAssignableFrom(ptype)) {
-                    try {
-                        Object val1 = descriptor.getReadMethod().invoke(object1);
-                        Object val2 = descriptor.getReadMethod().invoke(object2);
-                        Object newValue = mergeObjects(val1, val2);
-                        if (newValue != null) {
-                            writeMethod.invoke(object1, newValue);
-                        }
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                        throw new RuntimeException(e);
-                    }
+                    kind = PropertyKind.CONSTRUCTIBLE;
                 } else if (Map.class.isAssignableFrom(ptype)) {
-                    try {
-                        Map values1 = (Map) descriptor.getReadMethod().invoke(object1);
-                        Map values2 = (Map) descriptor.getReadMethod().invoke(object2);
-                        Map newValues = mergeMaps(values1, values2);
-                        writeMethod.invoke(object1, newValues);
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                        throw new RuntimeException(e);
-                    }
+                    kind = PropertyKind.MAP;
                 } else if (List.class.isAssignableFrom(ptype)) {
-                    try {
-                        List values1 = (List) descriptor.getReadMethod().invoke(object1);
-                        List values2 = (List) descriptor.getReadMethod().invoke(object2);
-                        List newValues = mergeLists(values1, values2).orElse(null);
-                        writeMethod.invoke(object1, newValues);
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                        throw new RuntimeException(e);
-                    }
+                    kind = PropertyKind.LIST;
                 } else {
-                    try {
-                        Object newValue = descriptor.getReadMethod().invoke(object2);
-                        if (newValue != null) {
-                            writeMethod.invoke(object1, newValue);
-                        }
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                        throw new RuntimeException(e);
+                    kind = PropertyKind.VALUE;
+                }
+                try {
+                    MethodHandle getter = lookup.unreflect(readMethod)
+                            .asType(MethodType.methodType(Object.class, Object.class));
+                    MethodHandle setter = lookup.unreflect(writeMethod)
+                            .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                    mergers.add(new PropertyMerger(kind, getter, setter));
+                } catch (IllegalAccessException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+
+        return mergers.toArray(new PropertyMerger[0]);
+    }
+
+    private enum PropertyKind {
+        CONSTRUCTIBLE,
+        MAP,
+        LIST,
+        VALUE
+    }
+
+    /**
+     * Merges a single property of two objects, using method handles for the
+     * property's read and write methods.
+     */
+    private static final class PropertyMerger {
+        private final PropertyKind kind;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        PropertyMerger(PropertyKind kind, MethodHandle getter, MethodHandle setter) {
+            this.kind = kind;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @SuppressWarnings({ "rawtypes" })
+        void merge(Object object1, Object object2) {
+            switch (kind) {
+                case CONSTRUCTIBLE: {
+                    Object newValue = mergeObjects(get(object1), get(object2));
+                    if (newValue != null) {
+                        set(object1, newValue);
+                    }
+                    break;
+                }
+                case MAP:
+                    set(object1, mergeMaps((Map) get(object1), (Map) get(object2)));
+                    break;
+                case LIST:
+                    set(object1, mergeLists((List) get(object1), (List) get(object2)).orElse(null));
+                    break;
+                default: {
+                    Object newValue = get(object2);
+                    if (newValue != null) {
+                        set(object1, newValue);
                     }
+                    break;
                 }
             }
         }
-        return object1;
+
+        private Object get(Object target) {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        private void set(Object target, Object value) {
+            try {
+                setter.invokeExact(target, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
     }
 
     /**
@@ -0,0 +1,23 @@
+package io.smallrye.openapi.api.util;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+
+/**
+ * Marker for {@link OASFilter}s that may be invoked concurrently, by multiple threads.
+ * The component maps and the path items of a model are filtered in parallel by such
+ * filters, see {@link FilterUtil#applyFilter(OASFilter, org.eclipse.microprofile.openapi.models.OpenAPI)}.
+ *
+ * Each model element is passed to a thread-safe filter once, even if the same instance is
+ * reachable from several places in the model (e.g. a schema holding a reference, used by many
+ * operations). The result of the filter applies to every place the element is used. This also
+ * holds when the filter is applied together with filters that are not thread-safe, see
+ * {@link FilterUtil#applyFilters(java.util.List, org.eclipse.microprofile.openapi.models.OpenAPI)}:
+ * the model is then filtered serially, but the thread-safe filters are still passed each element once.
+ *
+ * A thread-safe filter may modify the model elements it is given and their nested elements,
+ * but must not modify other parts of the model except in
+ * {@link #filterOpenAPI(org.eclipse.microprofile.openapi.models.OpenAPI)},
+ * which is invoked once all other elements have been filtered.
+ */
+public interface ThreadSafeOASFilter extends OASFilter {
+}
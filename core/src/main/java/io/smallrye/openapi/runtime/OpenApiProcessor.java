@@ -1,5 +1,7 @@
 package io.smallrye.openapi.runtime;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
@@ -18,7 +20,10 @@ import io.smallrye.openapi.api.OpenApiConfigImpl;
 import io.smallrye.openapi.api.OpenApiDocument;
 import io.smallrye.openapi.api.util.ClassLoaderUtil;
 import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.IoLogging;
 import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.io.OpenApiSnapshot;
+import io.smallrye.openapi.runtime.io.OpenApiSnapshotReader;
 import io.smallrye.openapi.runtime.scanner.OpenApiAnnotationScanner;
 
 /**
@@ -54,35 +59,50 @@ public class OpenApiProcessor {
 
     public static OpenAPI bootstrap(OpenApiConfig config, IndexView index, ClassLoader classLoader,
             OpenApiStaticFile... staticFiles) {
-        OpenApiDocument.INSTANCE.reset();
+        // Use the model produced at build time when the inputs have not changed
+        if (config != null && index != null && classLoader != null) {
+            try (InputStream snapshot = classLoader.getResourceAsStream(OpenApiSnapshot.RESOURCE)) {
+                if (snapshot != null) {
+                    // The content of the static files is part of the fingerprint, keep it for parsing
+                    List<byte[]> contents = new ArrayList<>();
+                    staticFiles = readStaticFiles(staticFiles, contents);
+                    OpenAPI model = modelFromSnapshot(snapshot, config, index, contents);
+
+                    if (model != null) {
+                        return model;
+                    }
+                }
+            } catch (IOException e) {
+                throw new OpenApiRuntimeException(e);
+            }
+        }
+
+        // Use a holder of its own, concurrent calls must not interfere with each other
+        OpenApiDocument document = OpenApiDocument.newInstance();
 
         // Set the config
         if (config != null) {
-            OpenApiDocument.INSTANCE.config(config);
+            document.config(config);
         }
         // Load all static files
         if (staticFiles != null && staticFiles.length > 0) {
             for (OpenApiStaticFile staticFile : staticFiles) {
-                OpenApiDocument.INSTANCE.modelFromStaticFile(modelFromStaticFile(staticFile));
+                document.modelFromStaticFile(modelFromStaticFile(staticFile));
             }
         }
         // Scan annotations
         if (config != null && index != null) {
-            OpenApiDocument.INSTANCE.modelFromAnnotations(modelFromAnnotations(config, classLoader, index));
+            document.modelFromAnnotations(modelFromAnnotations(config, classLoader, index));
         }
         // Filter and model
         if (config != null && classLoader != null) {
-            OpenApiDocument.INSTANCE.modelFromReader(modelFromReader(config, classLoader));
-            OpenApiDocument.INSTANCE.filter(getFilter(config, classLoader));
+            document.modelFromReader(modelFromReader(config, classLoader));
+            document.filter(getFilter(config, classLoader));
         }
 
-        OpenApiDocument.INSTANCE.initialize();
-
-        OpenAPI openAPI = OpenApiDocument.INSTANCE.get();
+        document.initialize();
 
-        OpenApiDocument.INSTANCE.reset();
-
-        return openAPI;
+        return document.get();
     }
 
     /**
@@ -104,6 +124,37 @@ public class OpenApiProcessor {
         }
     }
 
+    /**
+     * Load the final {@link OpenAPI} model from the snapshot resource {@value OpenApiSnapshot#RESOURCE},
+     * provided the snapshot was produced from the same index, static files and configuration.
+     * Returns null if there is no snapshot or it was produced from different inputs.
+     * 
+     * @param config OpenApiConfig
+     * @param loader ClassLoader used to find the snapshot resource
+     * @param index IndexView of Archive
+     * @param staticFiles content of the static files, in the order they are merged
+     * @return OpenAPIImpl loaded from the snapshot, or null
+     */
+    public static OpenAPI modelFromSnapshot(OpenApiConfig config, ClassLoader loader, IndexView index,
+            List<byte[]> staticFiles) {
+        try (InputStream stream = loader.getResourceAsStream(OpenApiSnapshot.RESOURCE)) {
+            return stream != null ? modelFromSnapshot(stream, config, index, staticFiles) : null;
+        } catch (IOException e) {
+            throw new OpenApiRuntimeException(e);
+        }
+    }
+
+    private static OpenAPI modelFromSnapshot(InputStream stream, OpenApiConfig config, IndexView index,
+            List<byte[]> staticFiles) throws IOException {
+        OpenAPI model = OpenApiSnapshotReader.read(stream, config, OpenApiSnapshot.fingerprint(config, index, staticFiles));
+
+        if (model != null) {
+            IoLogging.logger.snapshotLoaded(OpenApiSnapshot.RESOURCE);
+        }
+
+        return model;
+    }
+
     /**
      * Create an {@link OpenAPI} model by scanning the deployment for relevant JAX-RS and
      * OpenAPI annotations. If scanning is disabled, this method returns null. If scanning
@@ -181,6 +232,42 @@ public class OpenApiProcessor {
         }
     }
 
+    /**
+     * Read the content of the static files. Returns static files holding the content
+     * that was read, the streams of the given files are not closed. Only used when a
+     * snapshot is present, since its fingerprint covers the content.
+     */
+    private static OpenApiStaticFile[] readStaticFiles(OpenApiStaticFile[] staticFiles, List<byte[]> contents) {
+        if (staticFiles == null) {
+            return null;
+        }
+
+        List<OpenApiStaticFile> result = new ArrayList<>(staticFiles.length);
+
+        for (OpenApiStaticFile staticFile : staticFiles) {
+            if (staticFile == null || staticFile.getContent() == null) {
+                continue;
+            }
+            try {
+                ByteArrayOutputStream content = new ByteArrayOutputStream();
+                byte[] buffer = new byte[8192];
+                int count;
+
+                while ((count = staticFile.getContent().read(buffer)) > -1) {
+                    content.write(buffer, 0, count);
+                }
+
+                byte[] bytes = content.toByteArray();
+                contents.add(bytes);
+                result.add(new OpenApiStaticFile(new ByteArrayInputStream(bytes), staticFile.getFormat()));
+            } catch (IOException e) {
+                throw new OpenApiRuntimeException(e);
+            }
+        }
+
+        return result.toArray(new OpenApiStaticFile[0]);
+    }
+
     private static List<OpenApiStaticFile> loadOpenApiStaticFiles(ClassLoader classLoader) {
         List<OpenApiStaticFile> apiStaticFiles = new ArrayList<>();
 
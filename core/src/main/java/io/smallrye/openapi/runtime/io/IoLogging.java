@@ -75,4 +75,16 @@ public interface IoLogging extends BasicLogger {
     @LogMessage(level = Logger.Level.DEBUG)
     @Message(id = 2015, value = "Processing a json array of %s json nodes.")
     void jsonArray(String of);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 2016, value = "Ignoring OpenAPI snapshot with format version %d, expected version %d.")
+    void snapshotVersionMismatch(int version, int expected);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 2017, value = "Ignoring OpenAPI snapshot produced from a different index, static file or configuration.")
+    void snapshotFingerprintMismatch();
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 2018, value = "Using OpenAPI snapshot %s, skipping annotation scanning.")
+    void snapshotLoaded(String resource);
 }
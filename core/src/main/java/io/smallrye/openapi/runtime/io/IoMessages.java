@@ -18,4 +18,7 @@ interface IoMessages {
 
     @Message(id = 3002, value = "Invalid file extension for URL (expected json, yaml, or yml): %s")
     IOException invalidFileExtension(String url);
+
+    @Message(id = 3003, value = "Content is not an OpenAPI snapshot")
+    IOException invalidSnapshot();
 }
@@ -1,5 +1,6 @@
 package io.smallrye.openapi.runtime.io;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -9,7 +10,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.function.Function;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -57,34 +62,38 @@ public final class JsonUtil {
     }
 
     /**
-     * Sets the value of a property for a given json node. If the value is null,
+     * Writes a property to the given generator. If the value is null,
      * then the property is not written.
      * 
-     * @param node ObjectNode
-     * @param propertyName Property to be set
-     * @param propertyValue Value to be set
+     * @param generator JsonGenerator
+     * @param propertyName Property to be written
+     * @param propertyValue Value to be written
+     * @throws IOException Errors writing the property
      */
-    public static void stringProperty(ObjectNode node, String propertyName, String propertyValue) {
+    public static void stringProperty(JsonGenerator generator, String propertyName, String propertyValue)
+            throws IOException {
         if (propertyValue == null) {
             return;
         }
-        node.set(propertyName, factory.textNode(propertyValue));
+        generator.writeStringField(propertyName, propertyValue);
     }
 
     /**
-     * Sets the value of a property for a given json node. If the value is null,
+     * Writes a property to the given generator. If the value is null,
      * then the property is not written.
      * 
-     * @param node ObjectNode
-     * @param propertyName Property to be set
-     * @param propertyValue Value to be set
+     * @param generator JsonGenerator
+     * @param propertyName Property to be written
+     * @param propertyValue Value to be written
      * @param <E> Type of the property value
+     * @throws IOException Errors writing the property
      */
-    public static <E extends Enum<E>> void enumProperty(ObjectNode node, String propertyName, E propertyValue) {
+    public static <E extends Enum<E>> void enumProperty(JsonGenerator generator, String propertyName, E propertyValue)
+            throws IOException {
         if (propertyValue == null) {
             return;
         }
-        node.set(propertyName, factory.textNode(propertyValue.toString()));
+        generator.writeStringField(propertyName, propertyValue.toString());
     }
 
     /**
@@ -104,18 +113,20 @@ public final class JsonUtil {
     }
 
     /**
-     * Sets the value of a property for a given json node. If the value is null,
+     * Writes a property to the given generator. If the value is null,
      * then the property is not written.
      * 
-     * @param node ObjectNode
-     * @param propertyName Property to be set
-     * @param propertyValue Boolean value to be set
+     * @param generator JsonGenerator
+     * @param propertyName Property to be written
+     * @param propertyValue Boolean value to be written
+     * @throws IOException Errors writing the property
      */
-    public static void booleanProperty(ObjectNode node, String propertyName, Boolean propertyValue) {
+    public static void booleanProperty(JsonGenerator generator, String propertyName, Boolean propertyValue)
+            throws IOException {
         if (propertyValue == null) {
             return;
         }
-        node.set(propertyName, factory.booleanNode(propertyValue));
+        generator.writeBooleanField(propertyName, propertyValue);
     }
 
     /**
@@ -135,18 +146,20 @@ public final class JsonUtil {
     }
 
     /**
-     * Sets the value of a property for a given json node. If the value is null,
+     * Writes a property to the given generator. If the value is null,
      * then the property is not written.
      * 
-     * @param node ObjectNode
-     * @param propertyName Property to be set
-     * @param propertyValue Integer value to be set
+     * @param generator JsonGenerator
+     * @param propertyName Property to be written
+     * @param propertyValue Integer value to be written
+     * @throws IOException Errors writing the property
      */
-    public static void intProperty(ObjectNode node, String propertyName, Integer propertyValue) {
+    public static void intProperty(JsonGenerator generator, String propertyName, Integer propertyValue)
+            throws IOException {
         if (propertyValue == null) {
             return;
         }
-        node.set(propertyName, factory.numberNode(propertyValue));
+        generator.writeNumberField(propertyName, propertyValue);
     }
 
     /**
@@ -166,21 +179,25 @@ public final class JsonUtil {
     }
 
     /**
-     * Sets the value of a property for a given json node. If the value is null,
-     * then the property is not written.
+     * Writes a property to the given generator. If the value is null,
+     * then the property is not written. Integral values are written
+     * without a fraction.
      * 
-     * @param node ObjectNode
-     * @param propertyName Property to be set
-     * @param propertyValue BigDecimal value to be set
+     * @param generator JsonGenerator
+     * @param propertyName Property to be written
+     * @param propertyValue BigDecimal value to be written
+     * @throws IOException Errors writing the property
      */
-    public static void bigDecimalProperty(ObjectNode node, String propertyName, BigDecimal propertyValue) {
+    public static void bigDecimalProperty(JsonGenerator generator, String propertyName, BigDecimal propertyValue)
+            throws IOException {
         if (propertyValue == null) {
             return;
         }
+        generator.writeFieldName(propertyName);
         if (isIntegerValue(propertyValue)) {
-            node.set(propertyName, factory.numberNode(propertyValue.toBigInteger()));
+            generator.writeTree(factory.numberNode(propertyValue.toBigInteger()));
         } else {
-            node.set(propertyName, factory.numberNode(propertyValue));
+            generator.writeTree(factory.numberNode(propertyValue));
         }
     }
 
@@ -188,6 +205,44 @@ public final class JsonUtil {
         return bd.signum() == 0 || bd.scale() <= 0 || bd.stripTrailingZeros().scale() <= 0;
     }
 
+    /**
+     * Reads a map of models from the parser, one entry at a time, so that only the
+     * JSON tree of a single entry is held in memory. The parser must be positioned
+     * at the start of the value. Returns null (and skips the value) if the value is
+     * not an object, consistent with the tree-based map readers.
+     * 
+     * @param parser JsonParser positioned at the start of the value
+     * @param reader reads the model of a single entry from its JSON tree
+     * @param <T> Type of the models
+     * @return map of models, or null
+     * @throws IOException Errors reading the value
+     */
+    public static <T> Map<String, T> readMap(JsonParser parser, Function<JsonNode, T> reader) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        Map<String, T> models = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            models.put(fieldName, reader.apply(readTree(parser)));
+        }
+        return models;
+    }
+
+    /**
+     * Reads the JSON tree of the value the parser is positioned at.
+     * 
+     * @param parser JsonParser positioned at the start of the value
+     * @return the json tree of the value, a null node for an explicit null
+     * @throws IOException Errors reading the value
+     */
+    public static JsonNode readTree(JsonParser parser) throws IOException {
+        JsonNode node = parser.readValueAsTree();
+        return node != null ? node : factory.nullNode();
+    }
+
     /**
      * Reads the node as a Java object.This is typically expected to be a literal of
      * some sort, as in the case of default values and examples. The node may be anything
@@ -1,13 +1,14 @@
 package io.smallrye.openapi.runtime.io;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 
 public class ObjectWriter {
 
@@ -15,137 +16,127 @@ public class ObjectWriter {
     }
 
     /**
-     * Writes an array of strings to the parent node.
+     * Writes an array of strings to the generator.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param models list of Strings
      * @param propertyName the name of the node
+     * @throws IOException Errors writing the array
      */
-    public static void writeStringArray(ObjectNode parent, List<String> models, String propertyName) {
+    public static void writeStringArray(JsonGenerator generator, List<String> models, String propertyName)
+            throws IOException {
         if (models == null) {
             return;
         }
-        ArrayNode node = parent.putArray(propertyName);
+        generator.writeArrayFieldStart(propertyName);
         for (String model : models) {
-            node.add(model);
+            writeString(generator, model);
         }
+        generator.writeEndArray();
     }
 
     /**
-     * Writes an array of objects to the parent node.
+     * Writes an array of objects to the generator.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param models list of objects
      * @param propertyName the name of the node
+     * @throws IOException Errors writing the array
      */
-    public static void writeObjectArray(ObjectNode parent, List<Object> models, String propertyName) {
+    public static void writeObjectArray(JsonGenerator generator, List<Object> models, String propertyName)
+            throws IOException {
         if (models == null) {
             return;
         }
-        ArrayNode node = parent.putArray(propertyName);
+        generator.writeArrayFieldStart(propertyName);
         for (Object model : models) {
-            addObject(node, model);
+            addObject(generator, model);
         }
+        generator.writeEndArray();
     }
 
     /**
-     * Writes a map of strings to the parent node.
+     * Writes a map of strings to the generator.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param models map of strings
      * @param propertyName name of the node
+     * @throws IOException Errors writing the map
      */
-    public static void writeStringMap(ObjectNode parent, Map<String, String> models, String propertyName) {
+    public static void writeStringMap(JsonGenerator generator, Map<String, String> models, String propertyName)
+            throws IOException {
         if (models == null) {
             return;
         }
-        ObjectNode node = parent.putObject(propertyName);
+        generator.writeObjectFieldStart(propertyName);
         for (Map.Entry<String, String> entry : models.entrySet()) {
-            node.put(entry.getKey(), entry.getValue());
+            generator.writeFieldName(entry.getKey());
+            writeString(generator, entry.getValue());
         }
+        generator.writeEndObject();
     }
 
     /**
-     * Write an object to json
+     * Write an object to the json generator
      * 
-     * @param node the json node
+     * @param generator the json generator
      * @param key key
      * @param value value
+     * @throws IOException Errors writing the object
      */
-    public static void writeObject(ObjectNode node, String key, Object value) {
+    public static void writeObject(JsonGenerator generator, String key, Object value) throws IOException {
         if (value == null) {
             return;
         }
+        generator.writeFieldName(key);
+        addObject(generator, value);
+    }
+
+    private static void addObject(JsonGenerator generator, Object value) throws IOException {
         if (value instanceof String) {
-            node.put(key, (String) value);
+            generator.writeString((String) value);
         } else if (value instanceof JsonNode) {
-            node.set(key, (JsonNode) value);
+            generator.writeTree((JsonNode) value);
         } else if (value instanceof BigDecimal) {
-            node.put(key, (BigDecimal) value);
+            // Normalized through the number node, as Jackson trees write it
+            generator.writeTree(JsonNodeFactory.instance.numberNode((BigDecimal) value));
         } else if (value instanceof BigInteger) {
-            node.put(key, new BigDecimal((BigInteger) value));
+            generator.writeTree(JsonNodeFactory.instance.numberNode(new BigDecimal((BigInteger) value)));
         } else if (value instanceof Boolean) {
-            node.put(key, (Boolean) value);
+            generator.writeBoolean((Boolean) value);
         } else if (value instanceof Double) {
-            node.put(key, (Double) value);
+            generator.writeNumber((Double) value);
         } else if (value instanceof Float) {
-            node.put(key, (Float) value);
+            generator.writeNumber((Float) value);
         } else if (value instanceof Integer) {
-            node.put(key, (Integer) value);
+            generator.writeNumber((Integer) value);
         } else if (value instanceof Long) {
-            node.put(key, (Long) value);
+            generator.writeNumber((Long) value);
         } else if (value instanceof List) {
-            ArrayNode array = node.putArray(key);
+            generator.writeStartArray();
             for (Object valueItem : List.class.cast(value)) {
-                addObject(array, valueItem);
+                addObject(generator, valueItem);
             }
+            generator.writeEndArray();
         } else if (value instanceof Map) {
-            ObjectNode objNode = node.putObject(key);
+            generator.writeStartObject();
             @SuppressWarnings("unchecked")
             Map<String, Object> values = (Map<String, Object>) value;
             for (Map.Entry<String, Object> entry : values.entrySet()) {
                 String propertyName = entry.getKey();
-                writeObject(objNode, propertyName, entry.getValue());
+                writeObject(generator, propertyName, entry.getValue());
             }
+            generator.writeEndObject();
         } else {
-            node.put(key, (String) null);
+            generator.writeNull();
         }
     }
 
-    private static void addObject(ArrayNode node, Object value) {
-        if (value instanceof String) {
-            node.add((String) value);
-        } else if (value instanceof JsonNode) {
-            node.add((JsonNode) value);
-        } else if (value instanceof BigDecimal) {
-            node.add((BigDecimal) value);
-        } else if (value instanceof BigInteger) {
-            node.add(new BigDecimal((BigInteger) value));
-        } else if (value instanceof Boolean) {
-            node.add((Boolean) value);
-        } else if (value instanceof Double) {
-            node.add((Double) value);
-        } else if (value instanceof Float) {
-            node.add((Float) value);
-        } else if (value instanceof Integer) {
-            node.add((Integer) value);
-        } else if (value instanceof Long) {
-            node.add((Long) value);
-        } else if (value instanceof List) {
-            ArrayNode array = node.addArray();
-            for (Object valueItem : List.class.cast(value)) {
-                addObject(array, valueItem);
-            }
-        } else if (value instanceof Map) {
-            ObjectNode objNode = node.addObject();
-            @SuppressWarnings("unchecked")
-            Map<String, Object> values = (Map<String, Object>) value;
-            for (Map.Entry<String, Object> entry : values.entrySet()) {
-                String propertyName = entry.getKey();
-                writeObject(objNode, propertyName, entry.getValue());
-            }
+    private static void writeString(JsonGenerator generator, String value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
         } else {
-            node.add((String) null);
+            generator.writeString(value);
         }
     }
 }
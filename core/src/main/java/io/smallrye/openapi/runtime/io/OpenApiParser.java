@@ -8,6 +8,7 @@ import java.net.URL;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.media.Schema;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
@@ -23,6 +24,12 @@ import io.smallrye.openapi.runtime.io.schema.SchemaReader;
  */
 public class OpenApiParser {
 
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
+
+    private OpenApiParser() {
+    }
+
     /**
      * Parses the resource found at the given URL. This method accepts resources
      * either in JSON or YAML format. It will parse the input and, assuming it is
@@ -67,16 +74,15 @@ public class OpenApiParser {
      * @throws IOException Errors in reading the stream
      */
     public static final OpenAPI parse(InputStream stream, Format format) throws IOException {
-        ObjectMapper mapper;
-        if (format == Format.JSON) {
-            mapper = new ObjectMapper();
-        } else {
-            mapper = new ObjectMapper(new YAMLFactory());
-        }
-        JsonNode tree = mapper.readTree(stream);
+        ObjectMapper mapper = format == Format.JSON ? JSON_MAPPER : YAML_MAPPER;
 
-        OpenApiParser parser = new OpenApiParser(tree);
-        return parser.parse();
+        // The document is read from the token stream, only the JSON trees of individual entries are built
+        try (JsonParser parser = mapper.getFactory().createParser(stream)) {
+            parser.nextToken();
+            OpenAPI oai = new OpenAPIImpl();
+            DefinitionReader.processDefinition(oai, parser);
+            return oai;
+        }
     }
 
     /**
@@ -88,28 +94,7 @@ public class OpenApiParser {
      * @throws IOException Errors in reading the String
      */
     public static final Schema parseSchema(String schemaJson) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        JsonNode tree = mapper.readTree(schemaJson);
+        JsonNode tree = JSON_MAPPER.readTree(schemaJson);
         return SchemaReader.readSchema(tree);
     }
-
-    private final JsonNode tree;
-
-    /**
-     * Constructor.
-     * 
-     * @param tree JsonNode
-     */
-    public OpenApiParser(JsonNode tree) {
-        this.tree = tree;
-    }
-
-    /**
-     * Parses the json tree into an OpenAPI data model.
-     */
-    private OpenAPI parse() {
-        OpenAPI oai = new OpenAPIImpl();
-        DefinitionReader.processDefinition(oai, tree);
-        return oai;
-    }
 }
@@ -1,12 +1,17 @@
 package io.smallrye.openapi.runtime.io;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
 
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
 
@@ -15,13 +20,28 @@ import io.smallrye.openapi.runtime.io.definition.DefinitionWriter;
 /**
  * Class used to serialize an OpenAPI
  * 
+ * The model is written directly to a {@link JsonGenerator}, without building an
+ * intermediate JSON tree.
+ * 
  * @author eric.wittmann@gmail.com
  */
 public class OpenApiSerializer {
 
+    // The mappers are only used as the codec of the generators, for values held as JSON trees
+    private static final ObjectMapper JSON_MAPPER = mapper(new JsonFactory());
+    private static final ObjectMapper YAML_MAPPER = mapper(new YAMLFactory()
+            .enable(YAMLGenerator.Feature.MINIMIZE_QUOTES)
+            .enable(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS));
+
     private OpenApiSerializer() {
     }
 
+    private static ObjectMapper mapper(JsonFactory factory) {
+        ObjectMapper mapper = new ObjectMapper(factory);
+        mapper.disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return mapper;
+    }
+
     /**
      * Serializes the given OpenAPI object into either JSON or YAML and returns it as a string.
      * 
@@ -31,24 +51,48 @@ public class OpenApiSerializer {
      * @throws IOException Errors in processing the JSON
      */
     public static final String serialize(OpenAPI openApi, Format format) throws IOException {
+        StringWriter writer = new StringWriter();
+        serialize(openApi, format, writer);
+        return writer.toString();
+    }
+
+    /**
+     * Serializes the given OpenAPI object into either JSON or YAML, writing it to
+     * the given writer. The writer is not closed.
+     * 
+     * @param openApi the OpenAPI object
+     * @param format the serialization format
+     * @param writer the target of the serialized document
+     * @throws IOException Errors in processing the JSON
+     */
+    public static void serialize(OpenAPI openApi, Format format, Writer writer) throws IOException {
+        serialize(openApi, format, factory(format).createGenerator(writer));
+    }
 
-        try {
-            ObjectNode tree = JsonUtil.objectNode();
-            DefinitionWriter.writeOpenAPI(tree, openApi);
+    /**
+     * Serializes the given OpenAPI object into either JSON or YAML, writing it UTF-8
+     * encoded to the given stream. The stream is not closed.
+     * 
+     * @param openApi the OpenAPI object
+     * @param format the serialization format
+     * @param stream the target of the serialized document
+     * @throws IOException Errors in processing the JSON
+     */
+    public static void serialize(OpenAPI openApi, Format format, OutputStream stream) throws IOException {
+        serialize(openApi, format, factory(format).createGenerator(stream, JsonEncoding.UTF8));
+    }
+
+    private static JsonFactory factory(Format format) {
+        return format == Format.JSON ? JSON_MAPPER.getFactory() : YAML_MAPPER.getFactory();
+    }
 
-            ObjectMapper mapper;
+    private static void serialize(OpenAPI openApi, Format format, JsonGenerator generator) throws IOException {
+        // Closing the generator ends the (YAML) document and flushes the target
+        try (JsonGenerator target = generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
             if (format == Format.JSON) {
-                mapper = new ObjectMapper();
-                return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(tree);
-            } else {
-                YAMLFactory factory = new YAMLFactory();
-                factory.enable(YAMLGenerator.Feature.MINIMIZE_QUOTES);
-                factory.enable(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS);
-                mapper = new ObjectMapper(factory);
-                return mapper.writer().writeValueAsString(tree);
+                target.useDefaultPrettyPrinter();
             }
-        } catch (JsonProcessingException e) {
-            throw new IOException(e);
+            DefinitionWriter.writeOpenAPI(target, openApi);
         }
     }
 
@@ -0,0 +1,217 @@
+package io.smallrye.openapi.runtime.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+import io.smallrye.openapi.runtime.OpenApiRuntimeException;
+
+/**
+ * Cache of serialized OpenAPI documents, keyed by the identity of the model and
+ * the format. Each entry holds the UTF-8 encoded document, optionally a GZIP
+ * compressed variant, and strong entity tags derived from the content. The compressed
+ * variant has its own entity tag, as required for a different representation of the
+ * same resource. Serving a
+ * document from the cache does not require the model to be serialized again.
+ *
+ * Models are held weakly. A model must not be modified after it has been
+ * serialized by the cache unless it is {@link #invalidate(OpenAPI) invalidated}.
+ */
+public class OpenApiSerializerCache {
+
+    private final boolean gzip;
+    private final Map<OpenAPI, Map<Format, SerializedDocument>> documents = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Create a cache that does not produce compressed variants.
+     */
+    public OpenApiSerializerCache() {
+        this(false);
+    }
+
+    /**
+     * Create a cache.
+     *
+     * @param gzip whether a GZIP compressed variant of each document is produced
+     */
+    public OpenApiSerializerCache(boolean gzip) {
+        this.gzip = gzip;
+    }
+
+    /**
+     * Retrieve the serialized form of the model in the given format, serializing
+     * the model if it has not been serialized in that format before.
+     *
+     * @param openApi the OpenAPI model
+     * @param format the serialization format
+     * @return the serialized document
+     * @throws IOException Errors in processing the JSON
+     */
+    public SerializedDocument get(OpenAPI openApi, Format format) throws IOException {
+        Map<Format, SerializedDocument> formats = documents.computeIfAbsent(openApi,
+                k -> Collections.synchronizedMap(new EnumMap<>(Format.class)));
+        SerializedDocument document = formats.get(format);
+
+        if (document == null) {
+            // Not holding a lock while serializing, concurrent requests may both produce the (same) document
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            OpenApiSerializer.serialize(openApi, format, content);
+            document = new SerializedDocument(format, content.toByteArray(), gzip);
+            SerializedDocument existing = formats.putIfAbsent(format, document);
+
+            if (existing != null) {
+                document = existing;
+            }
+        }
+
+        return document;
+    }
+
+    /**
+     * Remove the serialized documents of the model, e.g. after it has been modified.
+     *
+     * @param openApi the OpenAPI model
+     */
+    public void invalidate(OpenAPI openApi) {
+        documents.remove(openApi);
+    }
+
+    /**
+     * Remove all serialized documents.
+     */
+    public void clear() {
+        documents.clear();
+    }
+
+    /**
+     * An OpenAPI document serialized in a single format.
+     */
+    public static class SerializedDocument {
+        private static final String GZIP_SUFFIX = "-gzip";
+
+        private final Format format;
+        private final byte[] content;
+        private final byte[] gzipContent;
+        private final String entityTag;
+        private final String gzipEntityTag;
+
+        SerializedDocument(Format format, byte[] content, boolean gzip) throws IOException {
+            this.format = format;
+            this.content = content;
+            this.gzipContent = gzip ? gzip(content) : null;
+            this.entityTag = entityTag(content, "");
+            this.gzipEntityTag = gzip ? entityTag(content, GZIP_SUFFIX) : null;
+        }
+
+        private static byte[] gzip(byte[] content) throws IOException {
+            ByteArrayOutputStream result = new ByteArrayOutputStream(content.length / 4);
+
+            try (GZIPOutputStream stream = new GZIPOutputStream(result)) {
+                stream.write(content);
+            }
+
+            return result.toByteArray();
+        }
+
+        private static String entityTag(byte[] content, String suffix) {
+            try {
+                byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+                return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + suffix + '"';
+            } catch (NoSuchAlgorithmException e) {
+                throw new OpenApiRuntimeException(e);
+            }
+        }
+
+        public Format getFormat() {
+            return format;
+        }
+
+        /**
+         * The UTF-8 encoded document. The array must not be modified.
+         *
+         * @return the document
+         */
+        public byte[] getContent() {
+            return content;
+        }
+
+        /**
+         * The GZIP compressed, UTF-8 encoded document. The array must not be modified.
+         *
+         * @return the compressed document, or null if the cache does not produce compressed variants
+         */
+        public byte[] getGzipContent() {
+            return gzipContent;
+        }
+
+        /**
+         * Strong entity tag of the document, including the surrounding quotes, suitable
+         * for use as the value of an <code>ETag</code> header.
+         *
+         * @return the entity tag
+         */
+        public String getEntityTag() {
+            return entityTag;
+        }
+
+        /**
+         * Strong entity tag of the GZIP compressed document, including the surrounding quotes.
+         * It is the entity tag of the uncompressed document with the suffix <code>-gzip</code>.
+         *
+         * @return the entity tag, or null if the cache does not produce compressed variants
+         */
+        public String getGzipEntityTag() {
+            return gzipEntityTag;
+        }
+
+        /**
+         * Determine whether the value of an <code>If-None-Match</code> request header matches
+         * this document, i.e. whether the client's copy of the document is current.
+         *
+         * @param ifNoneMatch the header value, may be null
+         * @return true if the header value is <code>*</code> or lists the entity tag of the document
+         */
+        public boolean matches(String ifNoneMatch) {
+            return matches(ifNoneMatch, false);
+        }
+
+        /**
+         * Determine whether the value of an <code>If-None-Match</code> request header matches
+         * the uncompressed or the GZIP compressed variant of this document.
+         *
+         * @param ifNoneMatch the header value, may be null
+         * @param gzip true to match the entity tag of the compressed variant
+         * @return true if the header value is <code>*</code> or lists the entity tag of the variant
+         */
+        public boolean matches(String ifNoneMatch, boolean gzip) {
+            String variantTag = gzip ? gzipEntityTag : entityTag;
+
+            if (ifNoneMatch == null || variantTag == null) {
+                return false;
+            }
+
+            for (String tag : ifNoneMatch.split(",")) {
+                tag = tag.trim();
+
+                // If-None-Match uses the weak comparison
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if ("*".equals(tag) || variantTag.equals(tag)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package io.smallrye.openapi.runtime.io;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.runtime.OpenApiRuntimeException;
+
+/**
+ * Constants and utilities shared by the {@link OpenApiSnapshotWriter} and the
+ * {@link OpenApiSnapshotReader}.
+ *
+ * A snapshot holds the final OpenAPI model of an application, produced at build
+ * time, together with a fingerprint of the index, the static files and the configuration
+ * it was produced from. When the fingerprint computed at runtime matches the one in the
+ * snapshot, the model can be used without parsing static files, scanning the index,
+ * invoking the model reader or applying the filter again.
+ *
+ * Servers configured for individual paths and operations can't be enumerated up front,
+ * they are looked up by the paths and operation ids of the final model. The snapshot
+ * therefore holds a second fingerprint of the servers configured for the paths and
+ * operations of its model, checked once the model has been read.
+ *
+ * The snapshot is a binary file starting with {@link #MAGIC} and {@link #VERSION},
+ * followed by the fingerprints and the GZIP compressed JSON form of the model.
+ */
+public class OpenApiSnapshot {
+
+    /**
+     * Location of the snapshot resource loaded by
+     * {@link io.smallrye.openapi.runtime.OpenApiProcessor#bootstrap(OpenApiConfig, IndexView, ClassLoader, io.smallrye.openapi.runtime.OpenApiStaticFile...)
+     * OpenApiProcessor.bootstrap}.
+     */
+    public static final String RESOURCE = "META-INF/openapi.snapshot";
+
+    static final int MAGIC = 0x4F415353; // "OASS"
+    static final int VERSION = 2;
+
+    private OpenApiSnapshot() {
+    }
+
+    /**
+     * Compute the fingerprint of the inputs of a scan. The fingerprint covers the
+     * classes in the index (including their fields, methods and annotations), the
+     * content of the static files and the values of the configuration, except for the
+     * servers of individual paths and operations (see
+     * {@link #serversFingerprint(OpenApiConfig, OpenAPI)}).
+     *
+     * @param config the configuration
+     * @param index the index to be scanned
+     * @param staticFiles content of the static files, in the order they are merged
+     * @return hexadecimal representation of the fingerprint
+     */
+    public static String fingerprint(OpenApiConfig config, IndexView index, List<byte[]> staticFiles) {
+        MessageDigest digest = newDigest();
+
+        configEntries(config).forEach((key, value) -> update(digest, key + '=' + value));
+
+        for (byte[] content : staticFiles) {
+            update(digest, "staticFile=" + content.length);
+            digest.update(content);
+        }
+
+        index.getKnownClasses()
+                .stream()
+                .sorted((c1, c2) -> c1.name().compareTo(c2.name()))
+                .forEach(klazz -> classEntries(klazz).forEach(entry -> update(digest, entry)));
+
+        return toHex(digest);
+    }
+
+    /**
+     * Compute the fingerprint of the servers configured for the paths and operations of
+     * the model, see {@link OpenApiConfig#pathServers(String)} and
+     * {@link OpenApiConfig#operationServers(String)}.
+     *
+     * @param config the configuration
+     * @param model the final model
+     * @return hexadecimal representation of the fingerprint
+     */
+    public static String serversFingerprint(OpenApiConfig config, OpenAPI model) {
+        MessageDigest digest = newDigest();
+        Map<String, PathItem> pathItems = model.getPaths() != null ? model.getPaths().getPathItems() : null;
+
+        if (pathItems != null) {
+            new TreeMap<>(pathItems).forEach((path, pathItem) -> {
+                update(digest, "path " + path + '=' + normalize(config.pathServers(path)));
+
+                if (pathItem != null) {
+                    new TreeMap<>(pathItem.getOperations()).forEach((method, operation) -> {
+                        String operationId = operation.getOperationId();
+
+                        if (operationId != null) {
+                            update(digest, "operation " + operationId + '=' + normalize(config.operationServers(operationId)));
+                        }
+                    });
+                }
+            });
+        }
+
+        return toHex(digest);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new OpenApiRuntimeException(e);
+        }
+    }
+
+    private static String toHex(MessageDigest digest) {
+        StringBuilder result = new StringBuilder(64);
+
+        for (byte b : digest.digest()) {
+            result.append(Character.forDigit((b >> 4) & 0xF, 16));
+            result.append(Character.forDigit(b & 0xF, 16));
+        }
+
+        return result.toString();
+    }
+
+    private static void update(MessageDigest digest, String entry) {
+        digest.update(entry.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    private static Map<String, String> configEntries(OpenApiConfig config) {
+        Map<String, String> entries = new TreeMap<>();
+
+        entries.put("modelReader", normalize(config.modelReader()));
+        entries.put("filter", normalize(config.filter()));
+        entries.put("scanDisable", normalize(config.scanDisable()));
+        entries.put("scanPackages", normalize(config.scanPackages()));
+        entries.put("scanClasses", normalize(config.scanClasses()));
+        entries.put("scanExcludePackages", normalize(config.scanExcludePackages()));
+        entries.put("scanExcludeClasses", normalize(config.scanExcludeClasses()));
+        entries.put("servers", normalize(config.servers()));
+        entries.put("scanDependenciesDisable", normalize(config.scanDependenciesDisable()));
+        entries.put("scanDependenciesJars", normalize(config.scanDependenciesJars()));
+        entries.put("arrayReferencesEnable", normalize(config.arrayReferencesEnable()));
+        entries.put("customSchemaRegistryClass", normalize(config.customSchemaRegistryClass()));
+        entries.put("applicationPathDisable", normalize(config.applicationPathDisable()));
+        entries.put("privatePropertiesEnable", normalize(config.privatePropertiesEnable()));
+        entries.put("propertyNamingStrategy", normalize(config.propertyNamingStrategy()));
+        entries.put("sortedPropertiesEnable", normalize(config.sortedPropertiesEnable()));
+        entries.put("indexLookupCacheEnable", normalize(config.indexLookupCacheEnable()));
+        entries.put("parallelScanEnable", normalize(config.parallelScanEnable()));
+        entries.put("compositeFilterEnable", normalize(config.compositeFilterEnable()));
+        entries.put("schemas", normalize(config.getSchemas()));
+        entries.put("openApiVersion", normalize(config.getOpenApiVersion()));
+        entries.put("infoTitle", normalize(config.getInfoTitle()));
+        entries.put("infoVersion", normalize(config.getInfoVersion()));
+        entries.put("infoDescription", normalize(config.getInfoDescription()));
+        entries.put("infoTermsOfService", normalize(config.getInfoTermsOfService()));
+        entries.put("infoContactEmail", normalize(config.getInfoContactEmail()));
+        entries.put("infoContactName", normalize(config.getInfoContactName()));
+        entries.put("infoContactUrl", normalize(config.getInfoContactUrl()));
+        entries.put("infoLicenseName", normalize(config.getInfoLicenseName()));
+        entries.put("infoLicenseUrl", normalize(config.getInfoLicenseUrl()));
+        entries.put("operationIdStrategy", normalize(config.getOperationIdStrategy()));
+        entries.put("defaultProduces", normalize(config.getDefaultProduces()));
+        entries.put("defaultConsumes", normalize(config.getDefaultConsumes()));
+        entries.put("allowNakedPathParameter", normalize(config.allowNakedPathParameter()));
+
+        return entries;
+    }
+
+    private static String normalize(Object value) {
+        if (value instanceof Optional) {
+            return normalize(((Optional<?>) value).orElse(null));
+        }
+        if (value instanceof Object[]) {
+            return Arrays.toString((Object[]) value);
+        }
+        if (value instanceof Collection) {
+            // Order of sets is not significant
+            return ((Collection<?>) value).stream().map(String::valueOf).sorted().collect(Collectors.toList()).toString();
+        }
+        if (value instanceof Map) {
+            Map<String, String> sorted = new TreeMap<>();
+            ((Map<?, ?>) value).forEach((k, v) -> sorted.put(String.valueOf(k), String.valueOf(v)));
+            return sorted.toString();
+        }
+        return String.valueOf(value);
+    }
+
+    private static List<String> classEntries(ClassInfo klazz) {
+        List<String> members = new ArrayList<>();
+
+        for (FieldInfo field : klazz.fields()) {
+            members.add(field.toString());
+        }
+        for (MethodInfo method : klazz.methods()) {
+            members.add(method.toString());
+        }
+        for (List<AnnotationInstance> annotations : klazz.annotations().values()) {
+            for (AnnotationInstance annotation : annotations) {
+                members.add(annotation.target() + " " + annotation);
+            }
+        }
+
+        // Order of members within the index is not significant
+        members.sort(null);
+
+        List<String> entries = new ArrayList<>(members.size() + 1);
+        entries.add(klazz.flags() + " " + klazz.name() + " extends " + klazz.superName() + " implements "
+                + klazz.interfaceNames());
+        entries.addAll(members);
+
+        return entries;
+    }
+}
@@ -0,0 +1,65 @@
+package io.smallrye.openapi.runtime.io;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+
+/**
+ * Reads an OpenAPI model from a snapshot written by the {@link OpenApiSnapshotWriter}.
+ *
+ * @see OpenApiSnapshot
+ */
+public class OpenApiSnapshotReader {
+
+    private OpenApiSnapshotReader() {
+    }
+
+    /**
+     * Read the model from the snapshot in the stream, provided the snapshot was
+     * produced from inputs with the given fingerprint and the same servers are
+     * configured for the paths and operations of the model.
+     *
+     * @param stream stream containing the snapshot
+     * @param config the current configuration
+     * @param fingerprint fingerprint of the current index, static files and configuration, see
+     *        {@link OpenApiSnapshot#fingerprint(OpenApiConfig, org.jboss.jandex.IndexView, java.util.List)}
+     * @return the model, or null if the snapshot was produced from different inputs
+     * @throws IOException Errors reading the snapshot, or the stream does not contain a snapshot
+     */
+    public static OpenAPI read(InputStream stream, OpenApiConfig config, String fingerprint) throws IOException {
+        DataInputStream header = new DataInputStream(stream);
+
+        if (header.readInt() != OpenApiSnapshot.MAGIC) {
+            throw IoMessages.msg.invalidSnapshot();
+        }
+
+        int version = header.readInt();
+
+        if (version != OpenApiSnapshot.VERSION) {
+            IoLogging.logger.snapshotVersionMismatch(version, OpenApiSnapshot.VERSION);
+            return null;
+        }
+
+        String snapshotFingerprint = header.readUTF();
+
+        if (!snapshotFingerprint.equals(fingerprint)) {
+            IoLogging.logger.snapshotFingerprintMismatch();
+            return null;
+        }
+
+        String serversFingerprint = header.readUTF();
+        OpenAPI model = OpenApiParser.parse(new GZIPInputStream(stream), Format.JSON);
+
+        if (!serversFingerprint.equals(OpenApiSnapshot.serversFingerprint(config, model))) {
+            IoLogging.logger.snapshotFingerprintMismatch();
+            return null;
+        }
+
+        return model;
+    }
+}
@@ -0,0 +1,55 @@
+package io.smallrye.openapi.runtime.io;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+
+import io.smallrye.openapi.runtime.io.definition.DefinitionWriter;
+
+/**
+ * Writes an OpenAPI model as a snapshot that may be loaded by the
+ * {@link OpenApiSnapshotReader}.
+ *
+ * @see OpenApiSnapshot
+ */
+public class OpenApiSnapshotWriter {
+
+    private OpenApiSnapshotWriter() {
+    }
+
+    /**
+     * Write the snapshot of the given model to the stream. The stream is not closed.
+     *
+     * @param openApi the (final) OpenAPI model
+     * @param config the configuration the model was produced with
+     * @param fingerprint fingerprint of the index, static files and configuration the model was produced from,
+     *        see {@link OpenApiSnapshot#fingerprint(OpenApiConfig, org.jboss.jandex.IndexView, java.util.List)}
+     * @param stream stream to write the snapshot to
+     * @throws IOException Errors writing the snapshot
+     */
+    public static void write(OpenAPI openApi, OpenApiConfig config, String fingerprint, OutputStream stream)
+            throws IOException {
+        DataOutputStream header = new DataOutputStream(stream);
+        header.writeInt(OpenApiSnapshot.MAGIC);
+        header.writeInt(OpenApiSnapshot.VERSION);
+        header.writeUTF(fingerprint);
+        header.writeUTF(OpenApiSnapshot.serversFingerprint(config, openApi));
+        header.flush();
+
+        GZIPOutputStream body = new GZIPOutputStream(stream);
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(body)) {
+            DefinitionWriter.writeOpenAPI(generator, openApi);
+        }
+        body.finish();
+    }
+}
@@ -1,12 +1,13 @@
 package io.smallrye.openapi.runtime.io.callback;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.microprofile.openapi.models.PathItem;
 import org.eclipse.microprofile.openapi.models.callbacks.Callback;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
 import io.smallrye.openapi.runtime.io.Referenceable;
@@ -29,46 +30,42 @@ public class CallbackWriter {
     }
 
     /**
-     * Writes a map of {@link Callback} to the JSON tree.
+     * Writes a map of {@link Callback} to the JSON stream.
      * 
-     * @param parent the parent node
+     * @param generator the json generator
      * @param callbacks map of callbacks
+     * @throws IOException Errors writing the model
      */
-    public static void writeCallbacks(ObjectNode parent, Map<String, Callback> callbacks) {
+    public static void writeCallbacks(JsonGenerator generator, Map<String, Callback> callbacks) throws IOException {
         if (callbacks == null) {
             return;
         }
-        ObjectNode callbacksNode = parent.putObject(ComponentsConstant.PROP_CALLBACKS);
+        generator.writeObjectFieldStart(ComponentsConstant.PROP_CALLBACKS);
         Set<Map.Entry<String, Callback>> entrySet = callbacks.entrySet();
         for (Map.Entry<String, Callback> entry : entrySet) {
-            writeCallback(callbacksNode, entry.getValue(), entry.getKey());
+            writeCallback(generator, entry.getValue(), entry.getKey());
         }
+        generator.writeEndObject();
     }
 
-    /**
-     * Writes a {@link Callback} object to the JSON tree.
-     * 
-     * @param parent the parent node
-     * @param model the callback model
-     * @param name the name of the node
-     */
-    private static void writeCallback(ObjectNode parent, Callback model, String name) {
+    private static void writeCallback(JsonGenerator generator, Callback model, String name) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(name);
+        generator.writeObjectFieldStart(name);
 
         if (StringUtil.isNotEmpty(model.getRef())) {
-            JsonUtil.stringProperty(node, Referenceable.PROP_$REF, model.getRef());
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
         } else {
             if (model.getPathItems() != null) {
                 Set<Map.Entry<String, PathItem>> entrySet = model.getPathItems().entrySet();
                 for (Map.Entry<String, PathItem> entry : entrySet) {
-                    PathsWriter.writePathItem(node, entry.getValue(), entry.getKey());
+                    PathsWriter.writePathItem(generator, entry.getValue(), entry.getKey());
                 }
             }
 
-            ExtensionWriter.writeExtensions(node, model);
+            ExtensionWriter.writeExtensions(generator, model);
         }
+        generator.writeEndObject();
     }
 }
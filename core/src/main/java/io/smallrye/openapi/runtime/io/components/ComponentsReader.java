@@ -1,15 +1,21 @@
 package io.smallrye.openapi.runtime.io.components;
 
+import java.io.IOException;
+
 import org.eclipse.microprofile.openapi.models.Components;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationValue;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import io.smallrye.openapi.api.models.ComponentsImpl;
 import io.smallrye.openapi.runtime.io.IoLogging;
+import io.smallrye.openapi.runtime.io.JsonUtil;
 import io.smallrye.openapi.runtime.io.callback.CallbackReader;
 import io.smallrye.openapi.runtime.io.example.ExampleReader;
+import io.smallrye.openapi.runtime.io.extension.ExtensionConstant;
 import io.smallrye.openapi.runtime.io.extension.ExtensionReader;
 import io.smallrye.openapi.runtime.io.header.HeaderReader;
 import io.smallrye.openapi.runtime.io.link.LinkReader;
@@ -94,4 +100,63 @@ public class ComponentsReader {
         ExtensionReader.readExtensions(node, components);
         return components;
     }
+
+    /**
+     * Reads the {@link Components} OpenAPI nodes from the Json parser, one
+     * component at a time.
+     * 
+     * @param parser the json parser, positioned at the start of the node
+     * @return Components model
+     * @throws IOException Errors reading the node
+     */
+    public static Components readComponents(final JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        IoLogging.logger.singleJsonNode("Components");
+        Components components = new ComponentsImpl();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+
+            switch (fieldName) {
+                case ComponentsConstant.PROP_CALLBACKS:
+                    components.setCallbacks(JsonUtil.readMap(parser, CallbackReader::readCallback));
+                    break;
+                case ComponentsConstant.PROP_EXAMPLES:
+                    components.setExamples(JsonUtil.readMap(parser, ExampleReader::readExample));
+                    break;
+                case ComponentsConstant.PROP_HEADERS:
+                    components.setHeaders(JsonUtil.readMap(parser, HeaderReader::readHeader));
+                    break;
+                case ComponentsConstant.PROP_LINKS:
+                    components.setLinks(JsonUtil.readMap(parser, LinkReader::readLink));
+                    break;
+                case ComponentsConstant.PROP_PARAMETERS:
+                    components.setParameters(JsonUtil.readMap(parser, ParameterReader::readParameter));
+                    break;
+                case ComponentsConstant.PROP_REQUEST_BODIES:
+                    components.setRequestBodies(JsonUtil.readMap(parser, RequestBodyReader::readRequestBody));
+                    break;
+                case ComponentsConstant.PROP_RESPONSES:
+                    components.setResponses(JsonUtil.readMap(parser, ResponseReader::readResponse));
+                    break;
+                case ComponentsConstant.PROP_SCHEMAS:
+                    components.setSchemas(JsonUtil.readMap(parser, SchemaReader::readSchema));
+                    break;
+                case ComponentsConstant.PROP_SECURITY_SCHEMES:
+                    components.setSecuritySchemes(JsonUtil.readMap(parser, SecuritySchemeReader::readSecurityScheme));
+                    break;
+                default:
+                    if (ExtensionConstant.isExtensionField(fieldName)) {
+                        ExtensionReader.readExtension(fieldName, JsonUtil.readTree(parser), components);
+                    } else {
+                        parser.skipChildren();
+                    }
+                    break;
+            }
+        }
+        return components;
+    }
 }
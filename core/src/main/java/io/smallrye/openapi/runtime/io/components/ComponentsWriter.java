@@ -1,8 +1,10 @@
 package io.smallrye.openapi.runtime.io.components;
 
+import java.io.IOException;
+
 import org.eclipse.microprofile.openapi.models.Components;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.callback.CallbackWriter;
 import io.smallrye.openapi.runtime.io.definition.DefinitionConstant;
@@ -31,25 +33,27 @@ public class ComponentsWriter {
     }
 
     /**
-     * Writes a {@link Components} to the JSON tree.
+     * Writes a {@link Components} to the JSON stream.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param components the components model
+     * @throws IOException Errors writing the model
      */
-    public static void writeComponents(ObjectNode parent, Components components) {
+    public static void writeComponents(JsonGenerator generator, Components components) throws IOException {
         if (components == null) {
             return;
         }
-        ObjectNode node = parent.putObject(DefinitionConstant.PROP_COMPONENTS);
-        SchemaWriter.writeSchemas(node, components.getSchemas());
-        ResponseWriter.writeAPIResponses(node, components.getResponses());
-        ParameterWriter.writeParameters(node, components.getParameters());
-        ExampleWriter.writeExamples(node, components.getExamples());
-        RequestBodyWriter.writeRequestBodies(node, components.getRequestBodies());
-        HeaderWriter.writeHeaders(node, components.getHeaders());
-        SecuritySchemeWriter.writeSecuritySchemes(node, components.getSecuritySchemes());
-        LinkWriter.writeLinks(node, components.getLinks());
-        CallbackWriter.writeCallbacks(node, components.getCallbacks());
-        ExtensionWriter.writeExtensions(node, components);
+        generator.writeObjectFieldStart(DefinitionConstant.PROP_COMPONENTS);
+        SchemaWriter.writeSchemas(generator, components.getSchemas());
+        ResponseWriter.writeAPIResponses(generator, components.getResponses());
+        ParameterWriter.writeParameters(generator, components.getParameters());
+        ExampleWriter.writeExamples(generator, components.getExamples());
+        RequestBodyWriter.writeRequestBodies(generator, components.getRequestBodies());
+        HeaderWriter.writeHeaders(generator, components.getHeaders());
+        SecuritySchemeWriter.writeSecuritySchemes(generator, components.getSecuritySchemes());
+        LinkWriter.writeLinks(generator, components.getLinks());
+        CallbackWriter.writeCallbacks(generator, components.getCallbacks());
+        ExtensionWriter.writeExtensions(generator, components);
+        generator.writeEndObject();
     }
 }
@@ -1,8 +1,10 @@
 package io.smallrye.openapi.runtime.io.contact;
 
+import java.io.IOException;
+
 import org.eclipse.microprofile.openapi.models.info.Contact;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
 import io.smallrye.openapi.runtime.io.extension.ExtensionWriter;
@@ -22,22 +24,22 @@ public class ContactWriter {
     }
 
     /**
-     * Writes the {@link Contact} model to the JSON tree.
+     * Writes the {@link Contact} model to the JSON stream.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param model the Contact model
+     * @throws IOException Errors writing the model
      */
-    public static void writeContact(ObjectNode parent, Contact model) {
+    public static void writeContact(JsonGenerator generator, Contact model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = JsonUtil.objectNode();
-        parent.set(InfoConstant.PROP_CONTACT, node);
+        generator.writeObjectFieldStart(InfoConstant.PROP_CONTACT);
 
-        JsonUtil.stringProperty(node, ContactConstant.PROP_NAME, model.getName());
-        JsonUtil.stringProperty(node, ContactConstant.PROP_URL, model.getUrl());
-        JsonUtil.stringProperty(node, ContactConstant.PROP_EMAIL, model.getEmail());
-        ExtensionWriter.writeExtensions(node, model);
+        JsonUtil.stringProperty(generator, ContactConstant.PROP_NAME, model.getName());
+        JsonUtil.stringProperty(generator, ContactConstant.PROP_URL, model.getUrl());
+        JsonUtil.stringProperty(generator, ContactConstant.PROP_EMAIL, model.getEmail());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
     }
-
 }
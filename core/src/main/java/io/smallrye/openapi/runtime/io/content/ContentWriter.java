@@ -1,12 +1,13 @@
 package io.smallrye.openapi.runtime.io.content;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.microprofile.openapi.models.media.Content;
 import org.eclipse.microprofile.openapi.models.media.MediaType;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.mediatype.MediaTypeWriter;
 
@@ -22,22 +23,23 @@ public class ContentWriter {
     }
 
     /**
-     * Writes a {@link Content} to the JSON tree.
+     * Writes a {@link Content} to the JSON stream.
      * 
-     * @param parent the json parent node
+     * @param generator the json generator
      * @param model the Content model
+     * @throws IOException Errors writing the model
      */
-    public static void writeContent(ObjectNode parent, Content model) {
+    public static void writeContent(JsonGenerator generator, Content model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(ContentConstant.PROP_CONTENT);
+        generator.writeObjectFieldStart(ContentConstant.PROP_CONTENT);
         if (model.getMediaTypes() != null) {
             Set<Map.Entry<String, MediaType>> entrySet = model.getMediaTypes().entrySet();
             for (Map.Entry<String, MediaType> entry : entrySet) {
-                MediaTypeWriter.writeMediaType(node, entry.getValue(), entry.getKey());
+                MediaTypeWriter.writeMediaType(generator, entry.getValue(), entry.getKey());
             }
         }
+        generator.writeEndObject();
     }
-
 }
@@ -1,14 +1,19 @@
 package io.smallrye.openapi.runtime.io.definition;
 
+import java.io.IOException;
+
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import io.smallrye.openapi.runtime.io.IoLogging;
 import io.smallrye.openapi.runtime.io.JsonUtil;
 import io.smallrye.openapi.runtime.io.components.ComponentsReader;
+import io.smallrye.openapi.runtime.io.extension.ExtensionConstant;
 import io.smallrye.openapi.runtime.io.extension.ExtensionReader;
 import io.smallrye.openapi.runtime.io.externaldocs.ExternalDocsConstant;
 import io.smallrye.openapi.runtime.io.externaldocs.ExternalDocsReader;
@@ -83,6 +88,65 @@ public class DefinitionReader {
         ExtensionReader.readExtensions(node, openApi);
     }
 
+    /**
+     * Reads a OpenAPIDefinition from the Json parser. The paths and components
+     * are read one entry at a time, the JSON tree of the complete document is
+     * never held in memory.
+     * 
+     * @param openApi the OpenAPI model
+     * @param parser the Json parser, positioned at the start of the document
+     * @throws IOException Errors reading the document
+     */
+    public static void processDefinition(final OpenAPI openApi,
+            final JsonParser parser) throws IOException {
+        IoLogging.logger.jsonNode("OpenAPIDefinition");
+
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+
+            switch (fieldName) {
+                case DefinitionConstant.PROP_OPENAPI:
+                    openApi.setOpenapi(JsonUtil.readTree(parser).asText());
+                    break;
+                case DefinitionConstant.PROP_INFO:
+                    openApi.setInfo(InfoReader.readInfo(JsonUtil.readTree(parser)));
+                    break;
+                case DefinitionConstant.PROP_TAGS:
+                    openApi.setTags(TagReader.readTags(JsonUtil.readTree(parser)).orElse(null));
+                    break;
+                case DefinitionConstant.PROP_SERVERS:
+                    openApi.setServers(ServerReader.readServers(JsonUtil.readTree(parser)).orElse(null));
+                    break;
+                case DefinitionConstant.PROP_SECURITY:
+                    openApi.setSecurity(SecurityRequirementReader
+                            .readSecurityRequirements(JsonUtil.readTree(parser)).orElse(null));
+                    break;
+                case ExternalDocsConstant.PROP_EXTERNAL_DOCS:
+                    openApi.setExternalDocs(ExternalDocsReader.readExternalDocs(JsonUtil.readTree(parser)));
+                    break;
+                case DefinitionConstant.PROP_COMPONENTS:
+                    openApi.setComponents(ComponentsReader.readComponents(parser));
+                    break;
+                case DefinitionConstant.PROP_PATHS:
+                    openApi.setPaths(PathsReader.readPaths(parser));
+                    break;
+                default:
+                    if (ExtensionConstant.isExtensionField(fieldName)) {
+                        ExtensionReader.readExtension(fieldName, JsonUtil.readTree(parser), openApi);
+                    } else {
+                        parser.skipChildren();
+                    }
+                    break;
+            }
+        }
+    }
+
     // helper methods for scanners
     public static AnnotationInstance getDefinitionAnnotation(final ClassInfo targetClass) {
         return JandexUtil.getClassAnnotation(targetClass,
@@ -1,8 +1,14 @@
 package io.smallrye.openapi.runtime.io.definition;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
 import io.smallrye.openapi.runtime.io.components.ComponentsWriter;
@@ -24,25 +30,47 @@ import io.smallrye.openapi.runtime.io.tag.TagWriter;
  */
 public class DefinitionWriter {
 
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     private DefinitionWriter() {
     }
 
     /**
-     * Writes the given model.
+     * Writes the given model to the JSON tree. The model is streamed into a token
+     * buffer and read back as a tree, so the tree holds the same document as the
+     * streaming serializer produces.
      * 
      * @param node the json node
      * @param model the OpenAPI model
      */
     public static void writeOpenAPI(ObjectNode node, OpenAPI model) {
-        JsonUtil.stringProperty(node, DefinitionConstant.PROP_OPENAPI, model.getOpenapi());
-        InfoWriter.writeInfo(node, model.getInfo());
-        ExternalDocsWriter.writeExternalDocumentation(node, model.getExternalDocs());
-        ServerWriter.writeServers(node, model.getServers());
-        SecurityRequirementWriter.writeSecurityRequirements(node, model.getSecurity());
-        TagWriter.writeTags(node, model.getTags());
-        PathsWriter.writePaths(node, model.getPaths());
-        ComponentsWriter.writeComponents(node, model.getComponents());
-        ExtensionWriter.writeExtensions(node, model);
+        try (TokenBuffer buffer = new TokenBuffer(MAPPER, false)) {
+            writeOpenAPI(buffer, model);
+            node.setAll((ObjectNode) MAPPER.readTree(buffer.asParser()));
+        } catch (IOException e) {
+            // Not expected, the token buffer is in memory
+            throw new UncheckedIOException(e);
+        }
     }
 
+    /**
+     * Writes the given model to the JSON stream.
+     * 
+     * @param generator the json generator
+     * @param model the OpenAPI model
+     * @throws IOException Errors writing the model
+     */
+    public static void writeOpenAPI(JsonGenerator generator, OpenAPI model) throws IOException {
+        generator.writeStartObject();
+        JsonUtil.stringProperty(generator, DefinitionConstant.PROP_OPENAPI, model.getOpenapi());
+        InfoWriter.writeInfo(generator, model.getInfo());
+        ExternalDocsWriter.writeExternalDocumentation(generator, model.getExternalDocs());
+        ServerWriter.writeServers(generator, model.getServers());
+        SecurityRequirementWriter.writeSecurityRequirements(generator, model.getSecurity());
+        TagWriter.writeTags(generator, model.getTags());
+        PathsWriter.writePaths(generator, model.getPaths());
+        ComponentsWriter.writeComponents(generator, model.getComponents());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
+    }
 }
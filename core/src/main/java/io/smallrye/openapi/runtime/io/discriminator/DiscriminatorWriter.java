@@ -1,8 +1,10 @@
 package io.smallrye.openapi.runtime.io.discriminator;
 
+import java.io.IOException;
+
 import org.eclipse.microprofile.openapi.models.media.Discriminator;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
 import io.smallrye.openapi.runtime.io.ObjectWriter;
@@ -23,18 +25,19 @@ public class DiscriminatorWriter {
     }
 
     /**
-     * Writes a {@link Discriminator} object to the JSON tree.
+     * Writes a {@link Discriminator} object to the JSON stream.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param model the Discriminator model
+     * @throws IOException Errors writing the model
      */
-    public static void writeDiscriminator(ObjectNode parent, Discriminator model) {
+    public static void writeDiscriminator(JsonGenerator generator, Discriminator model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(SchemaConstant.PROP_DISCRIMINATOR);
-        JsonUtil.stringProperty(node, DiscriminatorConstant.PROP_PROPERTY_NAME, model.getPropertyName());
-        ObjectWriter.writeStringMap(node, model.getMapping(), DiscriminatorConstant.PROP_MAPPING);
+        generator.writeObjectFieldStart(SchemaConstant.PROP_DISCRIMINATOR);
+        JsonUtil.stringProperty(generator, DiscriminatorConstant.PROP_PROPERTY_NAME, model.getPropertyName());
+        ObjectWriter.writeStringMap(generator, model.getMapping(), DiscriminatorConstant.PROP_MAPPING);
+        generator.writeEndObject();
     }
-
 }
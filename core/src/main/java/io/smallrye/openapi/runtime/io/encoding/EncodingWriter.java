@@ -1,10 +1,11 @@
 package io.smallrye.openapi.runtime.io.encoding;
 
+import java.io.IOException;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.media.Encoding;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
 import io.smallrye.openapi.runtime.io.extension.ExtensionWriter;
@@ -24,38 +25,34 @@ public class EncodingWriter {
     }
 
     /**
-     * Writes a map of {@link Encoding} objects to the JSON tree.
+     * Writes a map of {@link Encoding} objects to the JSON stream.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param models map of Encoding models
+     * @throws IOException Errors writing the model
      */
-    public static void writeEncodings(ObjectNode parent, Map<String, Encoding> models) {
+    public static void writeEncodings(JsonGenerator generator, Map<String, Encoding> models) throws IOException {
         if (models == null) {
             return;
         }
-        ObjectNode node = parent.putObject(EncodingConstant.PROP_ENCODING);
+        generator.writeObjectFieldStart(EncodingConstant.PROP_ENCODING);
         for (Map.Entry<String, Encoding> entry : models.entrySet()) {
-            writeEncoding(node, entry.getValue(), entry.getKey());
+            writeEncoding(generator, entry.getValue(), entry.getKey());
         }
+        generator.writeEndObject();
     }
 
-    /**
-     * Writes a {@link Encoding} object to the JSON tree.
-     * 
-     * @param parent
-     * @param model
-     * @param name
-     */
-    private static void writeEncoding(ObjectNode parent, Encoding model, String name) {
+    private static void writeEncoding(JsonGenerator generator, Encoding model, String name) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(name);
-        JsonUtil.stringProperty(node, EncodingConstant.PROP_CONTENT_TYPE, model.getContentType());
-        HeaderWriter.writeHeaders(node, model.getHeaders());
-        JsonUtil.enumProperty(node, EncodingConstant.PROP_STYLE, model.getStyle());
-        JsonUtil.booleanProperty(node, EncodingConstant.PROP_EXPLODE, model.getExplode());
-        JsonUtil.booleanProperty(node, EncodingConstant.PROP_ALLOW_RESERVED, model.getAllowReserved());
-        ExtensionWriter.writeExtensions(node, model);
+        generator.writeObjectFieldStart(name);
+        JsonUtil.stringProperty(generator, EncodingConstant.PROP_CONTENT_TYPE, model.getContentType());
+        HeaderWriter.writeHeaders(generator, model.getHeaders());
+        JsonUtil.enumProperty(generator, EncodingConstant.PROP_STYLE, model.getStyle());
+        JsonUtil.booleanProperty(generator, EncodingConstant.PROP_EXPLODE, model.getExplode());
+        JsonUtil.booleanProperty(generator, EncodingConstant.PROP_ALLOW_RESERVED, model.getAllowReserved());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
     }
 }
@@ -110,7 +110,7 @@ public class ExampleReader {
      * @param node the example json node
      * @return Example model
      */
-    private static Example readExample(final JsonNode node) {
+    public static Example readExample(final JsonNode node) {
         if (node == null || !node.isObject()) {
             return null;
         }
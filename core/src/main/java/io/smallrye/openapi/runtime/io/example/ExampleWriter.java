@@ -1,10 +1,11 @@
 package io.smallrye.openapi.runtime.io.example;
 
+import java.io.IOException;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.examples.Example;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
 import io.smallrye.openapi.runtime.io.ObjectWriter;
@@ -27,42 +28,38 @@ public class ExampleWriter {
     }
 
     /**
-     * Writes a map of {@link Example} to the JSON tree.
+     * Writes a map of {@link Example} to the JSON stream.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param examples map of Example models
+     * @throws IOException Errors writing the model
      */
-    public static void writeExamples(ObjectNode parent, Map<String, Example> examples) {
+    public static void writeExamples(JsonGenerator generator, Map<String, Example> examples) throws IOException {
         if (examples == null) {
             return;
         }
-        ObjectNode examplesNode = parent.putObject(ComponentsConstant.PROP_EXAMPLES);
+        generator.writeObjectFieldStart(ComponentsConstant.PROP_EXAMPLES);
         for (Map.Entry<String, Example> entry : examples.entrySet()) {
-            writeExample(examplesNode, entry.getValue(), entry.getKey());
+            writeExample(generator, entry.getValue(), entry.getKey());
         }
+        generator.writeEndObject();
     }
 
-    /**
-     * Writes a {@link Example} object to the JSON tree.
-     * 
-     * @param parent
-     * @param model
-     * @param name
-     */
-    private static void writeExample(ObjectNode parent, Example model, String name) {
+    private static void writeExample(JsonGenerator generator, Example model, String name) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(name);
+        generator.writeObjectFieldStart(name);
 
         if (StringUtil.isNotEmpty(model.getRef())) {
-            JsonUtil.stringProperty(node, Referenceable.PROP_$REF, model.getRef());
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
         } else {
-            JsonUtil.stringProperty(node, ExampleConstant.PROP_SUMMARY, model.getSummary());
-            JsonUtil.stringProperty(node, ExampleConstant.PROP_DESCRIPTION, model.getDescription());
-            ObjectWriter.writeObject(node, ExampleConstant.PROP_VALUE, model.getValue());
-            JsonUtil.stringProperty(node, ExampleConstant.PROP_EXTERNAL_VALUE, model.getExternalValue());
-            ExtensionWriter.writeExtensions(node, model);
+            JsonUtil.stringProperty(generator, ExampleConstant.PROP_SUMMARY, model.getSummary());
+            JsonUtil.stringProperty(generator, ExampleConstant.PROP_DESCRIPTION, model.getDescription());
+            ObjectWriter.writeObject(generator, ExampleConstant.PROP_VALUE, model.getValue());
+            JsonUtil.stringProperty(generator, ExampleConstant.PROP_EXTERNAL_VALUE, model.getExternalValue());
+            ExtensionWriter.writeExtensions(generator, model);
         }
+        generator.writeEndObject();
     }
 }
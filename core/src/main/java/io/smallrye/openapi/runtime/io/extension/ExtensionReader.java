@@ -122,10 +122,21 @@ public class ExtensionReader {
     public static void readExtensions(final JsonNode node, final Extensible<?> model) {
         for (Iterator<String> iterator = node.fieldNames(); iterator.hasNext();) {
             String fieldName = iterator.next();
-            if (fieldName.toLowerCase().startsWith(ExtensionConstant.EXTENSION_PROPERTY_PREFIX)) {
-                Object value = readObject(node.get(fieldName));
-                model.addExtension(fieldName, value);
-            }
+            readExtension(fieldName, node.get(fieldName), model);
+        }
+    }
+
+    /**
+     * Reads a single model extension, if the field is an extension field.
+     * 
+     * @param fieldName the name of the field
+     * @param node the json value of the field
+     * @param model the model to read to
+     */
+    public static void readExtension(final String fieldName, final JsonNode node, final Extensible<?> model) {
+        if (ExtensionConstant.isExtensionField(fieldName)) {
+            Object value = readObject(node);
+            model.addExtension(fieldName, value);
         }
     }
 
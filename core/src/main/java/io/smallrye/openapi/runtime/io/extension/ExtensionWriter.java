@@ -1,10 +1,12 @@
 package io.smallrye.openapi.runtime.io.extension;
 
+import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.Extensible;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.ObjectWriter;
 
@@ -23,24 +25,41 @@ public class ExtensionWriter {
     }
 
     /**
-     * Writes extensions to the JSON tree.
+     * Writes extensions to the JSON stream.
      * 
-     * @param node the json node
+     * @param generator the json generator
      * @param model the Extensible model
+     * @throws IOException Errors writing the extensions
      */
-    public static void writeExtensions(ObjectNode node, Extensible<?> model) {
+    public static void writeExtensions(JsonGenerator generator, Extensible<?> model) throws IOException {
         Map<String, Object> extensions = model.getExtensions();
         if (extensions == null || extensions.isEmpty()) {
             return;
         }
+        for (String key : extensions.keySet()) {
+            if (!ExtensionConstant.isExtensionField(key)) {
+                // Prefixed keys may collide, keep the first position and the last value
+                extensions = prefixedExtensions(extensions);
+                break;
+            }
+        }
+        for (Map.Entry<String, Object> entry : extensions.entrySet()) {
+            ObjectWriter.writeObject(generator, entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static Map<String, Object> prefixedExtensions(Map<String, Object> extensions) {
+        Map<String, Object> result = new LinkedHashMap<>(extensions.size());
         for (Map.Entry<String, Object> entry : extensions.entrySet()) {
             String key = entry.getKey();
             if (!ExtensionConstant.isExtensionField(key)) {
                 key = ExtensionConstant.EXTENSION_PROPERTY_PREFIX + key;
             }
             Object value = entry.getValue();
-            ObjectWriter.writeObject(node, key, value);
+            if (value != null) {
+                result.put(key, value);
+            }
         }
+        return result;
     }
-
 }
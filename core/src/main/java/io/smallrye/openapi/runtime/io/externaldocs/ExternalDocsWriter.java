@@ -1,8 +1,10 @@
 package io.smallrye.openapi.runtime.io.externaldocs;
 
+import java.io.IOException;
+
 import org.eclipse.microprofile.openapi.models.ExternalDocumentation;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
 import io.smallrye.openapi.runtime.io.extension.ExtensionWriter;
@@ -22,19 +24,22 @@ public class ExternalDocsWriter {
     }
 
     /**
-     * Writes the {@link ExternalDocumentation} model to the JSON tree.
+     * Writes the {@link ExternalDocumentation} model to the JSON stream.
      * 
-     * @param parent the parent json model
+     * @param generator the json generator
      * @param model the ExternalDocumentation model
+     * @throws IOException Errors writing the model
      */
-    public static void writeExternalDocumentation(ObjectNode parent, ExternalDocumentation model) {
+    public static void writeExternalDocumentation(JsonGenerator generator, ExternalDocumentation model)
+            throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(ExternalDocsConstant.PROP_EXTERNAL_DOCS);
+        generator.writeObjectFieldStart(ExternalDocsConstant.PROP_EXTERNAL_DOCS);
 
-        JsonUtil.stringProperty(node, ExternalDocsConstant.PROP_DESCRIPTION, model.getDescription());
-        JsonUtil.stringProperty(node, ExternalDocsConstant.PROP_URL, model.getUrl());
-        ExtensionWriter.writeExtensions(node, model);
+        JsonUtil.stringProperty(generator, ExternalDocsConstant.PROP_DESCRIPTION, model.getDescription());
+        JsonUtil.stringProperty(generator, ExternalDocsConstant.PROP_URL, model.getUrl());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
     }
 }
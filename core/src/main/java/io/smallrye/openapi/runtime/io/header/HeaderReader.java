@@ -113,7 +113,7 @@ public class HeaderReader {
      * 
      * @param node
      */
-    private static Header readHeader(final JsonNode node) {
+    public static Header readHeader(final JsonNode node) {
         if (node == null || !node.isObject()) {
             return null;
         }
@@ -1,10 +1,11 @@
 package io.smallrye.openapi.runtime.io.header;
 
+import java.io.IOException;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.headers.Header;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
 import io.smallrye.openapi.runtime.io.ObjectWriter;
@@ -31,48 +32,44 @@ public class HeaderWriter {
     }
 
     /**
-     * Writes a map of {@link Header} to the JSON tree.
+     * Writes a map of {@link Header} to the JSON stream.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param headers map of Header models
+     * @throws IOException Errors writing the model
      */
-    public static void writeHeaders(ObjectNode parent, Map<String, Header> headers) {
+    public static void writeHeaders(JsonGenerator generator, Map<String, Header> headers) throws IOException {
         if (headers == null) {
             return;
         }
-        ObjectNode headersNode = parent.putObject(ComponentsConstant.PROP_HEADERS);
+        generator.writeObjectFieldStart(ComponentsConstant.PROP_HEADERS);
         for (Map.Entry<String, Header> entry : headers.entrySet()) {
-            writeHeader(headersNode, entry.getValue(), entry.getKey());
+            writeHeader(generator, entry.getValue(), entry.getKey());
         }
+        generator.writeEndObject();
     }
 
-    /**
-     * Writes a {@link RequestBody} object to the JSON tree.
-     * 
-     * @param parent
-     * @param model
-     * @param name
-     */
-    private static void writeHeader(ObjectNode parent, Header model, String name) {
+    private static void writeHeader(JsonGenerator generator, Header model, String name) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(name);
+        generator.writeObjectFieldStart(name);
 
         if (StringUtil.isNotEmpty(model.getRef())) {
-            JsonUtil.stringProperty(node, Referenceable.PROP_$REF, model.getRef());
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
         } else {
-            JsonUtil.stringProperty(node, Parameterizable.PROP_DESCRIPTION, model.getDescription());
-            JsonUtil.booleanProperty(node, Parameterizable.PROP_REQUIRED, model.getRequired());
-            JsonUtil.booleanProperty(node, Parameterizable.PROP_DEPRECATED, model.getDeprecated());
-            JsonUtil.booleanProperty(node, Parameterizable.PROP_ALLOW_EMPTY_VALUE, model.getAllowEmptyValue());
-            JsonUtil.enumProperty(node, Parameterizable.PROP_STYLE, model.getStyle());
-            JsonUtil.booleanProperty(node, Parameterizable.PROP_EXPLODE, model.getExplode());
-            SchemaWriter.writeSchema(node, model.getSchema(), Parameterizable.PROP_SCHEMA);
-            ObjectWriter.writeObject(node, Parameterizable.PROP_EXAMPLE, model.getExample());
-            ExampleWriter.writeExamples(node, model.getExamples());
-            ContentWriter.writeContent(node, model.getContent());
-            ExtensionWriter.writeExtensions(node, model);
+            JsonUtil.stringProperty(generator, Parameterizable.PROP_DESCRIPTION, model.getDescription());
+            JsonUtil.booleanProperty(generator, Parameterizable.PROP_REQUIRED, model.getRequired());
+            JsonUtil.booleanProperty(generator, Parameterizable.PROP_DEPRECATED, model.getDeprecated());
+            JsonUtil.booleanProperty(generator, Parameterizable.PROP_ALLOW_EMPTY_VALUE, model.getAllowEmptyValue());
+            JsonUtil.enumProperty(generator, Parameterizable.PROP_STYLE, model.getStyle());
+            JsonUtil.booleanProperty(generator, Parameterizable.PROP_EXPLODE, model.getExplode());
+            SchemaWriter.writeSchema(generator, model.getSchema(), Parameterizable.PROP_SCHEMA);
+            ObjectWriter.writeObject(generator, Parameterizable.PROP_EXAMPLE, model.getExample());
+            ExampleWriter.writeExamples(generator, model.getExamples());
+            ContentWriter.writeContent(generator, model.getContent());
+            ExtensionWriter.writeExtensions(generator, model);
         }
+        generator.writeEndObject();
     }
 }
@@ -1,8 +1,10 @@
 package io.smallrye.openapi.runtime.io.info;
 
+import java.io.IOException;
+
 import org.eclipse.microprofile.openapi.models.info.Info;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
 import io.smallrye.openapi.runtime.io.contact.ContactWriter;
@@ -24,23 +26,25 @@ public class InfoWriter {
     }
 
     /**
-     * Writes the {@link Info} model to the JSON tree.
+     * Writes the {@link Info} model to the JSON stream.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param model the Info model
+     * @throws IOException Errors writing the model
      */
-    public static void writeInfo(ObjectNode parent, Info model) {
+    public static void writeInfo(JsonGenerator generator, Info model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(DefinitionConstant.PROP_INFO);
-
-        JsonUtil.stringProperty(node, InfoConstant.PROP_TITLE, model.getTitle());
-        JsonUtil.stringProperty(node, InfoConstant.PROP_DESCRIPTION, model.getDescription());
-        JsonUtil.stringProperty(node, InfoConstant.PROP_TERMS_OF_SERVICE, model.getTermsOfService());
-        ContactWriter.writeContact(node, model.getContact());
-        LicenseWriter.writeLicense(node, model.getLicense());
-        JsonUtil.stringProperty(node, InfoConstant.PROP_VERSION, model.getVersion());
-        ExtensionWriter.writeExtensions(node, model);
+        generator.writeObjectFieldStart(DefinitionConstant.PROP_INFO);
+
+        JsonUtil.stringProperty(generator, InfoConstant.PROP_TITLE, model.getTitle());
+        JsonUtil.stringProperty(generator, InfoConstant.PROP_DESCRIPTION, model.getDescription());
+        JsonUtil.stringProperty(generator, InfoConstant.PROP_TERMS_OF_SERVICE, model.getTermsOfService());
+        ContactWriter.writeContact(generator, model.getContact());
+        LicenseWriter.writeLicense(generator, model.getLicense());
+        JsonUtil.stringProperty(generator, InfoConstant.PROP_VERSION, model.getVersion());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
     }
 }
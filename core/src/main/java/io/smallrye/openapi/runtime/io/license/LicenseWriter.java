@@ -1,8 +1,10 @@
 package io.smallrye.openapi.runtime.io.license;
 
+import java.io.IOException;
+
 import org.eclipse.microprofile.openapi.models.info.License;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
 import io.smallrye.openapi.runtime.io.extension.ExtensionWriter;
@@ -22,19 +24,21 @@ public class LicenseWriter {
     }
 
     /**
-     * Writes the {@link License} model to the JSON tree.
+     * Writes the {@link License} model to the JSON stream.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param model the License model
+     * @throws IOException Errors writing the model
      */
-    public static void writeLicense(ObjectNode parent, License model) {
+    public static void writeLicense(JsonGenerator generator, License model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(InfoConstant.PROP_LICENSE);
+        generator.writeObjectFieldStart(InfoConstant.PROP_LICENSE);
 
-        JsonUtil.stringProperty(node, LicenseConstant.PROP_NAME, model.getName());
-        JsonUtil.stringProperty(node, LicenseConstant.PROP_URL, model.getUrl());
-        ExtensionWriter.writeExtensions(node, model);
+        JsonUtil.stringProperty(generator, LicenseConstant.PROP_NAME, model.getName());
+        JsonUtil.stringProperty(generator, LicenseConstant.PROP_URL, model.getUrl());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
     }
 }
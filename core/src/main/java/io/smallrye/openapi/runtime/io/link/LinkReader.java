@@ -107,7 +107,7 @@ public class LinkReader {
      * @param node the json node
      * @return Link model
      */
-    private static Link readLink(final JsonNode node) {
+    public static Link readLink(final JsonNode node) {
         if (node == null || !node.isObject()) {
             return null;
         }
@@ -1,10 +1,11 @@
 package io.smallrye.openapi.runtime.io.link;
 
+import java.io.IOException;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.links.Link;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.runtime.io.JsonUtil;
@@ -29,61 +30,51 @@ public class LinkWriter {
     }
 
     /**
-     * Writes a map of {@link Link} to the JSON tree.
+     * Writes a map of {@link Link} to the JSON stream.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param links map of Link models
+     * @throws IOException Errors writing the model
      */
-    public static void writeLinks(ObjectNode parent, Map<String, Link> links) {
+    public static void writeLinks(JsonGenerator generator, Map<String, Link> links) throws IOException {
         if (links == null) {
             return;
         }
-        ObjectNode linksNode = parent.putObject(ComponentsConstant.PROP_LINKS);
+        generator.writeObjectFieldStart(ComponentsConstant.PROP_LINKS);
         for (Map.Entry<String, Link> entry : links.entrySet()) {
-            writeLink(linksNode, entry.getValue(), entry.getKey());
+            writeLink(generator, entry.getValue(), entry.getKey());
         }
+        generator.writeEndObject();
     }
 
-    /**
-     * Writes a {@link Link} object to the JSON tree.
-     * 
-     * @param parent
-     * @param model
-     * @param name
-     */
-    private static void writeLink(ObjectNode parent, Link model, String name) {
+    private static void writeLink(JsonGenerator generator, Link model, String name) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(name);
+        generator.writeObjectFieldStart(name);
 
         if (StringUtil.isNotEmpty(model.getRef())) {
-            JsonUtil.stringProperty(node, Referenceable.PROP_$REF, model.getRef());
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
         } else {
-            JsonUtil.stringProperty(node, OpenApiConstants.PROP_OPERATION_REF, model.getOperationRef());
-            JsonUtil.stringProperty(node, OpenApiConstants.PROP_OPERATION_ID, model.getOperationId());
-            writeLinkParameters(node, model.getParameters());
-            ObjectWriter.writeObject(node, LinkConstant.PROP_REQUEST_BODY, model.getRequestBody());
-            JsonUtil.stringProperty(node, LinkConstant.PROP_DESCRIPTION, model.getDescription());
-            ServerWriter.writeServer(node, model.getServer());
-            ExtensionWriter.writeExtensions(node, model);
+            JsonUtil.stringProperty(generator, OpenApiConstants.PROP_OPERATION_REF, model.getOperationRef());
+            JsonUtil.stringProperty(generator, OpenApiConstants.PROP_OPERATION_ID, model.getOperationId());
+            writeLinkParameters(generator, model.getParameters());
+            ObjectWriter.writeObject(generator, LinkConstant.PROP_REQUEST_BODY, model.getRequestBody());
+            JsonUtil.stringProperty(generator, LinkConstant.PROP_DESCRIPTION, model.getDescription());
+            ServerWriter.writeServer(generator, model.getServer());
+            ExtensionWriter.writeExtensions(generator, model);
         }
+        generator.writeEndObject();
     }
 
-    /**
-     * Writes the link parameters to the given node.
-     * 
-     * @param parent
-     * @param parameters
-     */
-    private static void writeLinkParameters(ObjectNode parent, Map<String, Object> parameters) {
+    private static void writeLinkParameters(JsonGenerator generator, Map<String, Object> parameters) throws IOException {
         if (parameters == null) {
             return;
         }
-        ObjectNode node = parent.putObject(LinkConstant.PROP_PARAMETERS);
+        generator.writeObjectFieldStart(LinkConstant.PROP_PARAMETERS);
         for (Map.Entry<String, Object> entry : parameters.entrySet()) {
-            ObjectWriter.writeObject(node, entry.getKey(), entry.getValue());
+            ObjectWriter.writeObject(generator, entry.getKey(), entry.getValue());
         }
+        generator.writeEndObject();
     }
-
 }
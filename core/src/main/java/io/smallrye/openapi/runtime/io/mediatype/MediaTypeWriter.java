@@ -1,8 +1,10 @@
 package io.smallrye.openapi.runtime.io.mediatype;
 
+import java.io.IOException;
+
 import org.eclipse.microprofile.openapi.models.media.MediaType;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.ObjectWriter;
 import io.smallrye.openapi.runtime.io.encoding.EncodingWriter;
@@ -24,22 +26,23 @@ public class MediaTypeWriter {
     }
 
     /**
-     * Writes a {@link MediaType} to the JSON tree.
+     * Writes a {@link MediaType} to the JSON stream.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param model the MediaType model
      * @param name name of the node
+     * @throws IOException Errors writing the model
      */
-    public static void writeMediaType(ObjectNode parent, MediaType model, String name) {
+    public static void writeMediaType(JsonGenerator generator, MediaType model, String name) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(name);
-        SchemaWriter.writeSchema(node, model.getSchema(), MediaTypeConstant.PROP_SCHEMA);
-        ObjectWriter.writeObject(node, MediaTypeConstant.PROP_EXAMPLE, model.getExample());
-        ExampleWriter.writeExamples(node, model.getExamples());
-        EncodingWriter.writeEncodings(node, model.getEncoding());
-        ExtensionWriter.writeExtensions(node, model);
+        generator.writeObjectFieldStart(name);
+        SchemaWriter.writeSchema(generator, model.getSchema(), MediaTypeConstant.PROP_SCHEMA);
+        ObjectWriter.writeObject(generator, MediaTypeConstant.PROP_EXAMPLE, model.getExample());
+        ExampleWriter.writeExamples(generator, model.getExamples());
+        EncodingWriter.writeEncodings(generator, model.getEncoding());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
     }
-
 }
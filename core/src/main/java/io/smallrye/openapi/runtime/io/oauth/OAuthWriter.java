@@ -1,9 +1,11 @@
 package io.smallrye.openapi.runtime.io.oauth;
 
+import java.io.IOException;
+
 import org.eclipse.microprofile.openapi.models.security.OAuthFlow;
 import org.eclipse.microprofile.openapi.models.security.OAuthFlows;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
 import io.smallrye.openapi.runtime.io.ObjectWriter;
@@ -25,39 +27,35 @@ public class OAuthWriter {
     }
 
     /**
-     * Writes a {@link OAuthFlows} object to the JSON tree.
+     * Writes a {@link OAuthFlows} object to the JSON stream.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param model the OAuthFlows model
+     * @throws IOException Errors writing the model
      */
-    public static void writeOAuthFlows(ObjectNode parent, OAuthFlows model) {
+    public static void writeOAuthFlows(JsonGenerator generator, OAuthFlows model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(SecuritySchemeConstant.PROP_FLOWS);
-        writeOAuthFlow(node, model.getImplicit(), SecuritySchemeConstant.PROP_IMPLICIT);
-        writeOAuthFlow(node, model.getPassword(), SecuritySchemeConstant.PROP_PASSWORD);
-        writeOAuthFlow(node, model.getClientCredentials(), SecuritySchemeConstant.PROP_CLIENT_CREDENTIALS);
-        writeOAuthFlow(node, model.getAuthorizationCode(), SecuritySchemeConstant.PROP_AUTHORIZATION_CODE);
-        ExtensionWriter.writeExtensions(node, model);
+        generator.writeObjectFieldStart(SecuritySchemeConstant.PROP_FLOWS);
+        writeOAuthFlow(generator, model.getImplicit(), SecuritySchemeConstant.PROP_IMPLICIT);
+        writeOAuthFlow(generator, model.getPassword(), SecuritySchemeConstant.PROP_PASSWORD);
+        writeOAuthFlow(generator, model.getClientCredentials(), SecuritySchemeConstant.PROP_CLIENT_CREDENTIALS);
+        writeOAuthFlow(generator, model.getAuthorizationCode(), SecuritySchemeConstant.PROP_AUTHORIZATION_CODE);
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
     }
 
-    /**
-     * Writes a {@link OAuthFlow} object to the JSON tree.
-     * 
-     * @param parent
-     * @param model
-     * @param name
-     */
-    private static void writeOAuthFlow(ObjectNode parent, OAuthFlow model, String name) {
+    private static void writeOAuthFlow(JsonGenerator generator, OAuthFlow model, String name) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(name);
-        JsonUtil.stringProperty(node, SecuritySchemeConstant.PROP_AUTHORIZATION_URL, model.getAuthorizationUrl());
-        JsonUtil.stringProperty(node, SecuritySchemeConstant.PROP_TOKEN_URL, model.getTokenUrl());
-        JsonUtil.stringProperty(node, SecuritySchemeConstant.PROP_REFRESH_URL, model.getRefreshUrl());
-        ObjectWriter.writeStringMap(node, model.getScopes(), SecuritySchemeConstant.PROP_SCOPES);
-        ExtensionWriter.writeExtensions(node, model);
+        generator.writeObjectFieldStart(name);
+        JsonUtil.stringProperty(generator, SecuritySchemeConstant.PROP_AUTHORIZATION_URL, model.getAuthorizationUrl());
+        JsonUtil.stringProperty(generator, SecuritySchemeConstant.PROP_TOKEN_URL, model.getTokenUrl());
+        JsonUtil.stringProperty(generator, SecuritySchemeConstant.PROP_REFRESH_URL, model.getRefreshUrl());
+        ObjectWriter.writeStringMap(generator, model.getScopes(), SecuritySchemeConstant.PROP_SCOPES);
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
     }
 }
@@ -1,8 +1,10 @@
 package io.smallrye.openapi.runtime.io.operation;
 
+import java.io.IOException;
+
 import org.eclipse.microprofile.openapi.models.Operation;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
 import io.smallrye.openapi.runtime.io.ObjectWriter;
@@ -29,30 +31,31 @@ public class OperationWriter {
     }
 
     /**
-     * Writes a {@link Operation} to the JSON tree.
+     * Writes a {@link Operation} to the JSON stream.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param model the Operation model
      * @param method the name of the node (operation method)
+     * @throws IOException Errors writing the model
      */
-    public static void writeOperation(ObjectNode parent, Operation model, String method) {
+    public static void writeOperation(JsonGenerator generator, Operation model, String method) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(method);
-        ObjectWriter.writeStringArray(node, model.getTags(), OperationConstant.PROP_TAGS);
-        JsonUtil.stringProperty(node, OperationConstant.PROP_SUMMARY, model.getSummary());
-        JsonUtil.stringProperty(node, OperationConstant.PROP_DESCRIPTION, model.getDescription());
-        ExternalDocsWriter.writeExternalDocumentation(node, model.getExternalDocs());
-        JsonUtil.stringProperty(node, OperationConstant.PROP_OPERATION_ID, model.getOperationId());
-        ParameterWriter.writeParameterList(node, model.getParameters());
-        RequestBodyWriter.writeRequestBody(node, model.getRequestBody());
-        ResponseWriter.writeAPIResponses(node, model.getResponses());
-        CallbackWriter.writeCallbacks(node, model.getCallbacks());
-        JsonUtil.booleanProperty(node, OperationConstant.PROP_DEPRECATED, model.getDeprecated());
-        SecurityRequirementWriter.writeSecurityRequirements(node, model.getSecurity());
-        ServerWriter.writeServers(node, model.getServers());
-        ExtensionWriter.writeExtensions(node, model);
+        generator.writeObjectFieldStart(method);
+        ObjectWriter.writeStringArray(generator, model.getTags(), OperationConstant.PROP_TAGS);
+        JsonUtil.stringProperty(generator, OperationConstant.PROP_SUMMARY, model.getSummary());
+        JsonUtil.stringProperty(generator, OperationConstant.PROP_DESCRIPTION, model.getDescription());
+        ExternalDocsWriter.writeExternalDocumentation(generator, model.getExternalDocs());
+        JsonUtil.stringProperty(generator, OperationConstant.PROP_OPERATION_ID, model.getOperationId());
+        ParameterWriter.writeParameterList(generator, model.getParameters());
+        RequestBodyWriter.writeRequestBody(generator, model.getRequestBody());
+        ResponseWriter.writeAPIResponses(generator, model.getResponses());
+        CallbackWriter.writeCallbacks(generator, model.getCallbacks());
+        JsonUtil.booleanProperty(generator, OperationConstant.PROP_DEPRECATED, model.getDeprecated());
+        SecurityRequirementWriter.writeSecurityRequirements(generator, model.getSecurity());
+        ServerWriter.writeServers(generator, model.getServers());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
     }
-
 }
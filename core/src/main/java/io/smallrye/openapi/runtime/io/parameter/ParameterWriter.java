@@ -1,12 +1,12 @@
 package io.smallrye.openapi.runtime.io.parameter;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.parameters.Parameter;
 
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
 import io.smallrye.openapi.runtime.io.ObjectWriter;
@@ -34,78 +34,66 @@ public class ParameterWriter {
     }
 
     /**
-     * Writes a map of {@link Parameter} to the JSON tree.
+     * Writes a map of {@link Parameter} to the JSON stream.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param parameters map of Parameter models
+     * @throws IOException Errors writing the model
      */
-    public static void writeParameters(ObjectNode parent, Map<String, Parameter> parameters) {
+    public static void writeParameters(JsonGenerator generator, Map<String, Parameter> parameters) throws IOException {
         if (parameters == null) {
             return;
         }
-        ObjectNode parametersNode = parent.putObject(ComponentsConstant.PROP_PARAMETERS);
+        generator.writeObjectFieldStart(ComponentsConstant.PROP_PARAMETERS);
         for (Map.Entry<String, Parameter> entry : parameters.entrySet()) {
-            writeParameter(parametersNode, entry.getValue(), entry.getKey());
+            Parameter model = entry.getValue();
+            if (model != null) {
+                generator.writeObjectFieldStart(entry.getKey());
+                writeParameter(generator, model);
+                generator.writeEndObject();
+            }
         }
+        generator.writeEndObject();
     }
 
     /**
-     * Writes a {@link Parameter} object to the JSON tree.
+     * Writes a list of {@link Parameter} to the JSON stream.
      * 
-     * @param parent
-     * @param model
-     * @param name
-     */
-    private static void writeParameter(ObjectNode parent, Parameter model, String name) {
-        if (model == null) {
-            return;
-        }
-        ObjectNode node = parent.putObject(name);
-        writeParameter(node, model);
-    }
-
-    /**
-     * Writes a list of {@link Parameter} to the JSON tree.
-     * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param models list of Parameter models
+     * @throws IOException Errors writing the model
      */
-    public static void writeParameterList(ObjectNode parent, List<Parameter> models) {
+    public static void writeParameterList(JsonGenerator generator, List<Parameter> models) throws IOException {
         if (models == null) {
             return;
         }
-        ArrayNode node = parent.putArray(ComponentsConstant.PROP_PARAMETERS);
+        generator.writeArrayFieldStart(ComponentsConstant.PROP_PARAMETERS);
         for (Parameter model : models) {
-            ObjectNode paramNode = node.addObject();
-            writeParameter(paramNode, model);
+            generator.writeStartObject();
+            writeParameter(generator, model);
+            generator.writeEndObject();
         }
+        generator.writeEndArray();
     }
 
-    /**
-     * Writes a {@link Parameter} into the JSON node.
-     * 
-     * @param node
-     * @param model
-     */
-    private static void writeParameter(ObjectNode node, Parameter model) {
+    private static void writeParameter(JsonGenerator generator, Parameter model) throws IOException {
         if (StringUtil.isNotEmpty(model.getRef())) {
-            JsonUtil.stringProperty(node, Referenceable.PROP_$REF, model.getRef());
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
         } else {
-            JsonUtil.stringProperty(node, Parameterizable.PROP_NAME, model.getName());
-            JsonUtil.enumProperty(node, ParameterConstant.PROP_IN, model.getIn());
-            JsonUtil.stringProperty(node, Parameterizable.PROP_DESCRIPTION, model.getDescription());
-            JsonUtil.booleanProperty(node, Parameterizable.PROP_REQUIRED, model.getRequired());
-            SchemaWriter.writeSchema(node, model.getSchema(), Parameterizable.PROP_SCHEMA);
-            JsonUtil.booleanProperty(node, Parameterizable.PROP_ALLOW_EMPTY_VALUE, model.getAllowEmptyValue());
-            JsonUtil.booleanProperty(node, Parameterizable.PROP_DEPRECATED, model.getDeprecated());
-            JsonUtil.enumProperty(node, Parameterizable.PROP_STYLE, model.getStyle());
-            JsonUtil.booleanProperty(node, Parameterizable.PROP_EXPLODE, model.getExplode());
-            JsonUtil.booleanProperty(node, ParameterConstant.PROP_ALLOW_RESERVED, model.getAllowReserved());
-            ObjectWriter.writeObject(node, Parameterizable.PROP_EXAMPLE, model.getExample());
-            ExampleWriter.writeExamples(node, model.getExamples());
-            ContentWriter.writeContent(node, model.getContent());
-            ExtensionWriter.writeExtensions(node, model);
+            JsonUtil.stringProperty(generator, Parameterizable.PROP_NAME, model.getName());
+            JsonUtil.enumProperty(generator, ParameterConstant.PROP_IN, model.getIn());
+            JsonUtil.stringProperty(generator, Parameterizable.PROP_DESCRIPTION, model.getDescription());
+            JsonUtil.booleanProperty(generator, Parameterizable.PROP_REQUIRED, model.getRequired());
+            SchemaWriter.writeSchema(generator, model.getSchema(), Parameterizable.PROP_SCHEMA);
+            JsonUtil.booleanProperty(generator, Parameterizable.PROP_ALLOW_EMPTY_VALUE, model.getAllowEmptyValue());
+            JsonUtil.booleanProperty(generator, Parameterizable.PROP_DEPRECATED, model.getDeprecated());
+            JsonUtil.enumProperty(generator, Parameterizable.PROP_STYLE, model.getStyle());
+            JsonUtil.booleanProperty(generator, Parameterizable.PROP_EXPLODE, model.getExplode());
+            JsonUtil.booleanProperty(generator, ParameterConstant.PROP_ALLOW_RESERVED, model.getAllowReserved());
+            ObjectWriter.writeObject(generator, Parameterizable.PROP_EXAMPLE, model.getExample());
+            ExampleWriter.writeExamples(generator, model.getExamples());
+            ContentWriter.writeContent(generator, model.getContent());
+            ExtensionWriter.writeExtensions(generator, model);
         }
     }
-
 }
@@ -2,6 +2,7 @@ package io.smallrye.openapi.runtime.io.paths;
 
 import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Iterator;
@@ -13,6 +14,8 @@ import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.MethodInfo;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import io.smallrye.openapi.api.models.PathItemImpl;
@@ -64,6 +67,33 @@ public class PathsReader {
         return paths;
     }
 
+    /**
+     * Reads the {@link Paths} OpenAPI node from the Json parser, one path item
+     * at a time.
+     * 
+     * @param parser the json parser, positioned at the start of the node
+     * @return Paths model
+     * @throws IOException Errors reading the node
+     */
+    public static Paths readPaths(final JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        Paths paths = new PathsImpl();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            JsonNode node = JsonUtil.readTree(parser);
+            if (ExtensionConstant.isExtensionField(fieldName)) {
+                ExtensionReader.readExtension(fieldName, node, paths);
+            } else {
+                paths.addPathItem(fieldName, readPathItem(node));
+            }
+        }
+        return paths;
+    }
+
     public static PathItem readPathItem(final AnnotationScannerContext context,
             final AnnotationValue annotationValue) {
 
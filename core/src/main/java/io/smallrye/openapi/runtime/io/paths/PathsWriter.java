@@ -1,12 +1,13 @@
 package io.smallrye.openapi.runtime.io.paths;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.microprofile.openapi.models.PathItem;
 import org.eclipse.microprofile.openapi.models.Paths;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
 import io.smallrye.openapi.runtime.io.Referenceable;
@@ -30,50 +31,54 @@ public class PathsWriter {
     }
 
     /**
-     * Writes a {@link Paths} to the JSON tree.
+     * Writes a {@link Paths} to the JSON stream.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param paths Paths model
+     * @throws IOException Errors writing the model
      */
-    public static void writePaths(ObjectNode parent, Paths paths) {
+    public static void writePaths(JsonGenerator generator, Paths paths) throws IOException {
         if (paths == null) {
             return;
         }
-        ObjectNode pathsNode = parent.putObject(DefinitionConstant.PROP_PATHS);
+        generator.writeObjectFieldStart(DefinitionConstant.PROP_PATHS);
         if (paths.getPathItems() != null) {
             Set<Map.Entry<String, PathItem>> entrySet = paths.getPathItems().entrySet();
             for (Map.Entry<String, PathItem> entry : entrySet) {
-                writePathItem(pathsNode, entry.getValue(), entry.getKey());
+                writePathItem(generator, entry.getValue(), entry.getKey());
             }
         }
-        ExtensionWriter.writeExtensions(pathsNode, paths);
+        ExtensionWriter.writeExtensions(generator, paths);
+        generator.writeEndObject();
     }
 
     /**
-     * Writes a {@link PathItem} to the JSON tree.
+     * Writes a {@link PathItem} to the JSON stream.
      * 
-     * @param parent parent json node
+     * @param generator the json generator
      * @param model PathItem model
      * @param pathName the node name (path)
+     * @throws IOException Errors writing the model
      */
-    public static void writePathItem(ObjectNode parent, PathItem model, String pathName) {
+    public static void writePathItem(JsonGenerator generator, PathItem model, String pathName) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(pathName);
-        JsonUtil.stringProperty(node, Referenceable.PROP_$REF, model.getRef());
-        JsonUtil.stringProperty(node, PathsConstant.PROP_SUMMARY, model.getSummary());
-        JsonUtil.stringProperty(node, PathsConstant.PROP_DESCRIPTION, model.getDescription());
-        OperationWriter.writeOperation(node, model.getGET(), PathsConstant.PROP_GET);
-        OperationWriter.writeOperation(node, model.getPUT(), PathsConstant.PROP_PUT);
-        OperationWriter.writeOperation(node, model.getPOST(), PathsConstant.PROP_POST);
-        OperationWriter.writeOperation(node, model.getDELETE(), PathsConstant.PROP_DELETE);
-        OperationWriter.writeOperation(node, model.getOPTIONS(), PathsConstant.PROP_OPTIONS);
-        OperationWriter.writeOperation(node, model.getHEAD(), PathsConstant.PROP_HEAD);
-        OperationWriter.writeOperation(node, model.getPATCH(), PathsConstant.PROP_PATCH);
-        OperationWriter.writeOperation(node, model.getTRACE(), PathsConstant.PROP_TRACE);
-        ParameterWriter.writeParameterList(node, model.getParameters());
-        ServerWriter.writeServers(node, model.getServers());
-        ExtensionWriter.writeExtensions(node, model);
+        generator.writeObjectFieldStart(pathName);
+        JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
+        JsonUtil.stringProperty(generator, PathsConstant.PROP_SUMMARY, model.getSummary());
+        JsonUtil.stringProperty(generator, PathsConstant.PROP_DESCRIPTION, model.getDescription());
+        OperationWriter.writeOperation(generator, model.getGET(), PathsConstant.PROP_GET);
+        OperationWriter.writeOperation(generator, model.getPUT(), PathsConstant.PROP_PUT);
+        OperationWriter.writeOperation(generator, model.getPOST(), PathsConstant.PROP_POST);
+        OperationWriter.writeOperation(generator, model.getDELETE(), PathsConstant.PROP_DELETE);
+        OperationWriter.writeOperation(generator, model.getOPTIONS(), PathsConstant.PROP_OPTIONS);
+        OperationWriter.writeOperation(generator, model.getHEAD(), PathsConstant.PROP_HEAD);
+        OperationWriter.writeOperation(generator, model.getPATCH(), PathsConstant.PROP_PATCH);
+        OperationWriter.writeOperation(generator, model.getTRACE(), PathsConstant.PROP_TRACE);
+        ParameterWriter.writeParameterList(generator, model.getParameters());
+        ServerWriter.writeServers(generator, model.getServers());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
     }
 }
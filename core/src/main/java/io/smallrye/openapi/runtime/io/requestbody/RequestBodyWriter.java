@@ -1,10 +1,11 @@
 package io.smallrye.openapi.runtime.io.requestbody;
 
+import java.io.IOException;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
 import io.smallrye.openapi.runtime.io.Referenceable;
@@ -28,52 +29,50 @@ public class RequestBodyWriter {
     }
 
     /**
-     * Writes a map of {@link RequestBody} to the JSON tree.
+     * Writes a map of {@link RequestBody} to the JSON stream.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param requestBodies map of RequestBody models
+     * @throws IOException Errors writing the model
      */
-    public static void writeRequestBodies(ObjectNode parent, Map<String, RequestBody> requestBodies) {
+    public static void writeRequestBodies(JsonGenerator generator, Map<String, RequestBody> requestBodies)
+            throws IOException {
         if (requestBodies == null) {
             return;
         }
-        ObjectNode requestBodiesNode = parent.putObject(ComponentsConstant.PROP_REQUEST_BODIES);
+        generator.writeObjectFieldStart(ComponentsConstant.PROP_REQUEST_BODIES);
         for (Map.Entry<String, RequestBody> entry : requestBodies.entrySet()) {
-            writeRequestBody(requestBodiesNode, entry.getValue(), entry.getKey());
+            writeRequestBody(generator, entry.getValue(), entry.getKey());
         }
+        generator.writeEndObject();
     }
 
     /**
-     * Writes a {@link RequestBody} to the JSON tree.
+     * Writes a {@link RequestBody} to the JSON stream.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param model RequestBody model
+     * @throws IOException Errors writing the model
      */
-    public static void writeRequestBody(ObjectNode parent, RequestBody model) {
-        writeRequestBody(parent, model, RequestBodyConstant.PROP_REQUEST_BODY);
+    public static void writeRequestBody(JsonGenerator generator, RequestBody model) throws IOException {
+        writeRequestBody(generator, model, RequestBodyConstant.PROP_REQUEST_BODY);
     }
 
-    /**
-     * Writes a {@link RequestBody} object to the JSON tree.
-     * 
-     * @param parent
-     * @param model
-     * @param name
-     */
-    private static void writeRequestBody(ObjectNode parent, RequestBody model, String name) {
+    private static void writeRequestBody(JsonGenerator generator, RequestBody model, String name) throws IOException {
         if (model == null) {
             return;
         }
 
-        ObjectNode node = parent.putObject(name);
+        generator.writeObjectFieldStart(name);
 
         if (StringUtil.isNotEmpty(model.getRef())) {
-            JsonUtil.stringProperty(node, Referenceable.PROP_$REF, model.getRef());
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
         } else {
-            JsonUtil.stringProperty(node, RequestBodyConstant.PROP_DESCRIPTION, model.getDescription());
-            ContentWriter.writeContent(node, model.getContent());
-            JsonUtil.booleanProperty(node, RequestBodyConstant.PROP_REQUIRED, model.getRequired());
-            ExtensionWriter.writeExtensions(node, model);
+            JsonUtil.stringProperty(generator, RequestBodyConstant.PROP_DESCRIPTION, model.getDescription());
+            ContentWriter.writeContent(generator, model.getContent());
+            JsonUtil.booleanProperty(generator, RequestBodyConstant.PROP_REQUIRED, model.getRequired());
+            ExtensionWriter.writeExtensions(generator, model);
         }
+        generator.writeEndObject();
     }
 }
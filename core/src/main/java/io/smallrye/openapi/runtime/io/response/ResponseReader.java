@@ -207,7 +207,7 @@ public class ResponseReader {
      * @param node the json object
      * @return APIResponse model
      */
-    private static APIResponse readResponse(final JsonNode node) {
+    public static APIResponse readResponse(final JsonNode node) {
         if (node == null || !node.isObject()) {
             return null;
         }
@@ -256,15 +256,15 @@ public class ResponseReader {
             return responseCode;
         }
 
-        if (JandexUtil.isRef(annotation) && context.getOpenApi().getComponents() != null) {
+        if (JandexUtil.isRef(annotation)) {
             String ref = JandexUtil.nameFromRef(annotation);
-            Components components = context.getOpenApi().getComponents();
+            APIResponse response = context.lookupComponent(oai -> {
+                Components components = oai.getComponents();
+                return components != null && components.getResponses() != null ? components.getResponses().get(ref) : null;
+            });
 
-            if (components.getResponses() != null && components.getResponses().containsKey(ref)) {
-                APIResponse response = components.getResponses().get(ref);
-                if (response instanceof APIResponseImpl) {
-                    responseCode = ((APIResponseImpl) response).getResponseCode();
-                }
+            if (response instanceof APIResponseImpl) {
+                responseCode = ((APIResponseImpl) response).getResponseCode();
             }
         }
 
@@ -1,12 +1,13 @@
 package io.smallrye.openapi.runtime.io.response;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.microprofile.openapi.models.responses.APIResponse;
 import org.eclipse.microprofile.openapi.models.responses.APIResponses;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
 import io.smallrye.openapi.runtime.io.Referenceable;
@@ -31,62 +32,64 @@ public class ResponseWriter {
     }
 
     /**
-     * Writes a map of {@link APIResponse} to the JSON tree.
+     * Writes a map of {@link APIResponse} to the JSON stream.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param responses map of APIResponse models
+     * @throws IOException Errors writing the model
      */
-    public static void writeAPIResponses(ObjectNode parent, Map<String, APIResponse> responses) {
+    public static void writeAPIResponses(JsonGenerator generator, Map<String, APIResponse> responses) throws IOException {
         if (responses == null) {
             return;
         }
-        ObjectNode responsesNode = parent.putObject(ComponentsConstant.PROP_RESPONSES);
+        generator.writeObjectFieldStart(ComponentsConstant.PROP_RESPONSES);
         for (Map.Entry<String, APIResponse> entry : responses.entrySet()) {
-            writeAPIResponse(responsesNode, entry.getValue(), entry.getKey());
+            writeAPIResponse(generator, entry.getValue(), entry.getKey());
         }
+        generator.writeEndObject();
     }
 
     /**
-     * Writes a {@link APIResponses} map to the JSON tree.
+     * Writes a {@link APIResponses} map to the JSON stream.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param model APIResponse model
+     * @throws IOException Errors writing the model
      */
-    public static void writeAPIResponses(ObjectNode parent, APIResponses model) {
+    public static void writeAPIResponses(JsonGenerator generator, APIResponses model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(ComponentsConstant.PROP_RESPONSES);
-        writeAPIResponse(node, model.getDefaultValue(), ResponseConstant.PROP_DEFAULT);
+        generator.writeObjectFieldStart(ComponentsConstant.PROP_RESPONSES);
+        APIResponse defaultValue = model.getDefaultValue();
+        writeAPIResponse(generator, defaultValue, ResponseConstant.PROP_DEFAULT);
         if (model.getAPIResponses() != null) {
             Set<Map.Entry<String, APIResponse>> entrySet = model.getAPIResponses().entrySet();
             for (Map.Entry<String, APIResponse> entry : entrySet) {
-                writeAPIResponse(node, entry.getValue(), entry.getKey());
+                // The default response has already been written first
+                if (defaultValue == null || !ResponseConstant.PROP_DEFAULT.equals(entry.getKey())) {
+                    writeAPIResponse(generator, entry.getValue(), entry.getKey());
+                }
             }
         }
+        generator.writeEndObject();
     }
 
-    /**
-     * Writes a {@link APIResponse} object to the JSON tree.
-     * 
-     * @param parent
-     * @param model
-     * @param name
-     */
-    private static void writeAPIResponse(ObjectNode parent, APIResponse model, String name) {
+    private static void writeAPIResponse(JsonGenerator generator, APIResponse model, String name) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(name);
+        generator.writeObjectFieldStart(name);
 
         if (StringUtil.isNotEmpty(model.getRef())) {
-            JsonUtil.stringProperty(node, Referenceable.PROP_$REF, model.getRef());
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
         } else {
-            JsonUtil.stringProperty(node, ResponseConstant.PROP_DESCRIPTION, model.getDescription());
-            HeaderWriter.writeHeaders(node, model.getHeaders());
-            ContentWriter.writeContent(node, model.getContent());
-            LinkWriter.writeLinks(node, model.getLinks());
-            ExtensionWriter.writeExtensions(node, model);
+            JsonUtil.stringProperty(generator, ResponseConstant.PROP_DESCRIPTION, model.getDescription());
+            HeaderWriter.writeHeaders(generator, model.getHeaders());
+            ContentWriter.writeContent(generator, model.getContent());
+            LinkWriter.writeLinks(generator, model.getLinks());
+            ExtensionWriter.writeExtensions(generator, model);
         }
+        generator.writeEndObject();
     }
 }
@@ -513,7 +513,7 @@ public class SchemaFactory {
                 return null;
             }
         }
-        SchemaRegistry schemaRegistry = SchemaRegistry.currentInstance();
+        SchemaRegistry schemaRegistry = context.getSchemaRegistry();
 
         if (schemaReferenceSupported && schemaRegistry.hasSchema(ctype)) {
             return schemaRegistry.lookupRef(ctype);
@@ -522,7 +522,7 @@ public class SchemaFactory {
             return MergeUtil.mergeObjects(new SchemaImpl(), schemaRegistry.lookupSchema(ctype));
         } else if (context.getScanStack().contains(ctype)) {
             // Protect against stack overflow when the type is in the process of being scanned.
-            return SchemaRegistry.registerReference(ctype, null, new SchemaImpl());
+            return SchemaRegistry.registerReference(context, ctype, null, new SchemaImpl());
         } else {
             Schema schema = OpenApiDataObjectScanner.process(context, ctype);
 
@@ -543,7 +543,7 @@ public class SchemaFactory {
      * @return a reference to the registered schema or the input schema when registration is not allowed/possible
      */
     public static Schema schemaRegistration(final AnnotationScannerContext context, Type type, Schema schema) {
-        SchemaRegistry schemaRegistry = SchemaRegistry.currentInstance();
+        SchemaRegistry schemaRegistry = context.getSchemaRegistry();
 
         if (allowRegistration(context, schemaRegistry, type, schema)) {
             schema = schemaRegistry.register(type, schema);
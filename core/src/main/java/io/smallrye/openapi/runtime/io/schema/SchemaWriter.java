@@ -1,12 +1,12 @@
 package io.smallrye.openapi.runtime.io.schema;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.media.Schema;
 
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
 import io.smallrye.openapi.runtime.io.ObjectWriter;
@@ -32,115 +32,105 @@ public class SchemaWriter {
     }
 
     /**
-     * Writes a map of {@link Schema} to the JSON tree.
+     * Writes a map of {@link Schema} to the JSON stream.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param schemas map of Schema models
+     * @throws IOException Errors writing the model
      */
-    public static void writeSchemas(ObjectNode parent, Map<String, Schema> schemas) {
-        writeSchemas(parent, schemas, ComponentsConstant.PROP_SCHEMAS);
+    public static void writeSchemas(JsonGenerator generator, Map<String, Schema> schemas) throws IOException {
+        writeSchemas(generator, schemas, ComponentsConstant.PROP_SCHEMAS);
     }
 
-    /**
-     * Writes a map of {@link Schema} to the JSON tree.
-     * 
-     * @param parent
-     * @param schemas
-     */
-    private static void writeSchemas(ObjectNode parent, Map<String, Schema> schemas, String propertyName) {
+    private static void writeSchemas(JsonGenerator generator, Map<String, Schema> schemas, String propertyName)
+            throws IOException {
         if (schemas == null) {
             return;
         }
-        ObjectNode schemasNode = parent.putObject(propertyName);
+        generator.writeObjectFieldStart(propertyName);
         for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
-            writeSchema(schemasNode, entry.getValue(), entry.getKey());
+            writeSchema(generator, entry.getValue(), entry.getKey());
         }
+        generator.writeEndObject();
     }
 
     /**
-     * Writes a {@link Schema} to the JSON tree.
+     * Writes a {@link Schema} to the JSON stream.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param model Schema model
      * @param name name of the node
+     * @throws IOException Errors writing the model
      */
-    public static void writeSchema(ObjectNode parent, Schema model, String name) {
+    public static void writeSchema(JsonGenerator generator, Schema model, String name) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(name);
-        writeSchema(node, model);
+        generator.writeObjectFieldStart(name);
+        writeSchema(generator, model);
+        generator.writeEndObject();
     }
 
-    /**
-     * Writes the {@link Schema} model to the given node.
-     * 
-     * @param node
-     * @param model
-     */
-    private static void writeSchema(ObjectNode node, Schema model) {
+    private static void writeSchema(JsonGenerator generator, Schema model) throws IOException {
         if (StringUtil.isNotEmpty(model.getRef())) {
-            JsonUtil.stringProperty(node, Referenceable.PROP_$REF, model.getRef());
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
         } else {
-            JsonUtil.stringProperty(node, SchemaConstant.PROP_FORMAT, model.getFormat());
-            JsonUtil.stringProperty(node, SchemaConstant.PROP_TITLE, model.getTitle());
-            JsonUtil.stringProperty(node, SchemaConstant.PROP_DESCRIPTION, model.getDescription());
-            ObjectWriter.writeObject(node, SchemaConstant.PROP_DEFAULT, model.getDefaultValue());
-            JsonUtil.bigDecimalProperty(node, SchemaConstant.PROP_MULTIPLE_OF, model.getMultipleOf());
-            JsonUtil.bigDecimalProperty(node, SchemaConstant.PROP_MAXIMUM, model.getMaximum());
-            JsonUtil.booleanProperty(node, SchemaConstant.PROP_EXCLUSIVE_MAXIMUM, model.getExclusiveMaximum());
-            JsonUtil.bigDecimalProperty(node, SchemaConstant.PROP_MINIMUM, model.getMinimum());
-            JsonUtil.booleanProperty(node, SchemaConstant.PROP_EXCLUSIVE_MINIMUM, model.getExclusiveMinimum());
-            JsonUtil.intProperty(node, SchemaConstant.PROP_MAX_LENGTH, model.getMaxLength());
-            JsonUtil.intProperty(node, SchemaConstant.PROP_MIN_LENGTH, model.getMinLength());
-            JsonUtil.stringProperty(node, SchemaConstant.PROP_PATTERN, model.getPattern());
-            JsonUtil.intProperty(node, SchemaConstant.PROP_MAX_ITEMS, model.getMaxItems());
-            JsonUtil.intProperty(node, SchemaConstant.PROP_MIN_ITEMS, model.getMinItems());
-            JsonUtil.booleanProperty(node, SchemaConstant.PROP_UNIQUE_ITEMS, model.getUniqueItems());
-            JsonUtil.intProperty(node, SchemaConstant.PROP_MAX_PROPERTIES, model.getMaxProperties());
-            JsonUtil.intProperty(node, SchemaConstant.PROP_MIN_PROPERTIES, model.getMinProperties());
-            ObjectWriter.writeStringArray(node, model.getRequired(), SchemaConstant.PROP_REQUIRED);
-            ObjectWriter.writeObjectArray(node, model.getEnumeration(), SchemaConstant.PROP_ENUM);
-            JsonUtil.enumProperty(node, SchemaConstant.PROP_TYPE, model.getType());
-            writeSchema(node, model.getItems(), SchemaConstant.PROP_ITEMS);
-            writeSchemaList(node, model.getAllOf(), SchemaConstant.PROP_ALL_OF);
-            writeSchemas(node, model.getProperties(), SchemaConstant.PROP_PROPERTIES);
+            JsonUtil.stringProperty(generator, SchemaConstant.PROP_FORMAT, model.getFormat());
+            JsonUtil.stringProperty(generator, SchemaConstant.PROP_TITLE, model.getTitle());
+            JsonUtil.stringProperty(generator, SchemaConstant.PROP_DESCRIPTION, model.getDescription());
+            ObjectWriter.writeObject(generator, SchemaConstant.PROP_DEFAULT, model.getDefaultValue());
+            JsonUtil.bigDecimalProperty(generator, SchemaConstant.PROP_MULTIPLE_OF, model.getMultipleOf());
+            JsonUtil.bigDecimalProperty(generator, SchemaConstant.PROP_MAXIMUM, model.getMaximum());
+            JsonUtil.booleanProperty(generator, SchemaConstant.PROP_EXCLUSIVE_MAXIMUM, model.getExclusiveMaximum());
+            JsonUtil.bigDecimalProperty(generator, SchemaConstant.PROP_MINIMUM, model.getMinimum());
+            JsonUtil.booleanProperty(generator, SchemaConstant.PROP_EXCLUSIVE_MINIMUM, model.getExclusiveMinimum());
+            JsonUtil.intProperty(generator, SchemaConstant.PROP_MAX_LENGTH, model.getMaxLength());
+            JsonUtil.intProperty(generator, SchemaConstant.PROP_MIN_LENGTH, model.getMinLength());
+            JsonUtil.stringProperty(generator, SchemaConstant.PROP_PATTERN, model.getPattern());
+            JsonUtil.intProperty(generator, SchemaConstant.PROP_MAX_ITEMS, model.getMaxItems());
+            JsonUtil.intProperty(generator, SchemaConstant.PROP_MIN_ITEMS, model.getMinItems());
+            JsonUtil.booleanProperty(generator, SchemaConstant.PROP_UNIQUE_ITEMS, model.getUniqueItems());
+            JsonUtil.intProperty(generator, SchemaConstant.PROP_MAX_PROPERTIES, model.getMaxProperties());
+            JsonUtil.intProperty(generator, SchemaConstant.PROP_MIN_PROPERTIES, model.getMinProperties());
+            ObjectWriter.writeStringArray(generator, model.getRequired(), SchemaConstant.PROP_REQUIRED);
+            ObjectWriter.writeObjectArray(generator, model.getEnumeration(), SchemaConstant.PROP_ENUM);
+            JsonUtil.enumProperty(generator, SchemaConstant.PROP_TYPE, model.getType());
+            writeSchema(generator, model.getItems(), SchemaConstant.PROP_ITEMS);
+            writeSchemaList(generator, model.getAllOf(), SchemaConstant.PROP_ALL_OF);
+            writeSchemas(generator, model.getProperties(), SchemaConstant.PROP_PROPERTIES);
             if (model.getAdditionalPropertiesBoolean() != null) {
-                JsonUtil.booleanProperty(node, SchemaConstant.PROP_ADDITIONAL_PROPERTIES,
+                JsonUtil.booleanProperty(generator, SchemaConstant.PROP_ADDITIONAL_PROPERTIES,
                         model.getAdditionalPropertiesBoolean());
             } else {
-                writeSchema(node, model.getAdditionalPropertiesSchema(),
+                writeSchema(generator, model.getAdditionalPropertiesSchema(),
                         SchemaConstant.PROP_ADDITIONAL_PROPERTIES);
             }
-            JsonUtil.booleanProperty(node, SchemaConstant.PROP_READ_ONLY, model.getReadOnly());
-            XmlWriter.writeXML(node, model.getXml());
-            ExternalDocsWriter.writeExternalDocumentation(node, model.getExternalDocs());
-            ObjectWriter.writeObject(node, SchemaConstant.PROP_EXAMPLE, model.getExample());
-            writeSchemaList(node, model.getOneOf(), SchemaConstant.PROP_ONE_OF);
-            writeSchemaList(node, model.getAnyOf(), SchemaConstant.PROP_ANY_OF);
-            writeSchema(node, model.getNot(), SchemaConstant.PROP_NOT);
-            DiscriminatorWriter.writeDiscriminator(node, model.getDiscriminator());
-            JsonUtil.booleanProperty(node, SchemaConstant.PROP_NULLABLE, model.getNullable());
-            JsonUtil.booleanProperty(node, SchemaConstant.PROP_WRITE_ONLY, model.getWriteOnly());
-            JsonUtil.booleanProperty(node, SchemaConstant.PROP_DEPRECATED, model.getDeprecated());
-            ExtensionWriter.writeExtensions(node, model);
+            JsonUtil.booleanProperty(generator, SchemaConstant.PROP_READ_ONLY, model.getReadOnly());
+            XmlWriter.writeXML(generator, model.getXml());
+            ExternalDocsWriter.writeExternalDocumentation(generator, model.getExternalDocs());
+            ObjectWriter.writeObject(generator, SchemaConstant.PROP_EXAMPLE, model.getExample());
+            writeSchemaList(generator, model.getOneOf(), SchemaConstant.PROP_ONE_OF);
+            writeSchemaList(generator, model.getAnyOf(), SchemaConstant.PROP_ANY_OF);
+            writeSchema(generator, model.getNot(), SchemaConstant.PROP_NOT);
+            DiscriminatorWriter.writeDiscriminator(generator, model.getDiscriminator());
+            JsonUtil.booleanProperty(generator, SchemaConstant.PROP_NULLABLE, model.getNullable());
+            JsonUtil.booleanProperty(generator, SchemaConstant.PROP_WRITE_ONLY, model.getWriteOnly());
+            JsonUtil.booleanProperty(generator, SchemaConstant.PROP_DEPRECATED, model.getDeprecated());
+            ExtensionWriter.writeExtensions(generator, model);
         }
     }
 
-    /**
-     * Writes a list of {@link Schema} to the JSON tree.
-     * 
-     * @param parent
-     * @param models
-     * @param propertyName
-     */
-    private static void writeSchemaList(ObjectNode parent, List<Schema> models, String propertyName) {
+    private static void writeSchemaList(JsonGenerator generator, List<Schema> models, String propertyName)
+            throws IOException {
         if (models == null) {
             return;
         }
-        ArrayNode schemasNode = parent.putArray(propertyName);
+        generator.writeArrayFieldStart(propertyName);
         for (Schema schema : models) {
-            writeSchema(schemasNode.addObject(), schema);
+            generator.writeStartObject();
+            writeSchema(generator, schema);
+            generator.writeEndObject();
         }
+        generator.writeEndArray();
     }
 }
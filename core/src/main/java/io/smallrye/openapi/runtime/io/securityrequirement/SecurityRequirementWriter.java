@@ -1,12 +1,12 @@
 package io.smallrye.openapi.runtime.io.securityrequirement;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
 
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.ObjectWriter;
 import io.smallrye.openapi.runtime.io.definition.DefinitionConstant;
@@ -26,35 +26,33 @@ public class SecurityRequirementWriter {
     }
 
     /**
-     * Writes a list of {@link SecurityRequirement} to the JSON tree.
+     * Writes a list of {@link SecurityRequirement} to the JSON stream.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param models list of SecurityRequirement models
+     * @throws IOException Errors writing the model
      */
-    public static void writeSecurityRequirements(ObjectNode parent, List<SecurityRequirement> models) {
+    public static void writeSecurityRequirements(JsonGenerator generator, List<SecurityRequirement> models)
+            throws IOException {
         if (models == null) {
             return;
         }
-        ArrayNode node = parent.putArray(DefinitionConstant.PROP_SECURITY);
+        generator.writeArrayFieldStart(DefinitionConstant.PROP_SECURITY);
         for (SecurityRequirement securityRequirement : models) {
-            ObjectNode secNode = node.addObject();
-            writeSecurityRequirement(secNode, securityRequirement);
+            generator.writeStartObject();
+            writeSecurityRequirement(generator, securityRequirement);
+            generator.writeEndObject();
         }
+        generator.writeEndArray();
     }
 
-    /**
-     * Writes a {@link SecurityRequirement} to the given JS node.
-     * 
-     * @param node
-     * @param model
-     */
-    private static void writeSecurityRequirement(ObjectNode node, SecurityRequirement model) {
+    private static void writeSecurityRequirement(JsonGenerator generator, SecurityRequirement model) throws IOException {
         if (model == null) {
             return;
         }
         if (model.getSchemes() != null) {
             for (Map.Entry<String, List<String>> entry : model.getSchemes().entrySet()) {
-                ObjectWriter.writeStringArray(node, entry.getValue(), entry.getKey());
+                ObjectWriter.writeStringArray(generator, entry.getValue(), entry.getKey());
             }
         }
     }
@@ -1,5 +1,6 @@
 package io.smallrye.openapi.runtime.io.securityscheme;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -11,6 +12,7 @@ import org.eclipse.microprofile.openapi.models.security.SecurityScheme.Type;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.IndexView;
 
 import com.fasterxml.jackson.databind.JsonNode;
 
@@ -122,7 +124,7 @@ public class SecuritySchemeReader {
      * @param node json node
      * @return SecurityScheme model
      */
-    private static SecurityScheme readSecurityScheme(final JsonNode node) {
+    public static SecurityScheme readSecurityScheme(final JsonNode node) {
         if (node == null || !node.isObject()) {
             return null;
         }
@@ -173,6 +175,13 @@ public class SecuritySchemeReader {
                 SecuritySchemeConstant.TYPE_SECURITY_SCHEMES);
     }
 
+    public static List<AnnotationInstance> getSecuritySchemeAnnotations(final IndexView index) {
+        List<AnnotationInstance> annotations = new ArrayList<>();
+        annotations.addAll(index.getAnnotations(SecuritySchemeConstant.DOTNAME_SECURITY_SCHEME));
+        annotations.addAll(index.getAnnotations(SecuritySchemeConstant.TYPE_SECURITY_SCHEMES));
+        return annotations;
+    }
+
     public static String getSecuritySchemeName(AnnotationInstance annotation) {
         return JandexUtil.stringValue(annotation, SecuritySchemeConstant.PROP_SECURITY_SCHEME_NAME);
     }
@@ -1,10 +1,11 @@
 package io.smallrye.openapi.runtime.io.securityscheme;
 
+import java.io.IOException;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
 import io.smallrye.openapi.runtime.io.Referenceable;
@@ -28,47 +29,44 @@ public class SecuritySchemeWriter {
     }
 
     /**
-     * Writes a map of {@link SecurityScheme} to the JSON tree.
+     * Writes a map of {@link SecurityScheme} to the JSON stream.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param securitySchemes map of SecurityScheme models
+     * @throws IOException Errors writing the model
      */
-    public static void writeSecuritySchemes(ObjectNode parent, Map<String, SecurityScheme> securitySchemes) {
+    public static void writeSecuritySchemes(JsonGenerator generator, Map<String, SecurityScheme> securitySchemes)
+            throws IOException {
         if (securitySchemes == null) {
             return;
         }
-        ObjectNode securitySchemesNode = parent.putObject(ComponentsConstant.PROP_SECURITY_SCHEMES);
+        generator.writeObjectFieldStart(ComponentsConstant.PROP_SECURITY_SCHEMES);
         for (Map.Entry<String, SecurityScheme> entry : securitySchemes.entrySet()) {
-            writeSecurityScheme(securitySchemesNode, entry.getValue(), entry.getKey());
+            writeSecurityScheme(generator, entry.getValue(), entry.getKey());
         }
+        generator.writeEndObject();
     }
 
-    /**
-     * Writes a {@link SecurityScheme} object to the JSON tree.
-     * 
-     * @param parent
-     * @param model
-     * @param name
-     */
-    private static void writeSecurityScheme(ObjectNode parent, SecurityScheme model, String name) {
+    private static void writeSecurityScheme(JsonGenerator generator, SecurityScheme model, String name)
+            throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(name);
+        generator.writeObjectFieldStart(name);
 
         if (StringUtil.isNotEmpty(model.getRef())) {
-            JsonUtil.stringProperty(node, Referenceable.PROP_$REF, model.getRef());
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
         } else {
-            JsonUtil.enumProperty(node, SecuritySchemeConstant.PROP_TYPE, model.getType());
-            JsonUtil.stringProperty(node, SecuritySchemeConstant.PROP_DESCRIPTION, model.getDescription());
-            JsonUtil.stringProperty(node, SecuritySchemeConstant.PROP_NAME, model.getName());
-            JsonUtil.enumProperty(node, SecuritySchemeConstant.PROP_IN, model.getIn());
-            JsonUtil.stringProperty(node, SecuritySchemeConstant.PROP_SCHEME, model.getScheme());
-            JsonUtil.stringProperty(node, SecuritySchemeConstant.PROP_BEARER_FORMAT, model.getBearerFormat());
-            OAuthWriter.writeOAuthFlows(node, model.getFlows());
-            JsonUtil.stringProperty(node, SecuritySchemeConstant.PROP_OPEN_ID_CONNECT_URL, model.getOpenIdConnectUrl());
-            ExtensionWriter.writeExtensions(node, model);
+            JsonUtil.enumProperty(generator, SecuritySchemeConstant.PROP_TYPE, model.getType());
+            JsonUtil.stringProperty(generator, SecuritySchemeConstant.PROP_DESCRIPTION, model.getDescription());
+            JsonUtil.stringProperty(generator, SecuritySchemeConstant.PROP_NAME, model.getName());
+            JsonUtil.enumProperty(generator, SecuritySchemeConstant.PROP_IN, model.getIn());
+            JsonUtil.stringProperty(generator, SecuritySchemeConstant.PROP_SCHEME, model.getScheme());
+            JsonUtil.stringProperty(generator, SecuritySchemeConstant.PROP_BEARER_FORMAT, model.getBearerFormat());
+            OAuthWriter.writeOAuthFlows(generator, model.getFlows());
+            JsonUtil.stringProperty(generator, SecuritySchemeConstant.PROP_OPEN_ID_CONNECT_URL, model.getOpenIdConnectUrl());
+            ExtensionWriter.writeExtensions(generator, model);
         }
+        generator.writeEndObject();
     }
-
 }
@@ -1,11 +1,11 @@
 package io.smallrye.openapi.runtime.io.server;
 
+import java.io.IOException;
 import java.util.List;
 
 import org.eclipse.microprofile.openapi.models.servers.Server;
 
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
 import io.smallrye.openapi.runtime.io.definition.DefinitionConstant;
@@ -26,40 +26,45 @@ public class ServerWriter {
     }
 
     /**
-     * Writes the {@link Server} model array to the JSON tree.
+     * Writes the {@link Server} model array to the JSON stream.
      * 
-     * @param node the json node
+     * @param generator the json generator
      * @param servers list of Server models
+     * @throws IOException Errors writing the model
      */
-    public static void writeServers(ObjectNode node, List<Server> servers) {
+    public static void writeServers(JsonGenerator generator, List<Server> servers) throws IOException {
         if (servers == null) {
             return;
         }
-        ArrayNode array = node.putArray(DefinitionConstant.PROP_SERVERS);
+        generator.writeArrayFieldStart(DefinitionConstant.PROP_SERVERS);
         for (Server server : servers) {
-            ObjectNode serverNode = array.addObject();
-            writeServerToNode(serverNode, server);
+            generator.writeStartObject();
+            writeServerToNode(generator, server);
+            generator.writeEndObject();
         }
+        generator.writeEndArray();
     }
 
     /**
-     * Writes a {@link Server} model to the given JSON node.
+     * Writes a {@link Server} model to the given JSON stream.
      * 
-     * @param parent parent json node
+     * @param generator the json generator
      * @param model Server model
+     * @throws IOException Errors writing the model
      */
-    public static void writeServer(ObjectNode parent, Server model) {
+    public static void writeServer(JsonGenerator generator, Server model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(ServerConstant.PROP_SERVER);
-        writeServerToNode(node, model);
+        generator.writeObjectFieldStart(ServerConstant.PROP_SERVER);
+        writeServerToNode(generator, model);
+        generator.writeEndObject();
     }
 
-    private static void writeServerToNode(ObjectNode node, Server model) {
-        JsonUtil.stringProperty(node, ServerConstant.PROP_URL, model.getUrl());
-        JsonUtil.stringProperty(node, ServerConstant.PROP_DESCRIPTION, model.getDescription());
-        ServerVariableWriter.writeServerVariables(node, model.getVariables());
-        ExtensionWriter.writeExtensions(node, model);
+    private static void writeServerToNode(JsonGenerator generator, Server model) throws IOException {
+        JsonUtil.stringProperty(generator, ServerConstant.PROP_URL, model.getUrl());
+        JsonUtil.stringProperty(generator, ServerConstant.PROP_DESCRIPTION, model.getDescription());
+        ServerVariableWriter.writeServerVariables(generator, model.getVariables());
+        ExtensionWriter.writeExtensions(generator, model);
     }
 }
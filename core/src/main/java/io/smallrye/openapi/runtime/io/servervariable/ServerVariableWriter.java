@@ -1,15 +1,15 @@
 package io.smallrye.openapi.runtime.io.servervariable;
 
-import java.util.List;
+import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.microprofile.openapi.models.servers.ServerVariable;
 
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
+import io.smallrye.openapi.runtime.io.ObjectWriter;
 import io.smallrye.openapi.runtime.io.extension.ExtensionWriter;
 import io.smallrye.openapi.runtime.io.server.ServerConstant;
 
@@ -28,45 +28,44 @@ public class ServerVariableWriter {
     }
 
     /**
-     * Writes the {@link ServerVariable} model to the JSON tree.
+     * Writes the {@link ServerVariable} model to the JSON stream.
      * 
-     * @param serverNode the json node
+     * @param generator the json generator
      * @param variables map of ServerVariable models
+     * @throws IOException Errors writing the model
      */
-    public static void writeServerVariables(ObjectNode serverNode, Map<String, ServerVariable> variables) {
+    public static void writeServerVariables(JsonGenerator generator, Map<String, ServerVariable> variables)
+            throws IOException {
         if (variables == null) {
             return;
         }
-        ObjectNode variablesNode = serverNode.putObject(ServerConstant.PROP_VARIABLES);
+        generator.writeObjectFieldStart(ServerConstant.PROP_VARIABLES);
 
         Set<Map.Entry<String, ServerVariable>> entrySet = variables.entrySet();
         for (Map.Entry<String, ServerVariable> entry : entrySet) {
-            writeServerVariable(variablesNode, entry.getValue(), entry.getKey());
+            writeServerVariable(generator, entry.getValue(), entry.getKey());
         }
+        generator.writeEndObject();
     }
 
     /**
-     * Writes a {@link ServerVariable} to the JSON tree.
+     * Writes a {@link ServerVariable} to the JSON stream.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param model the ServerVariable model
      * @param variableName the node name
+     * @throws IOException Errors writing the model
      */
-    public static void writeServerVariable(ObjectNode parent, ServerVariable model, String variableName) {
+    public static void writeServerVariable(JsonGenerator generator, ServerVariable model, String variableName)
+            throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(variableName);
-        JsonUtil.stringProperty(node, ServerVariableConstant.PROP_DEFAULT, model.getDefaultValue());
-        JsonUtil.stringProperty(node, ServerVariableConstant.PROP_DESCRIPTION, model.getDescription());
-        List<String> enumeration = model.getEnumeration();
-        if (enumeration != null) {
-            ArrayNode enumArray = node.putArray(ServerVariableConstant.PROP_ENUM);
-            for (String enumValue : enumeration) {
-                enumArray.add(enumValue);
-            }
-        }
-        ExtensionWriter.writeExtensions(node, model);
+        generator.writeObjectFieldStart(variableName);
+        JsonUtil.stringProperty(generator, ServerVariableConstant.PROP_DEFAULT, model.getDefaultValue());
+        JsonUtil.stringProperty(generator, ServerVariableConstant.PROP_DESCRIPTION, model.getDescription());
+        ObjectWriter.writeStringArray(generator, model.getEnumeration(), ServerVariableConstant.PROP_ENUM);
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
     }
-
 }
@@ -1,11 +1,11 @@
 package io.smallrye.openapi.runtime.io.tag;
 
+import java.io.IOException;
 import java.util.List;
 
 import org.eclipse.microprofile.openapi.models.tags.Tag;
 
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
 import io.smallrye.openapi.runtime.io.definition.DefinitionConstant;
@@ -26,22 +26,25 @@ public class TagWriter {
     }
 
     /**
-     * Writes the {@link Tag} model array to the JSON tree.
+     * Writes the {@link Tag} model array to the JSON stream.
      * 
-     * @param node the json node
+     * @param generator the json generator
      * @param tags list of Tag models
+     * @throws IOException Errors writing the model
      */
-    public static void writeTags(ObjectNode node, List<Tag> tags) {
+    public static void writeTags(JsonGenerator generator, List<Tag> tags) throws IOException {
         if (tags == null) {
             return;
         }
-        ArrayNode array = node.putArray(DefinitionConstant.PROP_TAGS);
+        generator.writeArrayFieldStart(DefinitionConstant.PROP_TAGS);
         for (Tag tag : tags) {
-            ObjectNode tagNode = array.addObject();
-            JsonUtil.stringProperty(tagNode, TagConstant.PROP_NAME, tag.getName());
-            JsonUtil.stringProperty(tagNode, TagConstant.PROP_DESCRIPTION, tag.getDescription());
-            ExternalDocsWriter.writeExternalDocumentation(tagNode, tag.getExternalDocs());
-            ExtensionWriter.writeExtensions(tagNode, tag);
+            generator.writeStartObject();
+            JsonUtil.stringProperty(generator, TagConstant.PROP_NAME, tag.getName());
+            JsonUtil.stringProperty(generator, TagConstant.PROP_DESCRIPTION, tag.getDescription());
+            ExternalDocsWriter.writeExternalDocumentation(generator, tag.getExternalDocs());
+            ExtensionWriter.writeExtensions(generator, tag);
+            generator.writeEndObject();
         }
+        generator.writeEndArray();
     }
 }
@@ -1,8 +1,10 @@
 package io.smallrye.openapi.runtime.io.xml;
 
+import java.io.IOException;
+
 import org.eclipse.microprofile.openapi.models.media.XML;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
 import io.smallrye.openapi.runtime.io.extension.ExtensionWriter;
@@ -22,21 +24,23 @@ public class XmlWriter {
     }
 
     /**
-     * Writes a {@link XML} object to the JSON tree.
+     * Writes a {@link XML} object to the JSON stream.
      * 
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param model the XML model
+     * @throws IOException Errors writing the model
      */
-    public static void writeXML(ObjectNode parent, XML model) {
+    public static void writeXML(JsonGenerator generator, XML model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(SchemaConstant.PROP_XML);
-        JsonUtil.stringProperty(node, XmlConstant.PROP_NAME, model.getName());
-        JsonUtil.stringProperty(node, XmlConstant.PROP_NAMESPACE, model.getNamespace());
-        JsonUtil.stringProperty(node, XmlConstant.PROP_PREFIX, model.getPrefix());
-        JsonUtil.booleanProperty(node, XmlConstant.PROP_ATTRIBUTE, model.getAttribute());
-        JsonUtil.booleanProperty(node, XmlConstant.PROP_WRAPPED, model.getWrapped());
-        ExtensionWriter.writeExtensions(node, model);
+        generator.writeObjectFieldStart(SchemaConstant.PROP_XML);
+        JsonUtil.stringProperty(generator, XmlConstant.PROP_NAME, model.getName());
+        JsonUtil.stringProperty(generator, XmlConstant.PROP_NAMESPACE, model.getNamespace());
+        JsonUtil.stringProperty(generator, XmlConstant.PROP_PREFIX, model.getPrefix());
+        JsonUtil.booleanProperty(generator, XmlConstant.PROP_ATTRIBUTE, model.getAttribute());
+        JsonUtil.booleanProperty(generator, XmlConstant.PROP_WRAPPED, model.getWrapped());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
     }
 }
@@ -12,6 +12,15 @@ import io.smallrye.openapi.runtime.scanner.spi.AnnotationScanner;
 /**
  * Extension point for supporting extensions to OpenAPI Scanners.
  * Implement this directly
+ *
+ * <p>
+ * When parallel scanning is enabled (<code>mp.openapi.extensions.smallrye.parallel-scan.enable</code>,
+ * see {@link io.smallrye.openapi.api.OpenApiConfig#parallelScanEnable()}), the classes of the application
+ * are processed by worker threads that share the extensions of the scan. All methods except
+ * {@link #processScannerApplications(AnnotationScanner, Collection)}, which is called before the
+ * workers are started, may then be called concurrently and must be thread-safe. The same applies to
+ * anything an extension shares with the scan, such as the caches of the
+ * {@link io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext}.
  */
 public interface AnnotationScannerExtension {
 
@@ -1,6 +1,11 @@
 package io.smallrye.openapi.runtime.scanner;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -28,6 +33,38 @@ public class FilteredIndexView implements IndexView {
     private final Pattern scanPackages;
     private final Pattern scanExcludeClasses;
     private final Pattern scanExcludePackages;
+    private final boolean impliedInclusion;
+
+    /**
+     * Decisions made for each class name, shared by {@link #accepts(DotName)} and
+     * {@link #explicitlyAccepts(DotName)}. The configuration is fixed for the life
+     * of the view, so a decision never changes once computed.
+     */
+    private final Map<DotName, Decision> decisions = new ConcurrentHashMap<>();
+
+    /**
+     * Results of the package include/exclude pattern matches, keyed by package name so that
+     * all classes in the same package share a single evaluation.
+     */
+    private final Map<String, PackageGroups> packageGroups = new ConcurrentHashMap<>();
+
+    private final LongAdder decisionCacheHits = new LongAdder();
+    private final LongAdder decisionCacheMisses = new LongAdder();
+    private final LongAdder packageCacheHits = new LongAdder();
+    private final LongAdder packageCacheMisses = new LongAdder();
+
+    /**
+     * Whether filtered results of annotation, subclass, implementor, and user
+     * lookups are retained and re-used for subsequent lookups of the same name.
+     * When disabled, the maps below are not used.
+     */
+    private final boolean lookupCacheEnabled;
+    private final Map<DotName, Collection<AnnotationInstance>> annotations = new ConcurrentHashMap<>();
+    private final Map<DotName, Collection<ClassInfo>> directSubclasses = new ConcurrentHashMap<>();
+    private final Map<DotName, Collection<ClassInfo>> allSubclasses = new ConcurrentHashMap<>();
+    private final Map<DotName, Collection<ClassInfo>> directImplementors = new ConcurrentHashMap<>();
+    private final Map<DotName, Collection<ClassInfo>> allImplementors = new ConcurrentHashMap<>();
+    private final Map<DotName, Collection<ClassInfo>> users = new ConcurrentHashMap<>();
 
     /**
      * Constructor.
@@ -43,6 +80,10 @@ public class FilteredIndexView implements IndexView {
         scanExcludeClasses = config.scanExcludeClasses();
         scanExcludePackages = config.scanExcludePackages();
 
+        impliedInclusion = (scanClasses == null || scanClasses.pattern().isEmpty())
+                && (scanPackages == null || scanPackages.pattern().isEmpty());
+
+        lookupCacheEnabled = config.indexLookupCacheEnable();
     }
 
     /**
@@ -76,7 +117,65 @@ public class FilteredIndexView implements IndexView {
      * @return true if the inclusion/exclusion configuration allows scanning of the class name
      */
     public boolean accepts(DotName className, boolean allowImpliedInclusion) {
-        final boolean accept;
+        Decision decision = decisions.get(className);
+
+        if (decision != null) {
+            decisionCacheHits.increment();
+        } else {
+            decisionCacheMisses.increment();
+            decision = decisions.computeIfAbsent(className, this::decide);
+        }
+
+        switch (decision) {
+            case ACCEPT:
+                return true;
+            case IMPLIED:
+                return allowImpliedInclusion && impliedInclusion;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Number of calls to {@link #accepts(DotName, boolean)} answered from the decision cache.
+     *
+     * @return count of decision cache hits
+     */
+    public long getDecisionCacheHits() {
+        return decisionCacheHits.sum();
+    }
+
+    /**
+     * Number of calls to {@link #accepts(DotName, boolean)} that required the class name to
+     * be matched against the configured patterns.
+     *
+     * @return count of decision cache misses
+     */
+    public long getDecisionCacheMisses() {
+        return decisionCacheMisses.sum();
+    }
+
+    /**
+     * Number of class name decisions that re-used the package pattern matches of a previously
+     * evaluated class in the same package.
+     *
+     * @return count of package cache hits
+     */
+    public long getPackageCacheHits() {
+        return packageCacheHits.sum();
+    }
+
+    /**
+     * Number of distinct packages matched against the configured package patterns.
+     *
+     * @return count of package cache misses
+     */
+    public long getPackageCacheMisses() {
+        return packageCacheMisses.sum();
+    }
+
+    private Decision decide(DotName className) {
+        final Decision decision;
         final MatchHandler match = new MatchHandler(className);
 
         if (match.isQualifiedNameExcluded()) {
@@ -84,13 +183,13 @@ public class FilteredIndexView implements IndexView {
              * A FQCN or pattern that *fully* matched the FQCN was given in
              * `mp.openapi.scan.exclude.classes`.
              */
-            accept = false;
+            decision = Decision.REJECT;
         } else if (match.isQualifiedNameIncluded()) {
             /*
              * A FQCN or pattern that *fully* matched the FQCN was given in
              * `mp.openapi.scan.classes`.
              */
-            accept = true;
+            decision = Decision.ACCEPT;
         } else if (match.isSimpleNameExcluded()) {
             /*
              * A pattern or partial class name was given in `mp.openapi.scan.exclude.classes`
@@ -98,41 +197,67 @@ public class FilteredIndexView implements IndexView {
              * *AND* no match exists for the simple class name in `mp.openapi.scan.classes`
              * with a more complete package specified.
              */
-            accept = false;
+            decision = Decision.REJECT;
         } else if (match.isSimpleNameIncluded()) {
             /*
              * A pattern or partial class name was given in `mp.openapi.scan.classes`
              * where the matching part of the configuration ends with the simple class name
              */
-            accept = true;
+            decision = Decision.ACCEPT;
         } else if (match.isPackageExcluded()) {
             /*
              * A package or package pattern given in `mp.openapi.scan.exclude.packages`
              * matches the start of the FQCN's package and a more complete match in
              * `mp.openapi.scan.packages` was not given.
              */
-            accept = false;
+            decision = Decision.REJECT;
         } else if (match.isPackageIncluded()) {
             /*
              * A package or package pattern given in `mp.openapi.scan.packages`
              * matches the start of the FQCN's package.
              */
-            accept = true;
-        } else if (allowImpliedInclusion && match.isImpliedInclusion()) {
-            /*
-             * No value has been specified for either `mp.openapi.scan.classes`
-             * or `mp.openapi.scan.packages`.
-             */
-            accept = true;
+            decision = Decision.ACCEPT;
         } else {
             /*
-             * A value is specified for `mp.openapi.scan.classes` or `mp.openapi.scan.packages`
-             * which does not match this FQCN in any way.
+             * Nothing matched. The class is accepted only when implied inclusion is allowed
+             * by the caller and no value has been specified for either `mp.openapi.scan.classes`
+             * or `mp.openapi.scan.packages`.
              */
-            accept = false;
+            decision = Decision.IMPLIED;
+        }
+
+        return decision;
+    }
+
+    private PackageGroups packageGroups(String packageName) {
+        PackageGroups groups = packageGroups.get(packageName);
+
+        if (groups != null) {
+            packageCacheHits.increment();
+            return groups;
         }
 
-        return accept;
+        packageCacheMisses.increment();
+        return packageGroups.computeIfAbsent(packageName, PackageGroups::new);
+    }
+
+    enum Decision {
+        ACCEPT,
+        REJECT,
+        /**
+         * No configuration matched, accepted only when implied inclusion is permitted
+         */
+        IMPLIED
+    }
+
+    class PackageGroups {
+        final String pkgExclGroup;
+        final String pkgInclGroup;
+
+        PackageGroups(String packageName) {
+            this.pkgExclGroup = matchingGroup(packageName, scanExcludePackages);
+            this.pkgInclGroup = matchingGroup(packageName, scanPackages);
+        }
     }
 
     class MatchHandler {
@@ -155,8 +280,10 @@ public class FilteredIndexView implements IndexView {
 
             this.classExclGroup = matchingGroup(fqcn, scanExcludeClasses);
             this.classInclGroup = matchingGroup(fqcn, scanClasses);
-            this.pkgExclGroup = matchingGroup(packageName, scanExcludePackages);
-            this.pkgInclGroup = matchingGroup(packageName, scanPackages);
+
+            final PackageGroups groups = packageGroups(packageName);
+            this.pkgExclGroup = groups.pkgExclGroup;
+            this.pkgInclGroup = groups.pkgInclGroup;
         }
 
         public boolean isQualifiedNameExcluded() {
@@ -206,11 +333,6 @@ public class FilteredIndexView implements IndexView {
             }
             return packageName.startsWith(pkgInclGroup);
         }
-
-        public boolean isImpliedInclusion() {
-            return (scanClasses == null || scanClasses.pattern().isEmpty())
-                    && (scanPackages == null || scanPackages.pattern().isEmpty());
-        }
     }
 
     String matchingGroup(String value, Pattern pattern) {
@@ -246,7 +368,7 @@ public class FilteredIndexView implements IndexView {
      */
     @Override
     public Collection<ClassInfo> getKnownDirectSubclasses(DotName className) {
-        return filterClasses(this.delegate.getKnownDirectSubclasses(className));
+        return lookup(directSubclasses, className, name -> filterClasses(this.delegate.getKnownDirectSubclasses(name)));
     }
 
     /**
@@ -254,7 +376,7 @@ public class FilteredIndexView implements IndexView {
      */
     @Override
     public Collection<ClassInfo> getAllKnownSubclasses(DotName className) {
-        return filterClasses(this.delegate.getAllKnownSubclasses(className));
+        return lookup(allSubclasses, className, name -> filterClasses(this.delegate.getAllKnownSubclasses(name)));
     }
 
     /**
@@ -262,7 +384,7 @@ public class FilteredIndexView implements IndexView {
      */
     @Override
     public Collection<ClassInfo> getKnownDirectImplementors(DotName className) {
-        return filterClasses(this.delegate.getKnownDirectImplementors(className));
+        return lookup(directImplementors, className, name -> filterClasses(this.delegate.getKnownDirectImplementors(name)));
     }
 
     /**
@@ -270,7 +392,7 @@ public class FilteredIndexView implements IndexView {
      */
     @Override
     public Collection<ClassInfo> getAllKnownImplementors(DotName interfaceName) {
-        return filterClasses(this.delegate.getAllKnownImplementors(interfaceName));
+        return lookup(allImplementors, interfaceName, name -> filterClasses(this.delegate.getAllKnownImplementors(name)));
     }
 
     /**
@@ -278,7 +400,7 @@ public class FilteredIndexView implements IndexView {
      */
     @Override
     public Collection<AnnotationInstance> getAnnotations(DotName annotationName) {
-        return filterInstances(this.delegate.getAnnotations(annotationName));
+        return lookup(annotations, annotationName, name -> filterInstances(this.delegate.getAnnotations(name)));
     }
 
     /**
@@ -301,7 +423,34 @@ public class FilteredIndexView implements IndexView {
 
     @Override
     public Collection<ClassInfo> getKnownUsers(DotName className) {
-        return filterClasses(this.delegate.getKnownUsers(className));
+        return lookup(users, className, name -> filterClasses(this.delegate.getKnownUsers(name)));
+    }
+
+    /**
+     * Perform the lookup of the given name. When the lookup cache is enabled, the result is
+     * retained as an unmodifiable collection and returned for subsequent lookups of the same
+     * name.
+     */
+    private <T> Collection<T> lookup(Map<DotName, Collection<T>> cache, DotName name,
+            Function<DotName, Collection<T>> filteredLookup) {
+        if (!lookupCacheEnabled) {
+            return filteredLookup.apply(name);
+        }
+
+        Collection<T> result = cache.get(name);
+
+        if (result == null) {
+            result = cache.computeIfAbsent(name, n -> unmodifiable(filteredLookup.apply(n)));
+        }
+
+        return result;
+    }
+
+    private static <T> Collection<T> unmodifiable(Collection<T> values) {
+        if (values == null || values.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableCollection(values);
     }
 
     private Collection<AnnotationInstance> filterInstances(Collection<AnnotationInstance> annotations) {
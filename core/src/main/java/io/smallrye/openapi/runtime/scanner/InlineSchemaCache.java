@@ -0,0 +1,175 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.WildcardType;
+
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.runtime.io.CurrentScannerInfo;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScanner;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+
+/**
+ * Scan-scoped cache of the schemas built by
+ * {@link OpenApiDataObjectScanner#process(AnnotationScannerContext, Type)} for types
+ * that are not (or not yet) replaced by a reference to a registered schema, e.g. when
+ * the type may not be registered. Without the cache, each occurrence of such a type
+ * would be scanned again.
+ *
+ * The schema built for a type depends on the state of the {@link SchemaRegistry}:
+ * nested types present in the registry are represented by references. An entry is
+ * therefore only stored when the registry was not modified while the schema was built,
+ * and it is only used while the registry remains unmodified. Entries are only used for
+ * top-level occurrences of fully resolved types (not containing type variables), for
+ * which the result does not depend on the enclosing scan.
+ *
+ * The cache holds its own frozen copy of each schema, see {@link SchemaImpl#freeze(Schema)},
+ * and hands out copies of it created using {@link SchemaImpl#copyOf(Schema)}. Callers are
+ * free to modify the schemas they receive, which share their (frozen) nested schemas with
+ * the cached schema and with each other. A nested schema must be replaced by a copy before
+ * it is modified.
+ */
+public class InlineSchemaCache {
+
+    private final Map<Key, Entry> schemas = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Determine whether the schema of the type may be cached in the given context.
+     *
+     * @param context current scanner context
+     * @param type the type to be scanned
+     * @return true if the type is fully resolved and not nested in another scan
+     */
+    static boolean isCacheable(AnnotationScannerContext context, Type type) {
+        return context.getScanStack().isEmpty() && isResolved(type);
+    }
+
+    private static boolean isResolved(Type type) {
+        if (type == null) {
+            return true;
+        }
+
+        switch (type.kind()) {
+            case CLASS:
+            case PRIMITIVE:
+            case VOID:
+                return true;
+            case ARRAY:
+                return isResolved(type.asArrayType().component());
+            case PARAMETERIZED_TYPE:
+                return type.asParameterizedType().arguments().stream().allMatch(InlineSchemaCache::isResolved);
+            case WILDCARD_TYPE:
+                WildcardType wildcard = type.asWildcardType();
+                return isResolved(wildcard.extendsBound()) && isResolved(wildcard.superBound());
+            default:
+                // Type variables depend on the enclosing scan
+                return false;
+        }
+    }
+
+    /**
+     * Retrieve a copy of the cached schema of the type, if present and still valid.
+     *
+     * @param context current scanner context
+     * @param type the type to be scanned
+     * @return a copy of the schema, or null if the schema must be built
+     */
+    Schema get(AnnotationScannerContext context, Type type) {
+        SchemaRegistry registry = context.getSchemaRegistry();
+        Entry entry = schemas.get(new Key(type, registry));
+
+        if (entry != null && entry.modificationCount == modificationCount(registry)) {
+            hits.increment();
+            return SchemaImpl.copyOf(entry.schema);
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Store a frozen copy of the schema built for the type, provided the registry was not
+     * modified since the given modification count was obtained.
+     *
+     * @param context current scanner context
+     * @param type the type that was scanned
+     * @param modificationCount the registry's modification count before the schema was built
+     * @param schema the schema built for the type
+     */
+    void put(AnnotationScannerContext context, Type type, int modificationCount, Schema schema) {
+        SchemaRegistry registry = context.getSchemaRegistry();
+
+        if (schema instanceof SchemaImpl && modificationCount == modificationCount(registry)) {
+            schemas.put(new Key(type, registry), new Entry(modificationCount, SchemaImpl.freeze(SchemaImpl.copyOf(schema))));
+        }
+    }
+
+    static int modificationCount(SchemaRegistry registry) {
+        return registry != null ? registry.getModificationCount() : 0;
+    }
+
+    /**
+     * Number of schemas served from the cache.
+     *
+     * @return count of cache hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of cacheable schemas that had to be built.
+     *
+     * @return count of cache misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    private static final class Key {
+        private final Type type;
+        private final SchemaRegistry registry;
+        private final AnnotationScanner scanner;
+
+        Key(Type type, SchemaRegistry registry) {
+            this.type = type;
+            this.registry = registry;
+            // Wrapper and internal response types are specific to the scanner
+            this.scanner = CurrentScannerInfo.getCurrentAnnotationScanner();
+        }
+
+        @Override
+        public int hashCode() {
+            return type.hashCode() * 31 + System.identityHashCode(registry);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return registry == other.registry && scanner == other.scanner && Objects.equals(type, other.type);
+        }
+    }
+
+    private static final class Entry {
+        private final int modificationCount;
+        private final Schema schema;
+
+        Entry(int modificationCount, Schema schema) {
+            this.modificationCount = modificationCount;
+            this.schema = schema;
+        }
+    }
+}
@@ -31,9 +31,12 @@ import io.smallrye.openapi.runtime.io.definition.DefinitionConstant;
 import io.smallrye.openapi.runtime.io.definition.DefinitionReader;
 import io.smallrye.openapi.runtime.io.schema.SchemaConstant;
 import io.smallrye.openapi.runtime.io.schema.SchemaFactory;
+import io.smallrye.openapi.runtime.scanner.dataobject.PropertyModelCache;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScanner;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerFactory;
+import io.smallrye.openapi.runtime.scanner.spi.ParameterTemplateCache;
+import io.smallrye.openapi.runtime.util.TypeHierarchyCache;
 
 /**
  * Scans a deployment (using the archive and jandex annotation index) for OpenAPI annotations.
@@ -114,6 +117,15 @@ public class OpenApiAnnotationScanner {
      * @return OpenAPI generated from scanning annotations
      */
     public OpenAPI scan(String... filter) {
+        try {
+            return scanAll(filter);
+        } finally {
+            // The registry remains available from the context, release the thread's reference to it
+            SchemaRegistry.remove();
+        }
+    }
+
+    private OpenAPI scanAll(String... filter) {
         // First scan the MicroProfile OpenAPI Annotations. Maybe later we can load this with SPI as well, and allow other Annotation sets.
         OpenAPI openApi = scanMicroProfileOpenApiAnnotations();
 
@@ -131,6 +143,20 @@ public class OpenApiAnnotationScanner {
         sortTags(annotationScannerContext, openApi);
         sortMaps(openApi);
 
+        TypeHierarchyCache typeHierarchyCache = annotationScannerContext.getTypeHierarchyCache();
+        ScannerLogging.logger.classLoaderFallbacks(typeHierarchyCache.getClassLoaderFallbackCount(),
+                typeHierarchyCache.getUnloadableClassCount());
+
+        PropertyModelCache propertyModelCache = annotationScannerContext.getPropertyModelCache();
+        ScannerLogging.logger.propertyModelCache(propertyModelCache.getHitCount(), propertyModelCache.getMissCount());
+
+        InlineSchemaCache inlineSchemaCache = annotationScannerContext.getInlineSchemaCache();
+        ScannerLogging.logger.inlineSchemaCache(inlineSchemaCache.getHitCount(), inlineSchemaCache.getMissCount());
+
+        ParameterTemplateCache parameterTemplateCache = annotationScannerContext.getParameterTemplateCache();
+        ScannerLogging.logger.parameterTemplateCache(parameterTemplateCache.getHitCount(),
+                parameterTemplateCache.getMissCount());
+
         return openApi;
     }
 
@@ -140,7 +166,7 @@ public class OpenApiAnnotationScanner {
         OpenAPI openApi = this.annotationScannerContext.getOpenApi();
         openApi.setOpenapi(OpenApiConstants.OPEN_API_VERSION);
 
-        // Creating a new instance of a registry which will be set on the thread context.
+        // Creating a new instance of a registry which will be set on the scanner context.
         SchemaRegistry schemaRegistry = SchemaRegistry.newInstance(annotationScannerContext);
 
         // Register custom schemas if available
@@ -154,12 +154,28 @@ public class OpenApiDataObjectScanner {
      * @return the OAI schema
      */
     public static Schema process(final AnnotationScannerContext context, Type type) {
+        InlineSchemaCache cache = context.getInlineSchemaCache();
+        boolean cacheable = InlineSchemaCache.isCacheable(context, type);
+        Schema schema;
+
+        if (cacheable && (schema = cache.get(context, type)) != null) {
+            return schema;
+        }
+
+        int modificationCount = InlineSchemaCache.modificationCount(context.getSchemaRegistry());
+
         try {
             context.getScanStack().push(type);
-            return new OpenApiDataObjectScanner(context, type).process();
+            schema = new OpenApiDataObjectScanner(context, type).process();
         } finally {
             context.getScanStack().pop();
         }
+
+        if (cacheable) {
+            cache.put(context, type, modificationCount, schema);
+        }
+
+        return schema;
     }
 
     /**
@@ -221,7 +237,7 @@ public class OpenApiDataObjectScanner {
 
             Type currentType = currentPathEntry.getClazzType();
 
-            if (SchemaRegistry.hasSchema(currentType, null)) {
+            if (SchemaRegistry.hasSchema(context, currentType, null)) {
                 // This type has already been scanned and registered, don't do it again!
                 continue;
             }
@@ -291,9 +307,9 @@ public class OpenApiDataObjectScanner {
                 this.rootSchema = enclosingSchema;
             }
 
-            if (SchemaRegistry.hasSchema(currentType, null)) {
+            if (SchemaRegistry.hasSchema(context, currentType, null)) {
                 // Replace the registered schema if one is present
-                SchemaRegistry.currentInstance().register(currentType, enclosingSchema);
+                context.getSchemaRegistry().register(currentType, enclosingSchema);
             }
         }
     }
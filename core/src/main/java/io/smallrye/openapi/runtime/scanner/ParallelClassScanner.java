@@ -0,0 +1,214 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.jboss.jandex.ClassInfo;
+
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.util.ClassLoaderUtil;
+import io.smallrye.openapi.api.util.MergeUtil;
+import io.smallrye.openapi.runtime.io.CurrentScannerInfo;
+import io.smallrye.openapi.runtime.scanner.processor.JavaSecurityProcessor;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScanner;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+
+/**
+ * Processes a list of classes (e.g. JAX-RS resource classes), optionally on a {@link ForkJoinPool}.
+ *
+ * When processed in parallel, each class is processed by a separate worker scanner using its own
+ * {@link AnnotationScannerContext},
+ * partial {@link OpenAPI} model and {@link SchemaRegistry}. Once all classes have been processed,
+ * the partial models are merged into the scan's model in the order of the list, with schema names
+ * assigned as if the classes had been processed one after the other. The result is the same model
+ * that processing the classes serially would produce.
+ *
+ * Merging is only equivalent to serial processing when each operation is declared by a single
+ * class. When several classes declare the same operation (path and HTTP method), serial processing
+ * combines them in ways a merge of the partial models cannot reproduce, e.g. lists of alternative
+ * schemas grow with the schema instances already in the model. In that case the partial models
+ * are discarded and the classes are processed serially by the calling scanner.
+ */
+public class ParallelClassScanner {
+
+    /**
+     * Processing of a single class by a scanner.
+     *
+     * @param <S> type of the scanner
+     */
+    @FunctionalInterface
+    public interface ClassProcessor<S extends AnnotationScanner> {
+        /**
+         * Process the class, adding the result to the given model.
+         *
+         * @param scanner scanner processing the class
+         * @param context scanning context
+         * @param openApi model to be populated
+         * @param classInfo the class
+         */
+        void process(S scanner, AnnotationScannerContext context, OpenAPI openApi, ClassInfo classInfo);
+    }
+
+    private ParallelClassScanner() {
+    }
+
+    /**
+     * Process the classes and add the results to the model. The classes are processed in
+     * parallel when enabled by configuration and supported by the scanner for the current
+     * deployment, otherwise one after the other by the scanner itself.
+     *
+     * @param <S> type of the scanner
+     * @param context scanning context
+     * @param openApi model to be populated
+     * @param classes the classes to process, in the order their results are merged
+     * @param scanner the calling scanner, used when processing serially
+     * @param workerFactory creates a new scanner for each class, initialized like the calling scanner
+     * @param parallelSupported whether the scanner supports processing the classes in parallel
+     * @param processor processing to be applied to each class
+     */
+    public static <S extends AnnotationScanner> void scan(final AnnotationScannerContext context,
+            OpenAPI openApi,
+            List<ClassInfo> classes,
+            S scanner,
+            Supplier<S> workerFactory,
+            boolean parallelSupported,
+            ClassProcessor<S> processor) {
+
+        if (context.getConfig().parallelScanEnable() && classes.size() > 1) {
+            if (parallelSupported) {
+                scanParallel(context, openApi, classes, scanner, workerFactory, processor);
+                return;
+            }
+            ScannerLogging.logger.parallelScanUnsupported(scanner.getName());
+        }
+
+        for (ClassInfo classInfo : classes) {
+            processor.process(scanner, context, openApi, classInfo);
+        }
+    }
+
+    private static <S extends AnnotationScanner> void scanParallel(final AnnotationScannerContext context,
+            OpenAPI openApi,
+            List<ClassInfo> classes,
+            S scanner,
+            Supplier<S> workerFactory,
+            ClassProcessor<S> processor) {
+
+        final SchemaRegistry registry = context.getSchemaRegistry();
+        final ForkJoinPool pool = ClassLoaderUtil.newForkJoinPool();
+        final List<ForkJoinTask<WorkerResult>> tasks = new ArrayList<>(classes.size());
+
+        ScannerLogging.logger.parallelScan(classes.size(), pool.getParallelism());
+
+        try {
+            for (ClassInfo classInfo : classes) {
+                S worker = workerFactory.get();
+                tasks.add(pool.submit(() -> process(context, registry, worker, processor, classInfo)));
+            }
+
+            List<WorkerResult> results = new ArrayList<>(tasks.size());
+
+            for (ForkJoinTask<WorkerResult> task : tasks) {
+                results.add(task.join());
+            }
+
+            if (hasConflictingOperations(results)) {
+                // Nothing has been merged yet, the scan's model and registry are unchanged
+                ScannerLogging.logger.parallelScanConflict(scanner.getName());
+
+                for (ClassInfo classInfo : classes) {
+                    processor.process(scanner, context, openApi, classInfo);
+                }
+                return;
+            }
+
+            for (WorkerResult result : results) {
+                merge(registry, openApi, result);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static <S extends AnnotationScanner> WorkerResult process(AnnotationScannerContext context,
+            SchemaRegistry registry,
+            S worker,
+            ClassProcessor<S> processor,
+            ClassInfo classInfo) {
+
+        OpenAPI partial = new OpenAPIImpl();
+        partial.setOpenapi(OpenApiConstants.OPEN_API_VERSION);
+
+        AnnotationScannerContext workerContext = new AnnotationScannerContext(context, partial);
+        SchemaRegistry workerRegistry = registry != null ? registry.newWorkerInstance(workerContext) : null;
+
+        // The task may be run by the calling thread while it waits, keep its state intact
+        AnnotationScannerContext previousContext = SchemaRegistry.bind(workerContext);
+        AnnotationScanner previousScanner = CurrentScannerInfo.getCurrentAnnotationScanner();
+
+        try {
+            CurrentScannerInfo.register(worker);
+            processor.process(worker, workerContext, partial, classInfo);
+        } finally {
+            SchemaRegistry.bind(previousContext);
+            if (previousScanner != null) {
+                CurrentScannerInfo.register(previousScanner);
+            } else {
+                CurrentScannerInfo.remove();
+            }
+            JavaSecurityProcessor.remove();
+        }
+
+        return new WorkerResult(partial, workerRegistry);
+    }
+
+    /**
+     * Determine whether an operation (path and HTTP method) is declared by more than one
+     * of the partial models.
+     */
+    private static boolean hasConflictingOperations(List<WorkerResult> results) {
+        Set<String> operations = new HashSet<>();
+
+        for (WorkerResult result : results) {
+            if (result.openApi.getPaths() == null || result.openApi.getPaths().getPathItems() == null) {
+                continue;
+            }
+            for (Map.Entry<String, PathItem> path : result.openApi.getPaths().getPathItems().entrySet()) {
+                for (PathItem.HttpMethod method : path.getValue().getOperations().keySet()) {
+                    if (!operations.add(method + " " + path.getKey())) {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static void merge(SchemaRegistry registry, OpenAPI openApi, WorkerResult result) {
+        if (result.registry != null) {
+            registry.mergeWorkerInstance(result.registry);
+        }
+
+        MergeUtil.merge(openApi, result.openApi);
+    }
+
+    private static class WorkerResult {
+        final OpenAPI openApi;
+        final SchemaRegistry registry;
+
+        WorkerResult(OpenAPI openApi, SchemaRegistry registry) {
+            this.openApi = openApi;
+            this.registry = registry;
+        }
+    }
+}
@@ -37,4 +37,32 @@ interface ScannerLogging extends BasicLogger {
     @Message(id = 4005, value = "Could not find schema class in index: %s")
     void schemaTypeNotFound(DotName className);
 
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4006, value = "Class loader used %d times to resolve type assignability, %d classes could not be loaded")
+    void classLoaderFallbacks(long fallbackCount, int unloadableCount);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4007, value = "Scanning %d classes in parallel using %d threads")
+    void parallelScan(int classCount, int parallelism);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4008, value = "Parallel scanning is not supported by the %s scanner for this deployment, scanning serially")
+    void parallelScanUnsupported(String scannerName);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4009, value = "Property models served from cache %d times, computed %d times")
+    void propertyModelCache(long hitCount, long missCount);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4010, value = "Inline schemas served from cache %d times, built %d times")
+    void inlineSchemaCache(long hitCount, long missCount);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4011, value = "Parameter templates served from cache %d times, collected %d times")
+    void parameterTemplateCache(long hitCount, long missCount);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4012, value = "Operations declared by several classes, scanning serially using the %s scanner")
+    void parallelScanConflict(String scannerName);
+
 }
@@ -2,11 +2,16 @@ package io.smallrye.openapi.runtime.scanner;
 
 import static io.smallrye.openapi.runtime.util.TypeUtil.getSchemaAnnotation;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 
 import org.eclipse.microprofile.openapi.models.Components;
@@ -37,18 +42,31 @@ import io.smallrye.openapi.runtime.util.TypeUtil;
  * A simple registry used to track schemas that have been generated and inserted
  * into the #/components section of the
  *
+ * The registry is held by the {@link AnnotationScannerContext} of a scan and may be
+ * used by several threads at once. Lookups do not block, registrations are
+ * serialized so that a name collision is always resolved against the names
+ * registered before it.
+ *
+ * When two types would be given the same schema name, the type registered later gets
+ * a numeric suffix. Names are therefore only deterministic when the types are registered
+ * in a deterministic order. A parallel scan guarantees this by registering the types with
+ * per-worker registries (see {@link #newWorkerInstance(AnnotationScannerContext)}) that are
+ * merged in the order of the scanned classes. Threads registering colliding types with the
+ * same registry directly get suffixes in the order they acquire the registry's lock.
+ *
  * @author eric.wittmann@gmail.com
  */
 public class SchemaRegistry {
 
-    // Initial value is null
-    private static final ThreadLocal<SchemaRegistry> current = new ThreadLocal<>();
+    // Context of the scan running on the thread, initial value is null
+    private static final ThreadLocal<AnnotationScannerContext> current = new ThreadLocal<>();
 
     /**
-     * Create a new instance of a {@link SchemaRegistry} on this thread. The
+     * Create a new instance of a {@link SchemaRegistry} for the given context. The
      * registry returned by this method may also be obtained by subsequent calls
-     * to {@link #currentInstance()}. Additional calls of this method will
-     * replace the registry in the current thread context with a new instance.
+     * to {@link AnnotationScannerContext#getSchemaRegistry()} and, on this thread,
+     * {@link #currentInstance()}. Additional calls of this method will replace the
+     * registry of the context with a new instance.
      *
      * @param context
      *        current scanner context
@@ -56,26 +74,47 @@ public class SchemaRegistry {
      */
     public static SchemaRegistry newInstance(AnnotationScannerContext context) {
         SchemaRegistry registry = new SchemaRegistry(context);
-        current.set(registry);
+        context.setSchemaRegistry(registry);
+        current.set(context);
         return registry;
     }
 
     /**
-     * Retrieve the {@link SchemaRegistry} previously created by
-     * {@link SchemaRegistry#newInstance(AnnotationScannerContext)
-     * newInstance} for the current thread, or <code>null</code> if none has yet
+     * Retrieve the {@link SchemaRegistry} of the scanner context for which
+     * {@link SchemaRegistry#newInstance(AnnotationScannerContext) newInstance}
+     * was last called on the current thread, or <code>null</code> if none has yet
      * been created.
      *
      * @return a {@link SchemaRegistry} instance or null
      */
     public static SchemaRegistry currentInstance() {
-        return current.get();
+        AnnotationScannerContext context = current.get();
+        return context != null ? context.getSchemaRegistry() : null;
     }
 
     public static void remove() {
         current.remove();
     }
 
+    /**
+     * Make the registry of the given context the one returned by {@link #currentInstance()}
+     * on this thread.
+     *
+     * @param context context to bind to the current thread, may be null
+     * @return the context previously bound to the current thread, or null
+     */
+    static AnnotationScannerContext bind(AnnotationScannerContext context) {
+        AnnotationScannerContext previous = current.get();
+
+        if (context != null) {
+            current.set(context);
+        } else {
+            current.remove();
+        }
+
+        return previous;
+    }
+
     /**
      * Check if the entityType is eligible for registration using the
      * typeResolver. The eligible kinds of types are
@@ -107,7 +146,32 @@ public class SchemaRegistry {
      *         to the schema registered for the given Type
      */
     public static Schema checkRegistration(Type type, TypeResolver resolver, Schema schema) {
-        return register(type, resolver, schema, (registry, key) -> registry.register(key, schema, null));
+        return checkRegistration(currentInstance(), type, resolver, schema);
+    }
+
+    /**
+     * Same as {@link #checkRegistration(Type, TypeResolver, Schema)}, using the
+     * registry of the given context.
+     *
+     * @param context
+     *        current scanner context
+     * @param type
+     *        the {@link Type} the {@link Schema} applies to
+     * @param resolver
+     *        a {@link TypeResolver} that will be used to resolve
+     *        parameterized and wildcard types
+     * @param schema
+     *        {@link Schema} to add to the registry
+     * @return the same schema if not eligible for registration, or a reference
+     *         to the schema registered for the given Type
+     */
+    public static Schema checkRegistration(AnnotationScannerContext context, Type type, TypeResolver resolver,
+            Schema schema) {
+        return checkRegistration(context.getSchemaRegistry(), type, resolver, schema);
+    }
+
+    private static Schema checkRegistration(SchemaRegistry registry, Type type, TypeResolver resolver, Schema schema) {
+        return register(registry, type, resolver, schema, (r, key) -> r.register(key, schema, null));
     }
 
     /**
@@ -141,10 +205,35 @@ public class SchemaRegistry {
      *         to the schema registered for the given Type
      */
     public static Schema registerReference(Type type, TypeResolver resolver, Schema schema) {
-        return register(type, resolver, schema, (registry, key) -> registry.registerReference(key));
+        return registerReference(currentInstance(), type, resolver, schema);
     }
 
-    static Schema register(Type type, TypeResolver resolver, Schema schema,
+    /**
+     * Same as {@link #registerReference(Type, TypeResolver, Schema)}, using the
+     * registry of the given context.
+     *
+     * @param context
+     *        current scanner context
+     * @param type
+     *        the {@link Type} the {@link Schema} applies to
+     * @param resolver
+     *        a {@link TypeResolver} that will be used to resolve
+     *        parameterized and wildcard types
+     * @param schema
+     *        {@link Schema} to add to the registry
+     * @return the same schema if not eligible for registration, or a reference
+     *         to the schema registered for the given Type
+     */
+    public static Schema registerReference(AnnotationScannerContext context, Type type, TypeResolver resolver,
+            Schema schema) {
+        return registerReference(context.getSchemaRegistry(), type, resolver, schema);
+    }
+
+    private static Schema registerReference(SchemaRegistry registry, Type type, TypeResolver resolver, Schema schema) {
+        return register(registry, type, resolver, schema, SchemaRegistry::registerReference);
+    }
+
+    static Schema register(SchemaRegistry registry, Type type, TypeResolver resolver, Schema schema,
             BiFunction<SchemaRegistry, TypeKey, Schema> registrationAction) {
         Type resolvedType;
 
@@ -164,24 +253,22 @@ public class SchemaRegistry {
                 return schema;
         }
 
-        SchemaRegistry registry = currentInstance();
-
         if (registry == null) {
             return schema;
         }
 
-        TypeKey key = new TypeKey(resolvedType);
+        return registry.registerIfAbsent(new TypeKey(resolvedType), schema, registrationAction);
+    }
 
-        if (registry.hasRef(key)) {
-            schema = registry.lookupRef(key);
-        } else if (!registry.isTypeRegistrationSupported(resolvedType, schema)
-                || registry.index.getClassByName(resolvedType.name()) == null) {
+    private synchronized Schema registerIfAbsent(TypeKey key, Schema schema,
+            BiFunction<SchemaRegistry, TypeKey, Schema> registrationAction) {
+        if (hasRef(key)) {
+            return lookupRef(key);
+        }
+        if (!isTypeRegistrationSupported(key.type, schema) || index.getClassByName(key.type.name()) == null) {
             return schema;
-        } else {
-            schema = registrationAction.apply(registry, key);
         }
-
-        return schema;
+        return registrationAction.apply(this, key);
     }
 
     /**
@@ -193,8 +280,23 @@ public class SchemaRegistry {
      * @return true when schema references are enabled and the type is present in the registry, otherwise false
      */
     public static boolean hasSchema(Type type, TypeResolver resolver) {
-        SchemaRegistry registry = currentInstance();
+        return hasSchema(currentInstance(), type, resolver);
+    }
+
+    /**
+     * Convenience method to check if the given context's <code>SchemaRegistry</code>
+     * contains a schema for the given type (which may require type resolution using resolver).
+     *
+     * @param context current scanner context
+     * @param type type to check for existence of schema
+     * @param resolver resolver for type parameter
+     * @return true when schema references are enabled and the type is present in the registry, otherwise false
+     */
+    public static boolean hasSchema(AnnotationScannerContext context, Type type, TypeResolver resolver) {
+        return hasSchema(context.getSchemaRegistry(), type, resolver);
+    }
 
+    private static boolean hasSchema(SchemaRegistry registry, Type type, TypeResolver resolver) {
         if (registry == null) {
             return false;
         }
@@ -232,14 +334,41 @@ public class SchemaRegistry {
     private final OpenAPI oai;
     private final IndexView index;
 
-    private final Map<TypeKey, GeneratedSchemaInfo> registry = new LinkedHashMap<>();
+    /*
+     * Read without locking, modified only while holding the registry's lock. The
+     * names are only accessed while holding the lock and kept in registration order.
+     */
+    private final Map<TypeKey, GeneratedSchemaInfo> registry = new ConcurrentHashMap<>();
+    private final AtomicInteger modifications = new AtomicInteger();
     private final Set<String> names = new LinkedHashSet<>();
 
+    /*
+     * Schema references created by the workers of a parallel scan, by type and by the
+     * number of times the type had been registered before by the worker. Shared so that
+     * all workers use the same reference instances for a type, like classes scanned one
+     * after the other do.
+     */
+    private final Map<TypeKey, Map<Integer, Schema>> workerRefs;
+
+    /*
+     * Registrations of each type by a worker instance, in the order the types were
+     * first registered. Null for instances not created for a worker.
+     */
+    private final Map<TypeKey, List<GeneratedSchemaInfo>> workerRegistrations;
+
+    /*
+     * Schema names explicitly requested for the types registered by a worker instance.
+     */
+    private final Map<TypeKey, String> workerSchemaNames;
+
     private SchemaRegistry(AnnotationScannerContext context) {
         this.context = context;
         this.config = context.getConfig();
         this.oai = context.getOpenApi();
         this.index = context.getAugmentedIndex();
+        this.workerRefs = new ConcurrentHashMap<>();
+        this.workerRegistrations = null;
+        this.workerSchemaNames = null;
 
         /*
          * If anything has been added in the component scan, add the names here
@@ -272,6 +401,86 @@ public class SchemaRegistry {
         });
     }
 
+    private SchemaRegistry(AnnotationScannerContext context, SchemaRegistry parent) {
+        this.context = context;
+        this.config = context.getConfig();
+        this.oai = context.getOpenApi();
+        this.index = context.getAugmentedIndex();
+        this.workerRefs = parent.workerRefs;
+        this.workerRegistrations = new LinkedHashMap<>();
+        this.workerSchemaNames = new HashMap<>();
+
+        synchronized (parent) {
+            this.registry.putAll(parent.registry);
+            this.names.addAll(parent.names);
+        }
+
+        context.setSchemaRegistry(this);
+    }
+
+    /**
+     * Create a registry for a worker of a parallel scan. The worker registry starts
+     * with a copy of this registry's entries and adds the schemas it registers to the
+     * worker context's (partial) OpenAPI model and becomes the worker context's
+     * registry. This registry must not be modified while workers are running.
+     *
+     * @param workerContext context of the worker
+     * @return the worker registry
+     */
+    SchemaRegistry newWorkerInstance(AnnotationScannerContext workerContext) {
+        return new SchemaRegistry(workerContext, this);
+    }
+
+    /**
+     * Merge the types registered by a worker into this registry, in the order the worker
+     * first registered them. Types already registered here keep their existing schema
+     * unless only a reference had been registered so far. New types are named as if they
+     * had been registered directly with this registry, so the resulting names do not depend
+     * on the order in which workers ran. The references created by the worker are updated
+     * to use the name assigned here and its schemas are removed from the worker's OpenAPI
+     * model.
+     *
+     * @param worker registry previously created by {@link #newWorkerInstance(AnnotationScannerContext)}
+     */
+    synchronized void mergeWorkerInstance(SchemaRegistry worker) {
+        Components workerComponents = worker.oai.getComponents();
+
+        worker.workerRegistrations.forEach((key, workerInfos) -> {
+            GeneratedSchemaInfo workerInfo = worker.registry.get(key);
+            GeneratedSchemaInfo info = registry.get(key);
+
+            if (info == null) {
+                adopt(key, workerInfo, worker.workerSchemaNames.get(key));
+            } else if (info.schema == null && workerInfo.schema != null) {
+                // This is a replacement registration
+                remove(key);
+                adopt(key, workerInfo, worker.workerSchemaNames.get(key));
+            }
+
+            String ref = OpenApiConstants.REF_PREFIX_SCHEMA + registry.get(key).name;
+
+            for (GeneratedSchemaInfo registration : workerInfos) {
+                registration.schemaRef.setRef(ref);
+
+                if (workerComponents != null) {
+                    workerComponents.removeSchema(registration.name);
+                }
+            }
+        });
+    }
+
+    private void adopt(TypeKey key, GeneratedSchemaInfo workerInfo, String schemaName) {
+        String name = deriveName(key, schemaName);
+
+        registry.put(key, new GeneratedSchemaInfo(name, workerInfo.schema, workerInfo.schemaRef));
+        names.add(name);
+        modifications.incrementAndGet();
+
+        if (workerInfo.schema != null) {
+            ModelUtil.components(oai).addSchema(name, workerInfo.schema);
+        }
+    }
+
     /**
      * Register the provided {@link Schema} for the provided {@link Type}. If an
      * existing schema has already been registered for the type, it will be
@@ -283,7 +492,7 @@ public class SchemaRegistry {
      *        {@link Schema} to add to the registry
      * @return a reference to the newly registered {@link Schema}
      */
-    public Schema register(Type entityType, Schema schema) {
+    public synchronized Schema register(Type entityType, Schema schema) {
         TypeKey key = new TypeKey(entityType);
 
         if (hasRef(key)) {
@@ -296,11 +505,11 @@ public class SchemaRegistry {
 
     private Schema registerReference(TypeKey key) {
         String name = deriveName(key, null);
-        Schema schemaRef = new SchemaImpl();
-        schemaRef.setRef(OpenApiConstants.REF_PREFIX_SCHEMA + name);
+        Schema schemaRef = createRef(key, name, null);
 
         registry.put(key, new GeneratedSchemaInfo(name, null, schemaRef));
         names.add(name);
+        modifications.incrementAndGet();
 
         return schemaRef;
     }
@@ -323,18 +532,44 @@ public class SchemaRegistry {
      */
     private Schema register(TypeKey key, Schema schema, String schemaName) {
         String name = deriveName(key, schemaName);
-        Schema schemaRef = new SchemaImpl();
-        schemaRef.setRef(OpenApiConstants.REF_PREFIX_SCHEMA + name);
+        Schema schemaRef = createRef(key, name, schemaName);
 
         registry.put(key, new GeneratedSchemaInfo(name, schema, schemaRef));
         names.add(name);
+        modifications.incrementAndGet();
 
         ModelUtil.components(oai).addSchema(name, schema);
 
         return schemaRef;
     }
 
-    String deriveName(TypeKey key, String schemaName) {
+    private Schema createRef(TypeKey key, String name, String schemaName) {
+        if (workerRegistrations == null) {
+            return newRef(name);
+        }
+
+        List<GeneratedSchemaInfo> registrations = workerRegistrations.computeIfAbsent(key, k -> new ArrayList<>());
+        Schema schemaRef = workerRefs.computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(registrations.size(), i -> newRef(name));
+
+        registrations.add(new GeneratedSchemaInfo(name, null, schemaRef));
+
+        if (schemaName != null) {
+            workerSchemaNames.put(key, schemaName);
+        } else {
+            workerSchemaNames.remove(key);
+        }
+
+        return schemaRef;
+    }
+
+    private static Schema newRef(String name) {
+        Schema schemaRef = new SchemaImpl();
+        schemaRef.setRef(OpenApiConstants.REF_PREFIX_SCHEMA + name);
+        return schemaRef;
+    }
+
+    synchronized String deriveName(TypeKey key, String schemaName) {
         /*
          * We cannot use the 'name' on the SchemaImpl because it may be a
          * property name rather then a schema name.
@@ -348,6 +583,7 @@ public class SchemaRegistry {
             }
         }
 
+        // Suffixes follow registration order, see the class description
         String nameBase = schemaName != null ? schemaName : key.defaultName();
         String name = nameBase;
         int idx = 1;
@@ -409,12 +645,25 @@ public class SchemaRegistry {
     }
 
     private boolean hasSchema(TypeKey key) {
-        return registry.containsKey(key) && registry.get(key).schema != null;
+        GeneratedSchemaInfo info = registry.get(key);
+        return info != null && info.schema != null;
     }
 
     private void remove(TypeKey key) {
         GeneratedSchemaInfo info = this.registry.remove(key);
         this.names.remove(info.name);
+        modifications.incrementAndGet();
+    }
+
+    /**
+     * Retrieve the number of registrations and removals performed on this registry.
+     * Two equal values obtained from the same registry indicate that no schema was
+     * registered or removed in between.
+     *
+     * @return the modification count
+     */
+    public int getModificationCount() {
+        return modifications.get();
     }
 
     /************************************************************************/
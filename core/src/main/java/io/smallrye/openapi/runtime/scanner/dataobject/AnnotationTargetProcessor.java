@@ -110,7 +110,7 @@ public class AnnotationTargetProcessor implements RequirementHandler {
      * <li>A schema containing only the attributes scanned or derived from the {@link #annotationTarget} which will include
      * attributes
      * of the {@link #entityType} if it is not able to be registered via
-     * {@link SchemaRegistry#registerReference(Type, TypeResolver, Schema) checkRegistration}.
+     * {@link SchemaRegistry#registerReference(AnnotationScannerContext, Type, TypeResolver, Schema) checkRegistration}.
      * </li>
      * </ol>
      *
@@ -149,10 +149,10 @@ public class AnnotationTargetProcessor implements RequirementHandler {
             if (typeSchema.getType() != SchemaType.ARRAY) {
                 // Only register a reference to the type schema. The full schema will be added by subsequent
                 // items on the stack (if not already present in the registry).
-                registeredTypeSchema = SchemaRegistry.registerReference(registrationType, typeResolver, typeSchema);
+                registeredTypeSchema = SchemaRegistry.registerReference(context, registrationType, typeResolver, typeSchema);
             } else {
                 // Allow registration of arrays since we may not encounter a List<CurrentType> again.
-                registeredTypeSchema = SchemaRegistry.checkRegistration(registrationType, typeResolver, typeSchema);
+                registeredTypeSchema = SchemaRegistry.checkRegistration(context, registrationType, typeResolver, typeSchema);
             }
         }
 
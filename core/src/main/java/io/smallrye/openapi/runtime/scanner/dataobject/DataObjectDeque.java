@@ -7,6 +7,7 @@ import java.util.List;
 import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.ParameterizedType;
 import org.jboss.jandex.Type;
 
@@ -89,7 +90,9 @@ public class DataObjectDeque {
         if (parentPathEntry.hasParent(entry)) {
             // Cycle detected, don't push path.
             DataObjectLogging.logger.possibleCycle(klazzInfo);
-            DataObjectLogging.logger.path(entry.toStringWithGraph());
+            if (DataObjectLogging.logger.isDebugEnabled()) {
+                DataObjectLogging.logger.path(entry.toStringWithGraph());
+            }
             if (schema.getDescription() == null) {
                 schema.description("Cyclic reference to " + klazzInfo.name());
             }
@@ -131,13 +134,28 @@ public class DataObjectDeque {
     }
 
     /**
-     * An entry on the object stack.
+     * An entry on the object stack. Entries share their ancestry (the path from the
+     * root) with all entries created for the same parent. Each entry also holds a
+     * Bloom filter of the classes on its path, so that cycle detection only needs to
+     * walk the ancestry when the candidate's class may be present.
+     *
+     * The filter has 512 bits, three of which are set for each class. For a path of 50
+     * distinct classes about 1.6% of the classes not on the path require a walk, and
+     * about 9% for a path of 100 classes. The filter is shared with the enclosing entry
+     * when the class of the entry does not add any bits.
      */
     public static final class PathEntry {
+        private static final int FILTER_BITS = 512;
+        private static final int FILTER_HASHES = 3;
+        private static final int FILTER_SHIFT = 9;
+        private static final long[] EMPTY_FILTER = new long[FILTER_BITS / Long.SIZE];
+
         private final PathEntry enclosing;
         private final AnnotationTarget annotationTarget;
         private final Type clazzType;
         private final ClassInfo clazz;
+        private final int classHash;
+        private final long[] pathFilter;
 
         // May be changed
         private Schema schema;
@@ -153,12 +171,61 @@ public class DataObjectDeque {
             this.clazz = clazz;
             this.clazzType = clazzType;
             this.schema = schema;
+            this.classHash = clazz != null ? classHash(clazz.name()) : 0;
+
+            long[] filter = enclosing != null ? enclosing.pathFilter : EMPTY_FILTER;
+            this.pathFilter = clazz != null ? addToFilter(filter, classHash) : filter;
+        }
+
+        /**
+         * Hash of the class name, the bits of the filter are taken from it. Equal
+         * entries always have the same class and therefore the same hash.
+         */
+        static int classHash(DotName className) {
+            int hash = className.hashCode();
+            hash ^= hash >>> 16;
+            hash *= 0x85EBCA6B;
+            hash ^= hash >>> 13;
+            hash *= 0xC2B2AE35;
+            hash ^= hash >>> 16;
+            return hash;
+        }
+
+        static boolean mightContain(long[] filter, int classHash) {
+            for (int i = 0; i < FILTER_HASHES; i++) {
+                int bit = (classHash >>> (i * FILTER_SHIFT)) & (FILTER_BITS - 1);
+                if ((filter[bit >>> 6] & (1L << (bit & 63))) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        static long[] addToFilter(long[] filter, int classHash) {
+            if (mightContain(filter, classHash)) {
+                return filter;
+            }
+
+            long[] result = filter.clone();
+
+            for (int i = 0; i < FILTER_HASHES; i++) {
+                int bit = (classHash >>> (i * FILTER_SHIFT)) & (FILTER_BITS - 1);
+                result[bit >>> 6] |= 1L << (bit & 63);
+            }
+
+            return result;
         }
 
         public boolean hasParent(PathEntry candidate) {
+            // Entries without a class are not in the filter, like equals(Object) they are always compared
+            if (candidate.clazz != null && !mightContain(pathFilter, candidate.classHash)) {
+                // The candidate's class is definitely not on the path
+                return false;
+            }
+
             PathEntry test = this;
             while (test != null) {
-                if (candidate.equals(test)) {
+                if (test.classHash == candidate.classHash && candidate.equals(test)) {
                     return true;
                 }
                 test = test.enclosing;
@@ -2,10 +2,11 @@ package io.smallrye.openapi.runtime.scanner.dataobject;
 
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
-import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.jboss.jandex.AnnotationInstance;
@@ -30,8 +31,22 @@ import io.smallrye.openapi.runtime.util.TypeUtil;
  */
 public class IgnoreResolver {
 
+    /*
+     * Bits of the annotation masks, each indicating the presence of annotations (or modifiers)
+     * relevant to one or more of the handlers anywhere in a class.
+     */
+    private static final int SCHEMA = 1;
+    private static final int JSONB_TRANSIENT = 1 << 1;
+    private static final int JSON_IGNORE_PROPERTIES = 1 << 2;
+    private static final int JSON_IGNORE = 1 << 3;
+    private static final int JSON_IGNORE_TYPE = 1 << 4;
+    private static final int TRANSIENT = 1 << 5;
+    private static final int JAXB_ACCESS = 1 << 6;
+    private static final int ALL = ~0;
+
     private final AugmentedIndexView index;
     private final IgnoreAnnotationHandler[] ignoreHandlers;
+    private final Map<DotName, Integer> annotationMasks = new ConcurrentHashMap<>();
 
     public IgnoreResolver(AugmentedIndexView index) {
         this.index = index;
@@ -53,7 +68,21 @@ public class IgnoreResolver {
     }
 
     public Visibility isIgnore(AnnotationTarget annotationTarget, AnnotationTarget reference) {
+        int mask = annotationMask(TypeUtil.getDeclaringClass(annotationTarget));
+
+        if (reference != null) {
+            // Only @JsonIgnoreProperties considers the referencing member
+            mask |= annotationMask(TypeUtil.getDeclaringClass(reference)) & JSON_IGNORE_PROPERTIES;
+        }
+
         for (IgnoreAnnotationHandler handler : ignoreHandlers) {
+            int handlerMask = handler.getAnnotationMask();
+
+            if (handlerMask != 0 && (handlerMask & mask) == 0) {
+                // None of the annotations used by the handler are present
+                continue;
+            }
+
             Visibility v = handler.shouldIgnore(annotationTarget, reference);
 
             if (v != Visibility.UNSET) {
@@ -67,6 +96,63 @@ public class IgnoreResolver {
         return this.index.getClass(type);
     }
 
+    /**
+     * Retrieve the bitmap of the ignore-relevant annotations and modifiers present
+     * anywhere in the class, i.e. on the class itself or any of its members.
+     *
+     * @param klazz the class, may be null
+     * @return the annotation mask, with all bits set if the class is null
+     */
+    int annotationMask(ClassInfo klazz) {
+        if (klazz == null) {
+            return ALL;
+        }
+
+        return annotationMasks.computeIfAbsent(klazz.name(), k -> computeAnnotationMask(klazz));
+    }
+
+    private static int computeAnnotationMask(ClassInfo klazz) {
+        Map<DotName, List<AnnotationInstance>> annotations = klazz.annotations();
+        int mask = 0;
+
+        if (annotations.containsKey(SchemaConstant.DOTNAME_SCHEMA)) {
+            mask |= SCHEMA;
+        }
+        if (containsAny(annotations, JsonbConstants.JSONB_TRANSIENT)) {
+            mask |= JSONB_TRANSIENT;
+        }
+        if (annotations.containsKey(JacksonConstants.JSON_IGNORE_PROPERTIES)) {
+            mask |= JSON_IGNORE_PROPERTIES;
+        }
+        if (annotations.containsKey(JacksonConstants.JSON_IGNORE)) {
+            mask |= JSON_IGNORE;
+        }
+        if (annotations.containsKey(JacksonConstants.JSON_IGNORE_TYPE)) {
+            mask |= JSON_IGNORE_TYPE;
+        }
+        if (containsAny(annotations, JaxbConstants.XML_TRANSIENT)
+                || containsAny(annotations, JaxbConstants.XML_ACCESSOR_TYPE)) {
+            mask |= JAXB_ACCESS;
+        }
+        for (FieldInfo field : klazz.unsortedFields()) {
+            if (Modifier.isTransient(field.flags())) {
+                mask |= TRANSIENT;
+                break;
+            }
+        }
+
+        return mask;
+    }
+
+    private static boolean containsAny(Map<DotName, List<AnnotationInstance>> annotations, List<DotName> names) {
+        for (DotName name : names) {
+            if (annotations.containsKey(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Handler for OAS hidden @{@link Schema}
      */
@@ -84,6 +170,11 @@ public class IgnoreResolver {
             return Visibility.UNSET;
         }
 
+        @Override
+        public int getAnnotationMask() {
+            return SCHEMA;
+        }
+
         @Override
         public List<DotName> getNames() {
             return Arrays.asList(SchemaConstant.DOTNAME_SCHEMA);
@@ -99,6 +190,11 @@ public class IgnoreResolver {
             return TypeUtil.hasAnnotation(target, getNames()) ? Visibility.IGNORED : Visibility.UNSET;
         }
 
+        @Override
+        public int getAnnotationMask() {
+            return JSONB_TRANSIENT;
+        }
+
         @Override
         public List<DotName> getNames() {
             return JsonbConstants.JSONB_TRANSIENT;
@@ -190,6 +286,11 @@ public class IgnoreResolver {
             }
         }
 
+        @Override
+        public int getAnnotationMask() {
+            return JSON_IGNORE_PROPERTIES;
+        }
+
         @Override
         public List<DotName> getNames() {
             return Arrays.asList(JacksonConstants.JSON_IGNORE_PROPERTIES);
@@ -210,6 +311,11 @@ public class IgnoreResolver {
             return Visibility.UNSET;
         }
 
+        @Override
+        public int getAnnotationMask() {
+            return JSON_IGNORE;
+        }
+
         @Override
         public List<DotName> getNames() {
             return Arrays.asList(JacksonConstants.JSON_IGNORE);
@@ -220,7 +326,7 @@ public class IgnoreResolver {
      * Handler for <code>com.fasterxml.jackson.annotation.JsonIgnoreType</code>
      */
     private final class JsonIgnoreTypeHandler implements IgnoreAnnotationHandler {
-        private final Set<DotName> ignoredTypes = new LinkedHashSet<>();
+        private final Set<DotName> ignoredTypes = ConcurrentHashMap.newKeySet();
 
         @Override
         public Visibility shouldIgnore(AnnotationTarget target, AnnotationTarget reference) {
@@ -266,6 +372,10 @@ public class IgnoreResolver {
                 return Visibility.IGNORED;
             }
 
+            if ((annotationMask(classInfo) & JSON_IGNORE_TYPE) == 0) {
+                return Visibility.UNSET;
+            }
+
             AnnotationInstance annotationInstance = TypeUtil.getAnnotation(classInfo, getNames());
             if (annotationInstance != null && valueAsBooleanOrTrue(annotationInstance)) {
                 // Add the ignored field or class name
@@ -276,6 +386,11 @@ public class IgnoreResolver {
             return Visibility.UNSET;
         }
 
+        @Override
+        public int getAnnotationMask() {
+            return 0;
+        }
+
         @Override
         public List<DotName> getNames() {
             return Arrays.asList(JacksonConstants.JSON_IGNORE_TYPE);
@@ -303,6 +418,11 @@ public class IgnoreResolver {
             return Visibility.UNSET;
         }
 
+        @Override
+        public int getAnnotationMask() {
+            return TRANSIENT;
+        }
+
         @Override
         public List<DotName> getNames() {
             return Arrays.asList(DotName.createSimple(TransientIgnoreHandler.class.getName()));
@@ -367,6 +487,11 @@ public class IgnoreResolver {
             return Visibility.IGNORED;
         }
 
+        @Override
+        public int getAnnotationMask() {
+            return JAXB_ACCESS;
+        }
+
         @Override
         public List<DotName> getNames() {
             return null;
@@ -383,6 +508,15 @@ public class IgnoreResolver {
         Visibility shouldIgnore(AnnotationTarget target, AnnotationTarget reference);
 
         List<DotName> getNames();
+
+        /**
+         * Bits of the annotation mask of which at least one must be present for the
+         * handler to apply to a target, or zero if the handler must always be consulted
+         * (e.g. because it depends on classes other than the target's declaring class).
+         *
+         * @return the handler's annotation mask
+         */
+        int getAnnotationMask();
     }
 
 }
@@ -0,0 +1,132 @@
+package io.smallrye.openapi.runtime.scanner.dataobject;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
+
+import io.smallrye.openapi.api.constants.JacksonConstants;
+import io.smallrye.openapi.runtime.util.TypeUtil;
+
+/**
+ * Scan-scoped cache of the property models computed by
+ * {@link TypeResolver#getAllFields(io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext, Type, ClassInfo, AnnotationTarget)
+ * TypeResolver.getAllFields}. Entries are keyed by the resolved type, its class, and
+ * the visibility context given by the referencing member, i.e. the property names
+ * listed by a <code>@JsonIgnoreProperties</code> annotation on the member.
+ *
+ * The cached maps are unmodifiable and the {@link TypeResolver}s they contain are
+ * not modified once the model has been computed, so a model may be shared by all
+ * callers, including the workers of a parallel scan.
+ */
+public class PropertyModelCache {
+
+    private final Map<Key, Map<String, TypeResolver>> models = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Retrieve the cached property model of the type, if present.
+     *
+     * @param key key of the model
+     * @return the unmodifiable property model, or null if not yet computed
+     */
+    Map<String, TypeResolver> get(Key key) {
+        Map<String, TypeResolver> result = models.get(key);
+
+        if (result != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+
+        return result;
+    }
+
+    /**
+     * Store the property model of the type unless another thread has already stored one.
+     *
+     * @param key key of the model
+     * @param model the property model
+     * @return the unmodifiable model held by the cache
+     */
+    Map<String, TypeResolver> put(Key key, Map<String, TypeResolver> model) {
+        Map<String, TypeResolver> result = Collections.unmodifiableMap(model);
+        Map<String, TypeResolver> existing = models.putIfAbsent(key, result);
+        return existing != null ? existing : result;
+    }
+
+    /**
+     * Number of property models served from the cache.
+     *
+     * @return count of cache hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of property models that had to be computed.
+     *
+     * @return count of cache misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    static Key key(Type leaf, ClassInfo leafKlazz, AnnotationTarget reference) {
+        List<String> ignoredProperties = null;
+
+        if (reference != null) {
+            AnnotationInstance jip = TypeUtil.getAnnotation(reference, JacksonConstants.JSON_IGNORE_PROPERTIES);
+
+            if (jip != null && jip.value() != null) {
+                ignoredProperties = Arrays.asList(jip.value().asStringArray());
+            }
+        }
+
+        return new Key(leaf, leafKlazz.name(), ignoredProperties);
+    }
+
+    static final class Key {
+        private final Type leaf;
+        private final DotName leafKlazz;
+        private final List<String> ignoredProperties;
+        private final int hash;
+
+        Key(Type leaf, DotName leafKlazz, List<String> ignoredProperties) {
+            this.leaf = leaf;
+            this.leafKlazz = leafKlazz;
+            this.ignoredProperties = ignoredProperties;
+            this.hash = Objects.hash(leaf, leafKlazz, ignoredProperties);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return leafKlazz.equals(other.leafKlazz)
+                    && Objects.equals(leaf, other.leaf)
+                    && Objects.equals(ignoredProperties, other.ignoredProperties);
+        }
+    }
+}
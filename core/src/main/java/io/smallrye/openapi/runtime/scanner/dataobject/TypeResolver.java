@@ -8,6 +8,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -158,6 +159,29 @@ public class TypeResolver {
         }
     }
 
+    /**
+     * Copy constructor, used to modify a resolver obtained from a (shared) property model.
+     *
+     * @param other the resolver to copy
+     */
+    private TypeResolver(TypeResolver other) {
+        this.nameTranslator = other.nameTranslator;
+        this.propertyName = other.propertyName;
+        this.resolutionStack = other.resolutionStack;
+        this.field = other.field;
+        this.readMethod = other.readMethod;
+        this.writeMethod = other.writeMethod;
+        this.ignored = other.ignored;
+        this.exposed = other.exposed;
+        this.readOnly = other.readOnly;
+        this.writeOnly = other.writeOnly;
+        this.leaf = other.leaf;
+        this.constraintTargets.addAll(other.constraintTargets);
+        this.propertyNamePrefix = other.propertyNamePrefix;
+        this.propertyNameSuffix = other.propertyNameSuffix;
+        this.targets.addAll(other.targets);
+    }
+
     /**
      * Get the declaring class of the annotation target.
      *
@@ -408,7 +432,7 @@ public class TypeResolver {
     }
 
     public List<AnnotationTarget> getConstraintTargets() {
-        return constraintTargets;
+        return Collections.unmodifiableList(constraintTargets);
     }
 
     /**
@@ -444,8 +468,33 @@ public class TypeResolver {
         return new TypeResolver(getPropertyNameTranslator(context, clazz), null, null, stack);
     }
 
+    /**
+     * Retrieve the properties of the given type, including those inherited from super
+     * classes and interfaces. The result is cached for the duration of the scan and
+     * must not be modified.
+     *
+     * @param context current scanner context
+     * @param leaf the type to be introspected
+     * @param leafKlazz the class of the type
+     * @param reference an annotated member (field or method) that referenced the type, may be null
+     * @return unmodifiable map of property names to their resolvers
+     */
     public static Map<String, TypeResolver> getAllFields(AnnotationScannerContext context, Type leaf,
             ClassInfo leafKlazz, AnnotationTarget reference) {
+        final PropertyModelCache cache = context.getPropertyModelCache();
+        final PropertyModelCache.Key key = PropertyModelCache.key(leaf, leafKlazz, reference);
+        Map<String, TypeResolver> properties = cache.get(key);
+
+        if (properties == null) {
+            // Not using computeIfAbsent, @JsonUnwrapped properties are cached recursively
+            properties = cache.put(key, computeAllFields(context, leaf, leafKlazz, reference));
+        }
+
+        return properties;
+    }
+
+    private static Map<String, TypeResolver> computeAllFields(AnnotationScannerContext context, Type leaf,
+            ClassInfo leafKlazz, AnnotationTarget reference) {
         final AugmentedIndexView index = context.getAugmentedIndex();
         Map<ClassInfo, Type> chain = JandexUtil.inheritanceChain(index, leafKlazz, leaf);
         Map<String, TypeResolver> properties = new LinkedHashMap<>();
@@ -701,7 +750,8 @@ public class TypeResolver {
 
         return unwrappedProperties.entrySet()
                 .stream()
-                .map(p -> applyPrefixSuffix(p, unwrapPrefix, unwrapSuffix))
+                .map(p -> applyPrefixSuffix(new SimpleEntry<>(p.getKey(), new TypeResolver(p.getValue())), unwrapPrefix,
+                        unwrapSuffix))
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
@@ -956,55 +1006,67 @@ public class TypeResolver {
      * @param chainKeys inheritance chain, child classes first
      * @return ordered map of properties
      */
-    private static Map<String, TypeResolver> sorted(Map<String, TypeResolver> properties, Set<ClassInfo> chainKeys) {
+    static Map<String, TypeResolver> sorted(Map<String, TypeResolver> properties, Set<ClassInfo> chainKeys) {
         List<ClassInfo> chain = new ArrayList<>(chainKeys);
         Collections.reverse(chain);
-        List<String> order = chain.stream()
-                .map(TypeResolver::propertyOrder)
-                .flatMap(List::stream)
-                .collect(Collectors.toList());
-        List<DotName> chainClassNames = chain.stream().map(ClassInfo::name).collect(Collectors.toList());
 
-        return properties.entrySet()
-                .stream()
-                .sorted((e1, e2) -> {
-                    TypeResolver r1 = e1.getValue();
-                    TypeResolver r2 = e2.getValue();
-                    ClassInfo c1 = r1.getDeclaringClass();
-                    ClassInfo c2 = r2.getDeclaringClass();
-
-                    int pIndex1 = order.indexOf(r1.getPropertyName());
-                    if (pIndex1 < 0) {
-                        // The order was specified by the original property name, not the customized name (or not at all)
-                        pIndex1 = order.indexOf(e1.getKey());
-                    }
+        // Rank of each property name by its first position in the declared orders, super classes first
+        Map<String, Integer> orderRanks = new HashMap<>();
+        int orderSize = 0;
+        for (ClassInfo clazz : chain) {
+            for (String name : propertyOrder(clazz)) {
+                orderRanks.putIfAbsent(name, orderSize++);
+            }
+        }
 
-                    int pIndex2 = order.indexOf(r2.getPropertyName());
-                    if (pIndex2 < 0) {
-                        // The order was specified by the original property name, not the customized name (or not at all)
-                        pIndex2 = order.indexOf(e2.getKey());
-                    }
+        Map<DotName, Integer> classRanks = new HashMap<>(chain.size() * 2);
+        for (int i = 0; i < chain.size(); i++) {
+            classRanks.putIfAbsent(chain.get(i).name(), i);
+        }
 
-                    if (pIndex1 > -1) {
-                        if (pIndex2 < 0) {
-                            return -1;
-                        }
-                        return Integer.compare(pIndex1, pIndex2);
-                    }
+        /*
+         * Properties named in an order sort first, by their rank in the order, followed
+         * by all others, by the rank of their declaring class. Each key holds the rank in
+         * the upper half and the original position in the lower half so that sorting the
+         * keys is stable.
+         */
+        @SuppressWarnings("unchecked")
+        Map.Entry<String, TypeResolver>[] entries = properties.entrySet().toArray(new Map.Entry[0]);
+        long[] keys = new long[entries.length];
 
-                    if (pIndex2 > -1) {
-                        return 1;
-                    }
+        for (int i = 0; i < entries.length; i++) {
+            Map.Entry<String, TypeResolver> entry = entries[i];
+            int rank = -1;
 
-                    int cIndex1 = chainClassNames.indexOf(c1.name());
-                    int cIndex2 = chainClassNames.indexOf(c2.name());
+            if (orderSize > 0) {
+                Integer orderRank = orderRanks.get(entry.getValue().getPropertyName());
+                if (orderRank == null) {
+                    // The order was specified by the original property name, not the customized name (or not at all)
+                    orderRank = orderRanks.get(entry.getKey());
+                }
+                if (orderRank != null) {
+                    rank = orderRank;
+                }
+            }
+
+            if (rank < 0) {
+                // Classes not in the chain (e.g. interfaces) sort before those in the chain
+                rank = orderSize + 1 + classRanks.getOrDefault(entry.getValue().getDeclaringClass().name(), -1);
+            }
+
+            keys[i] = ((long) rank << 32) | i;
+        }
+
+        Arrays.sort(keys);
+
+        Map<String, TypeResolver> result = new LinkedHashMap<>(entries.length * 4 / 3 + 1);
+
+        for (long key : keys) {
+            Map.Entry<String, TypeResolver> entry = entries[(int) key];
+            result.put(entry.getKey(), entry.getValue());
+        }
 
-                    return Integer.compare(cIndex1, cIndex2);
-                })
-                .collect(Collectors.toMap(Map.Entry::getKey,
-                        Map.Entry::getValue,
-                        (e1, e2) -> e1,
-                        LinkedHashMap::new));
+        return result;
     }
 
     /**
@@ -1013,7 +1075,7 @@ public class TypeResolver {
      * @param clazz the class to check for property ordering
      * @return a list of property names, in the order declared, or an empty list if none
      */
-    private static List<String> propertyOrder(ClassInfo clazz) {
+    static List<String> propertyOrder(ClassInfo clazz) {
         AnnotationInstance propertyOrder;
         AnnotationValue orderArray = null;
 
@@ -49,6 +49,18 @@ public class JavaSecurityProcessor {
         current.remove();
     }
 
+    /**
+     * Determine whether roles found during scanning will be added as scopes to the
+     * security scheme of the given model, i.e. whether processing security roles
+     * modifies the model's components.
+     *
+     * @param openApi the current OpenAPI result
+     * @return true if the model has a single OAuth2 or OpenIdConnect security scheme
+     */
+    public static boolean appliesTo(OpenAPI openApi) {
+        return new JavaSecurityProcessor(openApi).currentSecurityScheme != null;
+    }
+
     private String currentSecurityScheme;
     private List<OAuthFlow> currentFlows;
     private String[] resourceRolesAllowed;
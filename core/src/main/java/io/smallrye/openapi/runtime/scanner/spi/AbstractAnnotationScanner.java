@@ -1,5 +1,11 @@
 package io.smallrye.openapi.runtime.scanner.spi;
 
+import java.util.Collections;
+import java.util.Map;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.DotName;
+
 /**
  * Abstract base class for annotation scanners
  * 
@@ -7,6 +13,7 @@ package io.smallrye.openapi.runtime.scanner.spi;
  */
 public abstract class AbstractAnnotationScanner implements AnnotationScanner {
     protected String currentAppPath = EMPTY;
+    protected Map<DotName, AnnotationInstance> exceptionAnnotationMap = Collections.emptyMap();
     private String contextRoot = EMPTY;
 
     @Override
@@ -14,6 +21,22 @@ public abstract class AbstractAnnotationScanner implements AnnotationScanner {
         this.contextRoot = path;
     }
 
+    /**
+     * Initialize a scanner created to process classes in parallel with the
+     * state of this scanner.
+     *
+     * @param <S> type of the scanner
+     * @param worker newly created scanner
+     * @return the worker scanner
+     */
+    protected <S extends AbstractAnnotationScanner> S initWorker(S worker) {
+        AbstractAnnotationScanner target = worker;
+        target.currentAppPath = this.currentAppPath;
+        target.exceptionAnnotationMap = this.exceptionAnnotationMap;
+        target.contextRoot = this.contextRoot;
+        return worker;
+    }
+
     protected String makePath(String operationPath) {
         return createPathFromSegments(this.contextRoot, this.currentAppPath, operationPath);
     }
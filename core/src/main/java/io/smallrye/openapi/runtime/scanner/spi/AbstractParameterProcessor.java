@@ -19,7 +19,6 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -139,12 +138,60 @@ public abstract class AbstractParameterProcessor {
             this.targetType = targetType;
         }
 
+        /**
+         * Create a copy of this context that may be modified without affecting
+         * this context, including its {@link Parameter}.
+         *
+         * @return copy of the context
+         */
+        ParameterContext copy() {
+            ParameterContext copy = new ParameterContext();
+            copy.name = name;
+            copy.location = location;
+            copy.style = style;
+            copy.oaiParam = ParameterImpl.copyOf(oaiParam);
+            copy.frameworkParam = frameworkParam;
+            copy.defaultValue = defaultValue;
+            copy.target = target;
+            copy.targetType = targetType;
+            return copy;
+        }
+
         @Override
         public String toString() {
             return "name: " + name + "; in: " + location + "; target: " + target;
         }
     }
 
+    /**
+     * Snapshot of the parameters read from a resource class before any of the
+     * resource method's parameters, i.e. the class-level fields, constructor and
+     * setter parameters. The snapshot is not modified once taken, each method of
+     * the class receives its own copy of the parameters.
+     */
+    static final class ClassParameters {
+        private final List<ParameterContext> params;
+        private final Map<String, Map<String, AnnotationInstance>> matrixParams;
+        private final String formMediaType;
+
+        ClassParameters(AbstractParameterProcessor processor) {
+            this.params = processor.params.values().stream().map(ParameterContext::copy).collect(Collectors.toList());
+            this.matrixParams = new LinkedHashMap<>();
+            processor.matrixParams.forEach((segment, matrix) -> matrixParams.put(segment, new HashMap<>(matrix)));
+            this.formMediaType = processor.formMediaType;
+        }
+
+        void restore(AbstractParameterProcessor processor) {
+            for (ParameterContext context : params) {
+                ParameterContext copy = context.copy();
+                processor.params.put(new ParameterContextKey(copy), copy);
+            }
+
+            matrixParams.forEach((segment, matrix) -> processor.matrixParams.put(segment, new HashMap<>(matrix)));
+            processor.formMediaType = formMediaType;
+        }
+    }
+
     /**
      * Key used to store {@link ParameterContext} objects in a map sorted by {@link In},
      * then by name, nulls first.
@@ -225,6 +272,31 @@ public abstract class AbstractParameterProcessor {
         this.extensions = extensions;
     }
 
+    /**
+     * Read the class-level parameters of the resource class using the given reader, unless
+     * they have already been read for another method of the class declared by the same
+     * class and scanned using the same type resolvers. In that case, a copy of the parameters
+     * read previously is used. The parameters are cached for the duration of the scan, see
+     * {@link ParameterTemplateCache}.
+     *
+     * @param resourceClass the resource class
+     * @param resourceMethod the resource method
+     * @param reader reads the class-level parameters into {@link #params}
+     */
+    protected void readClassParameters(ClassInfo resourceClass, MethodInfo resourceMethod, Runnable reader) {
+        ParameterTemplateCache cache = scannerContext.getParameterTemplateCache();
+        ParameterTemplateCache.ClassKey key = ParameterTemplateCache.classKey(scannerContext, getClass(), resourceClass,
+                resourceMethod.declaringClass());
+        ClassParameters classParameters = cache.getClassParameters(key);
+
+        if (classParameters != null) {
+            classParameters.restore(this);
+        } else {
+            reader.run();
+            cache.putClassParameters(key, new ClassParameters(this));
+        }
+    }
+
     protected void reset() {
         params.clear();
         formParams.clear();
@@ -303,64 +375,50 @@ public abstract class AbstractParameterProcessor {
      * @return the path for the target
      */
     protected String generatePath(AnnotationTarget target, List<Parameter> parameters) {
-        final StringBuilder path = new StringBuilder(pathOf(target));
-
-        if (path.length() > 0) {
-            path.insert(0, '/');
-        }
+        PathTemplate template = scannerContext.getParameterTemplateCache()
+                .getPathTemplate(getClass(), target, () -> PathTemplate.parse(pathOf(target), getTemplateParameterPattern()));
 
         /*
          * Search for path template variables where a regular expression
          * is specified, extract the pattern and apply to the parameter's schema
          * if no pattern is otherwise specified and the parameter is a string.
          */
-        Matcher templateMatcher = getTemplateParameterPattern().matcher(path);
-
-        while (templateMatcher.find()) {
-            String variableName = templateMatcher.group(1).trim();
-            String variablePattern = templateMatcher.group(2).trim();
-
-            parameters.stream()
-                    .filter(p -> samePathParameter(p, variableName))
-                    .filter(this::templateParameterPatternEligible)
-                    .forEach(p -> p.getSchema().setPattern(variablePattern));
-
-            String replacement = templateMatcher.replaceFirst('{' + variableName + '}');
-            path.setLength(0);
-            path.append(replacement);
-
-            templateMatcher = getTemplateParameterPattern().matcher(path);
-        }
-
-        parameters.stream()
-                .filter(p -> Style.MATRIX.equals(p.getStyle()))
-                .filter(p -> !processedMatrixSegments.contains(p.getName()))
-                .filter(p -> path.indexOf(p.getName()) > -1)
-                .forEach(matrix -> {
-                    String segmentName = matrix.getName();
-                    processedMatrixSegments.add(segmentName);
-
-                    String matrixRef = '{' + segmentName + '}';
-                    int insertIndex = -1;
-
-                    if ((insertIndex = path.lastIndexOf(matrixRef)) > -1) {
-                        insertIndex += matrixRef.length();
-                        // Path already contains a variable of same name, the matrix must be renamed
-                        String generatedName = segmentName + "Matrix";
-                        matrix.setName(generatedName);
-                        matrixRef = '{' + generatedName + '}';
-                    } else if ((insertIndex = path.lastIndexOf(segmentName)) > -1) {
-                        insertIndex += segmentName.length();
-                    }
+        for (PathTemplate.Segment segment : template.getSegments()) {
+            if (segment.getKind() == PathTemplate.Kind.REGEX) {
+                String variableName = segment.getText();
 
-                    if (insertIndex > -1) {
-                        path.insert(insertIndex, matrixRef);
-                    } else {
-                        ScannerSPILogging.log.missingPathSegment(segmentName);
+                for (Parameter p : parameters) {
+                    if (samePathParameter(p, variableName) && templateParameterPatternEligible(p)) {
+                        p.getSchema().setPattern(segment.getPattern());
                     }
-                });
+                }
+            }
+        }
+
+        for (Parameter matrix : parameters) {
+            String segmentName = matrix.getName();
+
+            if (!Style.MATRIX.equals(matrix.getStyle())
+                    || processedMatrixSegments.contains(segmentName)
+                    || !template.getPath().contains(segmentName)) {
+                continue;
+            }
+
+            processedMatrixSegments.add(segmentName);
 
-        return path.toString();
+            // Path already contains a variable of same name, the matrix must be renamed
+            String matrixName = template.hasVariable(segmentName) ? segmentName + "Matrix" : segmentName;
+            PathTemplate withMatrix = template.withMatrix(segmentName, matrixName);
+
+            if (withMatrix != null) {
+                matrix.setName(matrixName);
+                template = withMatrix;
+            } else {
+                ScannerSPILogging.log.missingPathSegment(segmentName);
+            }
+        }
+
+        return template.getPath();
     }
 
     protected abstract Pattern getTemplateParameterPattern();
@@ -591,7 +649,7 @@ public abstract class AbstractParameterProcessor {
              * Lookup the schema `type` from components (if available) or guess the type if
              * the `ref` is not available.
              */
-            Schema refSchema = ModelUtil.getComponent(scannerContext.getOpenApi(), ref);
+            Schema refSchema = scannerContext.lookupComponent(oai -> ModelUtil.getComponent(oai, ref));
 
             if (refSchema != null) {
                 localSchema = new SchemaImpl().type(refSchema.getType());
@@ -1370,6 +1428,8 @@ public abstract class AbstractParameterProcessor {
 
     /**
      * Scans for class level parameters on the given class argument and its ancestors.
+     * The parameter annotations found are cached for the duration of the scan, see
+     * {@link ParameterTemplateCache}.
      *
      * @param clazz the class to be scanned for parameters.
      * @param beanParamAnnotation the bean parameter annotation to be used for path derivation
@@ -1377,8 +1437,44 @@ public abstract class AbstractParameterProcessor {
      */
     protected void readParametersInherited(ClassInfo clazz, AnnotationInstance beanParamAnnotation,
             boolean overriddenParametersOnly) {
+        List<AnnotationInstance> template = scannerContext.getParameterTemplateCache()
+                .get(getClass(), clazz, true, () -> collectParametersInherited(clazz));
+
+        for (AnnotationInstance annotation : template) {
+            readAnnotatedType(annotation, beanParamAnnotation, overriddenParametersOnly);
+        }
+    }
+
+    /**
+     * Scans for class level parameters. This method is used for both resource class
+     * annotation scanning and framework-specific 'bean' parameter type target type scanning.
+     * The parameter annotations found are cached for the duration of the scan, see
+     * {@link ParameterTemplateCache}.
+     *
+     * @param clazz the class to be scanned for parameters.
+     * @param beanParamAnnotation the bean parameter annotation to be used for path derivation
+     * @param overriddenParametersOnly true if only parameters already known to the scanner are considered, false otherwise
+     */
+    protected void readParameters(ClassInfo clazz, AnnotationInstance beanParamAnnotation, boolean overriddenParametersOnly) {
+        List<AnnotationInstance> template = scannerContext.getParameterTemplateCache()
+                .get(getClass(), clazz, false, () -> collectParameters(clazz));
+
+        for (AnnotationInstance annotation : template) {
+            readAnnotatedType(annotation, beanParamAnnotation, overriddenParametersOnly);
+        }
+    }
+
+    /**
+     * Collects the parameter annotations of the given class and its ancestors, in the
+     * order they are to be read.
+     *
+     * @param clazz the class to be scanned for parameters.
+     * @return list of parameter annotations
+     */
+    List<AnnotationInstance> collectParametersInherited(ClassInfo clazz) {
         AugmentedIndexView augmentedIndex = AugmentedIndexView.augment(index);
         List<ClassInfo> ancestors = new ArrayList<>(JandexUtil.inheritanceChain(index, clazz, null).keySet());
+        List<AnnotationInstance> result = new ArrayList<>();
         /*
          * Process parent class(es) before the resource method class to allow for overridden parameter attributes.
          */
@@ -1389,28 +1485,28 @@ public abstract class AbstractParameterProcessor {
                     .stream()
                     .map(augmentedIndex::getClass)
                     .filter(Objects::nonNull)
-                    .forEach(iface -> readParameters(iface, beanParamAnnotation, overriddenParametersOnly));
+                    .forEach(iface -> result.addAll(collectParameters(iface)));
 
-            readParameters(c, beanParamAnnotation, overriddenParametersOnly);
+            result.addAll(collectParameters(c));
         });
+
+        return result;
     }
 
     /**
-     * Scans for class level parameters. This method is used for both resource class
-     * annotation scanning and framework-specific 'bean' parameter type target type scanning.
+     * Collects the parameter annotations of the given class, in the order they are to be read.
      *
      * @param clazz the class to be scanned for parameters.
-     * @param beanParamAnnotation the bean parameter annotation to be used for path derivation
-     * @param overriddenParametersOnly true if only parameters already known to the scanner are considered, false otherwise
+     * @return list of parameter annotations
      */
-    protected void readParameters(ClassInfo clazz, AnnotationInstance beanParamAnnotation, boolean overriddenParametersOnly) {
-        clazz.annotations()
+    List<AnnotationInstance> collectParameters(ClassInfo clazz) {
+        return clazz.annotations()
                 .entrySet()
                 .stream()
                 .filter(e -> ParameterConstant.DOTNAME_PARAMETER.equals(e.getKey()) || isParameter(e.getKey()))
                 .flatMap(a -> a.getValue().stream())
                 .filter(this::isBeanPropertyParam)
-                .forEach(annotation -> readAnnotatedType(annotation, beanParamAnnotation, overriddenParametersOnly));
+                .collect(Collectors.toList());
     }
 
     /**
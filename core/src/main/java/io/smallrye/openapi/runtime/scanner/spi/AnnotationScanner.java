@@ -332,6 +332,18 @@ public interface AnnotationScanner {
         return Optional.of(operation);
     }
 
+    /**
+     * Build a map between exception class names and the <code>@APIResponse</code> annotation found on the
+     * scanner's exception handler (e.g. a JAX-RS ExceptionMapper) for that exception. Scanners call this once
+     * per scan and share the result with every resource method that is processed.
+     *
+     * @param context the scanning context
+     * @return map of exception class name to its <code>@APIResponse</code> annotation, never null
+     */
+    default Map<DotName, AnnotationInstance> processExceptionMappers(final AnnotationScannerContext context) {
+        return Collections.emptyMap();
+    }
+
     default void processResponse(final AnnotationScannerContext context, final MethodInfo method, Operation operation,
             Map<DotName, AnnotationInstance> exceptionAnnotationMap) {
 
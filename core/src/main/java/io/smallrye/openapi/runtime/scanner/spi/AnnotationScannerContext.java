@@ -4,6 +4,7 @@ import java.util.ArrayDeque;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 import org.eclipse.microprofile.openapi.models.OpenAPI;
@@ -14,10 +15,14 @@ import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.models.OpenAPIImpl;
 import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.openapi.runtime.scanner.FilteredIndexView;
+import io.smallrye.openapi.runtime.scanner.InlineSchemaCache;
+import io.smallrye.openapi.runtime.scanner.SchemaRegistry;
 import io.smallrye.openapi.runtime.scanner.dataobject.AugmentedIndexView;
 import io.smallrye.openapi.runtime.scanner.dataobject.IgnoreResolver;
+import io.smallrye.openapi.runtime.scanner.dataobject.PropertyModelCache;
 import io.smallrye.openapi.runtime.scanner.dataobject.PropertyNamingStrategyFactory;
 import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
+import io.smallrye.openapi.runtime.util.TypeHierarchyCache;
 
 /**
  * Context for scanners.
@@ -34,7 +39,13 @@ public class AnnotationScannerContext {
     private final ClassLoader classLoader;
     private final OpenAPI openApi;
     private final Deque<Type> scanStack = new ArrayDeque<>();
+    private final TypeHierarchyCache typeHierarchyCache;
+    private final PropertyModelCache propertyModelCache;
+    private final InlineSchemaCache inlineSchemaCache;
+    private final ParameterTemplateCache parameterTemplateCache;
+    private final AnnotationScannerContext parent;
     private Deque<TypeResolver> resolverStack = new ArrayDeque<>();
+    private volatile SchemaRegistry schemaRegistry;
 
     public AnnotationScannerContext(FilteredIndexView index, ClassLoader classLoader,
             List<AnnotationScannerExtension> extensions,
@@ -48,6 +59,35 @@ public class AnnotationScannerContext {
         this.config = config;
         this.openApi = openApi;
         this.propertyNameTranslator = PropertyNamingStrategyFactory.getStrategy(config.propertyNamingStrategy(), classLoader);
+        this.typeHierarchyCache = new TypeHierarchyCache();
+        this.propertyModelCache = new PropertyModelCache();
+        this.inlineSchemaCache = new InlineSchemaCache();
+        this.parameterTemplateCache = new ParameterTemplateCache();
+        this.parent = null;
+    }
+
+    /**
+     * Create a context for a worker of a parallel scan. The new context shares the index,
+     * configuration, extensions and caches of the parent context, but has its own
+     * (partial) OpenAPI model and its own scan and type resolver stacks.
+     *
+     * @param parent the context of the scan the worker belongs to
+     * @param openApi the partial model to be populated by the worker
+     */
+    public AnnotationScannerContext(AnnotationScannerContext parent, OpenAPI openApi) {
+        this.index = parent.index;
+        this.augmentedIndex = parent.augmentedIndex;
+        this.ignoreResolver = parent.ignoreResolver;
+        this.classLoader = parent.classLoader;
+        this.extensions = parent.extensions;
+        this.config = parent.config;
+        this.openApi = openApi;
+        this.propertyNameTranslator = parent.propertyNameTranslator;
+        this.typeHierarchyCache = parent.typeHierarchyCache;
+        this.propertyModelCache = parent.propertyModelCache;
+        this.inlineSchemaCache = parent.inlineSchemaCache;
+        this.parameterTemplateCache = parent.parameterTemplateCache;
+        this.parent = parent;
     }
 
     public AnnotationScannerContext(IndexView index, ClassLoader classLoader,
@@ -99,4 +139,53 @@ public class AnnotationScannerContext {
         return resolverStack.peek();
     }
 
+    public TypeHierarchyCache getTypeHierarchyCache() {
+        return typeHierarchyCache;
+    }
+
+    public PropertyModelCache getPropertyModelCache() {
+        return propertyModelCache;
+    }
+
+    public InlineSchemaCache getInlineSchemaCache() {
+        return inlineSchemaCache;
+    }
+
+    public ParameterTemplateCache getParameterTemplateCache() {
+        return parameterTemplateCache;
+    }
+
+    /**
+     * Retrieve the schema registry of the scan, created by
+     * {@link SchemaRegistry#newInstance(AnnotationScannerContext)}.
+     *
+     * @return the schema registry, or null if none has been created
+     */
+    public SchemaRegistry getSchemaRegistry() {
+        return schemaRegistry;
+    }
+
+    public void setSchemaRegistry(SchemaRegistry schemaRegistry) {
+        this.schemaRegistry = schemaRegistry;
+    }
+
+    /**
+     * Find a component using the given lookup function, first in this context's
+     * OpenAPI model and then, for a worker of a parallel scan, in the model of
+     * the scan the worker belongs to.
+     *
+     * @param <T> type of the component
+     * @param lookup function retrieving the component from a model, returning null when not present
+     * @return the component, or null if not found
+     */
+    public <T> T lookupComponent(Function<OpenAPI, T> lookup) {
+        T component = lookup.apply(openApi);
+
+        if (component == null && parent != null) {
+            component = parent.lookupComponent(lookup);
+        }
+
+        return component;
+    }
+
 }
@@ -0,0 +1,262 @@
+package io.smallrye.openapi.runtime.scanner.spi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
+
+import io.smallrye.openapi.runtime.scanner.SchemaRegistry;
+import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
+
+/**
+ * Scan-scoped cache of the parameter templates of classes scanned by an
+ * {@link AbstractParameterProcessor}, e.g. the type of a JAX-RS <code>@BeanParam</code>,
+ * a RESTEasy <code>@MultipartForm</code> or a bean-type parameter of a Spring or Vert.x
+ * route. A template is the ordered list of parameter annotations found on the members
+ * of the class (and optionally its ancestors and interfaces). Each use of the class
+ * replays the template, without walking the class hierarchy and its annotations again.
+ *
+ * Templates depend on the framework of the processor (e.g. which methods are resource
+ * methods) and are keyed by the processor's type, the class, and whether inherited
+ * members are included. The {@link TypeResolver}s used to resolve the members of a
+ * bean-type parameter are keyed by the parameter's type. The cache also holds the
+ * parsed {@link PathTemplate path templates} of classes and methods, keyed by the
+ * processor's type and the target. None of these are modified once created, so they
+ * may be shared by all processors, including the workers of a parallel scan.
+ *
+ * Finally, the cache holds the class-level parameters read for the methods of a resource
+ * class. These are only shared by methods scanned with the same type resolvers and schema
+ * registry, i.e. by the methods of a single occurrence of the class in the scan.
+ */
+public class ParameterTemplateCache {
+
+    private final Map<Key, List<AnnotationInstance>> templates = new ConcurrentHashMap<>();
+    private final Map<Type, TypeResolver> resolvers = new ConcurrentHashMap<>();
+    private final Map<PathKey, PathTemplate> pathTemplates = new ConcurrentHashMap<>();
+    private final Map<ClassKey, AbstractParameterProcessor.ClassParameters> classParameters = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Retrieve the parameter template of the class, collecting it if not yet present.
+     *
+     * @param processor type of the processor the template is used by
+     * @param clazz the class holding the parameter annotations
+     * @param inherited true if the members of ancestors and interfaces are included
+     * @param collector collects the template when not present in the cache
+     * @return the unmodifiable, ordered list of parameter annotations
+     */
+    List<AnnotationInstance> get(Class<?> processor, ClassInfo clazz, boolean inherited,
+            Supplier<List<AnnotationInstance>> collector) {
+        Key key = new Key(processor, clazz.name(), inherited);
+        List<AnnotationInstance> result = templates.get(key);
+
+        if (result != null) {
+            hits.increment();
+            return result;
+        }
+
+        misses.increment();
+        result = Collections.unmodifiableList(collector.get());
+        List<AnnotationInstance> existing = templates.putIfAbsent(key, result);
+        return existing != null ? existing : result;
+    }
+
+    /**
+     * Retrieve the resolver for the members of a bean-type parameter, creating it
+     * if not yet present.
+     *
+     * @param context current scanner context
+     * @param clazz the class of the parameter
+     * @param type the type of the parameter
+     * @return the resolver for the type
+     */
+    public TypeResolver getResolver(AnnotationScannerContext context, ClassInfo clazz, Type type) {
+        TypeResolver result = resolvers.get(type);
+
+        if (result == null) {
+            result = TypeResolver.forClass(context, clazz, type);
+            TypeResolver existing = resolvers.putIfAbsent(type, result);
+
+            if (existing != null) {
+                result = existing;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Retrieve the parsed path of the class or method, parsing it if not yet present.
+     *
+     * @param processor type of the processor the template is used by
+     * @param target the class or method
+     * @param parser parses the path when not present in the cache
+     * @return the path template
+     */
+    PathTemplate getPathTemplate(Class<?> processor, AnnotationTarget target, Supplier<PathTemplate> parser) {
+        PathKey key = new PathKey(processor, target);
+        PathTemplate result = pathTemplates.get(key);
+
+        if (result == null) {
+            result = parser.get();
+            PathTemplate existing = pathTemplates.putIfAbsent(key, result);
+
+            if (existing != null) {
+                result = existing;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Create the key of the class-level parameters read for a resource method in the
+     * current state of the scan.
+     *
+     * @param context current scanner context
+     * @param processor type of the processor reading the parameters
+     * @param resourceClass the resource class
+     * @param resourceMethodClass the class declaring the resource method
+     * @return the key
+     */
+    static ClassKey classKey(AnnotationScannerContext context, Class<?> processor, ClassInfo resourceClass,
+            ClassInfo resourceMethodClass) {
+        return new ClassKey(processor, resourceClass.name(), resourceMethodClass.name(),
+                new ArrayList<>(context.getResolverStack()), context.getSchemaRegistry());
+    }
+
+    AbstractParameterProcessor.ClassParameters getClassParameters(ClassKey key) {
+        return classParameters.get(key);
+    }
+
+    void putClassParameters(ClassKey key, AbstractParameterProcessor.ClassParameters parameters) {
+        classParameters.putIfAbsent(key, parameters);
+    }
+
+    /**
+     * Number of parameter templates served from the cache.
+     *
+     * @return count of cache hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of parameter templates that had to be collected.
+     *
+     * @return count of cache misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    private static final class Key {
+        private final Class<?> processor;
+        private final DotName clazz;
+        private final boolean inherited;
+
+        Key(Class<?> processor, DotName clazz, boolean inherited) {
+            this.processor = processor;
+            this.clazz = clazz;
+            this.inherited = inherited;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(processor, clazz, inherited);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return processor == other.processor && inherited == other.inherited && clazz.equals(other.clazz);
+        }
+    }
+
+    private static final class PathKey {
+        private final Class<?> processor;
+        private final AnnotationTarget target;
+
+        PathKey(Class<?> processor, AnnotationTarget target) {
+            this.processor = processor;
+            this.target = target;
+        }
+
+        @Override
+        public int hashCode() {
+            return processor.hashCode() * 31 + target.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof PathKey)) {
+                return false;
+            }
+            PathKey other = (PathKey) obj;
+            return processor == other.processor && target.equals(other.target);
+        }
+    }
+
+    static final class ClassKey {
+        private final Class<?> processor;
+        private final DotName resourceClass;
+        private final DotName resourceMethodClass;
+        private final List<TypeResolver> resolvers;
+        private final SchemaRegistry registry;
+        private final int hash;
+
+        ClassKey(Class<?> processor, DotName resourceClass, DotName resourceMethodClass, List<TypeResolver> resolvers,
+                SchemaRegistry registry) {
+            this.processor = processor;
+            this.resourceClass = resourceClass;
+            this.resourceMethodClass = resourceMethodClass;
+            // Resolvers are compared by identity, they are created for each occurrence of a class in the scan
+            this.resolvers = resolvers;
+            this.registry = registry;
+            this.hash = Objects.hash(processor, resourceClass, resourceMethodClass, resolvers) * 31
+                    + System.identityHashCode(registry);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ClassKey)) {
+                return false;
+            }
+            ClassKey other = (ClassKey) obj;
+            return processor == other.processor
+                    && registry == other.registry
+                    && resourceClass.equals(other.resourceClass)
+                    && resourceMethodClass.equals(other.resourceMethodClass)
+                    && resolvers.equals(other.resolvers);
+        }
+    }
+}
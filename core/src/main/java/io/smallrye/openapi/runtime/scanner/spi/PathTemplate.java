@@ -0,0 +1,229 @@
+package io.smallrye.openapi.runtime.scanner.spi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parsed form of the path of a class or method, as returned by
+ * {@link AbstractParameterProcessor#pathOf(org.jboss.jandex.AnnotationTarget) pathOf}.
+ * The path is split once into literal text, template variables, template variables
+ * restricted by a regular expression, and matrix parameter references inserted while
+ * generating the path. Regular expressions are recognized using the framework's
+ * {@link AbstractParameterProcessor#getTemplateParameterPattern() template parameter pattern}
+ * and are removed from the {@link #getPath() path}.
+ *
+ * Instances are immutable and may be shared, e.g. by the methods of a resource class.
+ */
+final class PathTemplate {
+
+    enum Kind {
+        LITERAL,
+        VARIABLE,
+        REGEX,
+        MATRIX
+    }
+
+    /**
+     * A segment of the template. The text of a literal segment is the literal
+     * itself, the text of the other segments is the name of the variable.
+     */
+    static final class Segment {
+        private final Kind kind;
+        private final String text;
+        private final String pattern;
+
+        Segment(Kind kind, String text, String pattern) {
+            this.kind = kind;
+            this.text = text;
+            this.pattern = pattern;
+        }
+
+        Kind getKind() {
+            return kind;
+        }
+
+        String getText() {
+            return text;
+        }
+
+        /**
+         * @return the regular expression restricting a {@link Kind#REGEX REGEX} variable, otherwise null
+         */
+        String getPattern() {
+            return pattern;
+        }
+
+        boolean isVariable(String name) {
+            return kind != Kind.LITERAL && text.equals(name);
+        }
+
+        void appendTo(StringBuilder path) {
+            if (kind == Kind.LITERAL) {
+                path.append(text);
+            } else {
+                path.append('{').append(text).append('}');
+            }
+        }
+    }
+
+    private final List<Segment> segments;
+    private final String path;
+
+    private PathTemplate(List<Segment> segments) {
+        this.segments = Collections.unmodifiableList(segments);
+        StringBuilder result = new StringBuilder();
+
+        for (Segment segment : segments) {
+            segment.appendTo(result);
+        }
+
+        this.path = result.toString();
+    }
+
+    /**
+     * Parse the path of a class or method. A leading '/' is added to non-empty paths.
+     *
+     * @param path the path, without leading or trailing '/'
+     * @param templateParameterPattern the framework's pattern for template variables with a regular expression
+     * @return the parsed template
+     */
+    static PathTemplate parse(String path, Pattern templateParameterPattern) {
+        List<Segment> segments = new ArrayList<>();
+
+        if (!path.isEmpty()) {
+            String prefixed = '/' + path;
+            Matcher templateMatcher = templateParameterPattern.matcher(prefixed);
+            int start = 0;
+
+            while (templateMatcher.find()) {
+                addLiteral(segments, prefixed, start, templateMatcher.start());
+                segments.add(new Segment(Kind.REGEX, templateMatcher.group(1).trim(), templateMatcher.group(2).trim()));
+                start = templateMatcher.end();
+            }
+
+            addLiteral(segments, prefixed, start, prefixed.length());
+        }
+
+        return new PathTemplate(segments);
+    }
+
+    /**
+     * Add the text between start and end, splitting out plain template variables.
+     */
+    private static void addLiteral(List<Segment> segments, String path, int start, int end) {
+        int literalStart = start;
+        int open = start;
+
+        while ((open = path.indexOf('{', open)) > -1 && open < end) {
+            int close = variableEnd(path, open, end);
+
+            if (close < 0) {
+                open++;
+                continue;
+            }
+
+            if (open > literalStart) {
+                segments.add(new Segment(Kind.LITERAL, path.substring(literalStart, open), null));
+            }
+
+            segments.add(new Segment(Kind.VARIABLE, path.substring(open + 1, close), null));
+            literalStart = close + 1;
+            open = literalStart;
+        }
+
+        if (end > literalStart) {
+            segments.add(new Segment(Kind.LITERAL, path.substring(literalStart, end), null));
+        }
+    }
+
+    private static int variableEnd(String path, int open, int end) {
+        for (int i = open + 1; i < end; i++) {
+            char c = path.charAt(i);
+
+            if (c == '}') {
+                return i > open + 1 ? i : -1;
+            }
+            if (c == '{') {
+                return -1;
+            }
+        }
+
+        return -1;
+    }
+
+    List<Segment> getSegments() {
+        return segments;
+    }
+
+    /**
+     * @return the path, with regular expressions removed from template variables
+     */
+    String getPath() {
+        return path;
+    }
+
+    /**
+     * Determine whether the path contains a template variable with the given name.
+     *
+     * @param name name of the variable
+     * @return true if a variable of that name is present
+     */
+    boolean hasVariable(String name) {
+        return lastVariable(name) > -1;
+    }
+
+    /**
+     * Create a template with a reference to a matrix parameter inserted after the last
+     * occurrence of the path segment it belongs to. The segment is either a template variable
+     * of the same name or literal text.
+     *
+     * @param segmentName name of the path segment
+     * @param matrixName name of the matrix parameter
+     * @return the new template, or null if the path segment is not present
+     */
+    PathTemplate withMatrix(String segmentName, String matrixName) {
+        List<Segment> result = new ArrayList<>(segments.size() + 2);
+        Segment matrix = new Segment(Kind.MATRIX, matrixName, null);
+        int index = lastVariable(segmentName);
+
+        if (index > -1) {
+            result.addAll(segments.subList(0, index + 1));
+            result.add(matrix);
+            result.addAll(segments.subList(index + 1, segments.size()));
+            return new PathTemplate(result);
+        }
+
+        for (index = segments.size() - 1; index >= 0; index--) {
+            Segment segment = segments.get(index);
+            int position;
+
+            if (segment.kind == Kind.LITERAL && (position = segment.text.lastIndexOf(segmentName)) > -1) {
+                int split = position + segmentName.length();
+                result.addAll(segments.subList(0, index));
+                result.add(new Segment(Kind.LITERAL, segment.text.substring(0, split), null));
+                result.add(matrix);
+
+                if (split < segment.text.length()) {
+                    result.add(new Segment(Kind.LITERAL, segment.text.substring(split), null));
+                }
+
+                result.addAll(segments.subList(index + 1, segments.size()));
+                return new PathTemplate(result);
+            }
+        }
+
+        return null;
+    }
+
+    private int lastVariable(String name) {
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            if (segments.get(i).isVariable(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
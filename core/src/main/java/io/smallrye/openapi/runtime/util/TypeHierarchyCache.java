@@ -0,0 +1,126 @@
+package io.smallrye.openapi.runtime.util;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Type;
+
+/**
+ * Scan-scoped cache of the type hierarchy information used by
+ * {@link TypeUtil#isA(io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext, Type, Type) TypeUtil.isA}.
+ * Holds the closure of all super types (classes and interfaces) of each class found
+ * in the index, and the names of classes that could not be loaded by the class loader
+ * so that the class loader is consulted at most once for them.
+ */
+public class TypeHierarchyCache {
+
+    private final Map<DotName, Set<DotName>> superTypes = new ConcurrentHashMap<>();
+    private final Set<DotName> unloadableClasses = ConcurrentHashMap.newKeySet();
+    private final LongAdder classLoaderFallbacks = new LongAdder();
+
+    /**
+     * Retrieve the names of all super classes and interfaces of the given class,
+     * as far as they are known to the index.
+     *
+     * @param index index used to find the super types' class information
+     * @param klazz the class
+     * @return unmodifiable set of super type names
+     */
+    Set<DotName> superTypes(IndexView index, ClassInfo klazz) {
+        Set<DotName> result = superTypes.get(klazz.name());
+
+        if (result == null) {
+            /*
+             * Not using computeIfAbsent, the closure of each super type is also
+             * added to the cache recursively.
+             */
+            result = Collections.unmodifiableSet(computeSuperTypes(index, klazz));
+            Set<DotName> existing = superTypes.putIfAbsent(klazz.name(), result);
+
+            if (existing != null) {
+                result = existing;
+            }
+        }
+
+        return result;
+    }
+
+    private Set<DotName> computeSuperTypes(IndexView index, ClassInfo klazz) {
+        Set<DotName> result = new HashSet<>();
+
+        for (DotName iface : klazz.interfaceNames()) {
+            result.add(iface);
+
+            ClassInfo superIFace = TypeUtil.getClassInfo(index, iface);
+
+            if (superIFace != null) {
+                result.addAll(superTypes(index, superIFace));
+            }
+        }
+
+        Type superType = klazz.superClassType();
+
+        if (superType != null) {
+            result.add(TypeUtil.getName(superType));
+
+            ClassInfo superKlazz = TypeUtil.getClassInfo(index, superType);
+
+            if (superKlazz != null) {
+                result.addAll(superTypes(index, superKlazz));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Load the named class using the class loader, unless a previous attempt
+     * to load it has already failed.
+     *
+     * @param name name of the class
+     * @param cl class loader to use
+     * @return the class, or null if the class could not be loaded
+     */
+    Class<?> loadClass(DotName name, ClassLoader cl) {
+        if (unloadableClasses.contains(name)) {
+            return null;
+        }
+
+        try {
+            return Class.forName(name.toString(), false, cl);
+        } catch (@SuppressWarnings("unused") ClassNotFoundException e) {
+            unloadableClasses.add(name);
+            return null;
+        }
+    }
+
+    void classLoaderFallback() {
+        classLoaderFallbacks.increment();
+    }
+
+    /**
+     * Number of times the class loader was required to determine whether one type
+     * is assignable to another because the index did not provide an answer.
+     *
+     * @return count of class loader fallbacks
+     */
+    public long getClassLoaderFallbackCount() {
+        return classLoaderFallbacks.sum();
+    }
+
+    /**
+     * Number of distinct class names that could not be loaded by the class loader.
+     *
+     * @return count of classes in the negative lookup cache
+     */
+    public int getUnloadableClassCount() {
+        return unloadableClasses.size();
+    }
+}
@@ -387,18 +387,18 @@ public class TypeUtil {
         return OBJECT_FORMAT;
     }
 
-    private static Class<?> getClass(DotName name, ClassLoader cl) throws ClassNotFoundException {
-        return Class.forName(name.toString(), false, cl);
-    }
+    private static boolean isAssignableFrom(TypeHierarchyCache cache, DotName subject, DotName object, ClassLoader cl) {
+        cache.classLoaderFallback();
+
+        Class<?> subjectKlazz = cache.loadClass(subject, cl);
 
-    private static boolean isAssignableFrom(DotName subject, DotName object, ClassLoader cl) {
-        try {
-            Class<?> subjectKlazz = TypeUtil.getClass(subject, cl);
-            Class<?> objectKlazz = TypeUtil.getClass(object, cl);
-            return objectKlazz.isAssignableFrom(subjectKlazz);
-        } catch (@SuppressWarnings("unused") ClassNotFoundException nfe) {
+        if (subjectKlazz == null) {
             return false;
         }
+
+        Class<?> objectKlazz = cache.loadClass(object, cl);
+
+        return objectKlazz != null && objectKlazz.isAssignableFrom(subjectKlazz);
     }
 
     static ClassInfo getClassInfo(IndexView appIndex, Type type) {
@@ -428,6 +428,7 @@ public class TypeUtil {
     public static boolean isA(final AnnotationScannerContext context, Type testSubject, Type testObject) {
         IndexView index = context.getIndex();
         ClassLoader cl = context.getClassLoader();
+        TypeHierarchyCache cache = context.getTypeHierarchyCache();
 
         // The types may be the same -- short circuit looking in the index
         if (getName(testSubject).equals(getName(testObject))) {
@@ -440,39 +441,11 @@ public class TypeUtil {
         // First, look in Jandex, as target might not be in our classloader
         ClassInfo subJandexKlazz = getClassInfo(index, testSubject);
 
-        if (subJandexKlazz != null && superTypes(index, subJandexKlazz).contains(getName(testObject))) {
+        if (subJandexKlazz != null && cache.superTypes(index, subJandexKlazz).contains(getName(testObject))) {
             return true;
         }
 
-        return isAssignableFrom(testSubject.name(), testObject.name(), cl);
-    }
-
-    private static Set<DotName> superTypes(IndexView index, ClassInfo testSubject) {
-        Set<DotName> superTypes = new HashSet<>();
-
-        testSubject.interfaceNames().forEach(iface -> {
-            superTypes.add(iface);
-
-            ClassInfo superIFace = getClassInfo(index, iface);
-
-            if (superIFace != null) {
-                superTypes.addAll(superTypes(index, superIFace));
-            }
-        });
-
-        Type superType = testSubject.superClassType();
-
-        if (superType != null) {
-            superTypes.add(getName(superType));
-
-            ClassInfo superKlazz = getClassInfo(index, superType);
-
-            if (superKlazz != null) {
-                superTypes.addAll(superTypes(index, superKlazz));
-            }
-        }
-
-        return superTypes;
+        return isAssignableFrom(cache, testSubject.name(), testObject.name(), cl);
     }
 
     public static boolean isTerminalType(Type type) {
@@ -0,0 +1,96 @@
+package io.smallrye.openapi.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.junit.jupiter.api.Test;
+
+class OpenApiDocumentRegistryTest {
+
+    static final int TENANTS = 16;
+
+    @Test
+    void testDocumentsBuiltConcurrently() throws Exception {
+        OpenApiConfig config = new OpenApiConfigImpl(ConfigProvider.getConfig());
+        OpenApiDocumentRegistry registry = new OpenApiDocumentRegistry();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<OpenAPI>> results = new ArrayList<>();
+
+        try {
+            for (int t = 0; t < TENANTS; t++) {
+                String tenant = "tenant" + t;
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return registry.build(tenant, document -> {
+                        document.config(config);
+                        document.archiveName(tenant);
+                        document.version("1." + tenant.length());
+                    });
+                }, executor));
+            }
+
+            start.countDown();
+            CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(TENANTS, registry.keys().size());
+
+        for (int t = 0; t < TENANTS; t++) {
+            String tenant = "tenant" + t;
+            OpenAPI model = registry.get(tenant);
+            assertSame(results.get(t).get(), model);
+            assertEquals(tenant + " API", model.getInfo().getTitle());
+        }
+    }
+
+    @Test
+    void testRegisterAndRemove() {
+        OpenApiDocumentRegistry registry = new OpenApiDocumentRegistry();
+        OpenAPI v1 = registry.build("v1", document -> document.config(new OpenApiConfigImpl(ConfigProvider.getConfig())));
+
+        assertTrue(registry.isSet("v1"));
+        assertFalse(registry.isSet("v2"));
+        assertThrows(IllegalStateException.class, () -> registry.get("v2"));
+
+        registry.register("v2", v1);
+        assertSame(v1, registry.get("v2"));
+
+        assertSame(v1, registry.remove("v1"));
+        assertFalse(registry.isSet("v1"));
+        assertEquals(1, registry.keys().size());
+    }
+
+    @Test
+    void testNewInstancesIndependent() {
+        OpenApiDocument first = OpenApiDocument.newInstance();
+        OpenApiDocument second = OpenApiDocument.newInstance();
+        first.config(new OpenApiConfigImpl(ConfigProvider.getConfig()));
+        first.initialize();
+
+        assertTrue(first.isSet());
+        assertFalse(second.isSet());
+        // The second holder may still be populated after the first has been initialized
+        second.archiveName("second");
+        assertThrows(IllegalStateException.class, second::initialize);
+    }
+}
@@ -0,0 +1,34 @@
+package io.smallrye.openapi.api;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.junit.jupiter.api.Test;
+
+class OpenApiDocumentTest {
+
+    @Test
+    void testReadsDoNotLock() throws Exception {
+        OpenApiDocument document = OpenApiDocument.newInstance();
+        assertThrows(IllegalStateException.class, document::get);
+
+        document.config(new OpenApiConfigImpl(ConfigProvider.getConfig()));
+        document.initialize();
+        OpenAPI model = document.get();
+
+        synchronized (document) {
+            // Would block until the monitor is released if reads were synchronized
+            assertTrue(CompletableFuture.supplyAsync(document::isSet).get(10, TimeUnit.SECONDS));
+            assertSame(model, CompletableFuture.supplyAsync(document::get).get(10, TimeUnit.SECONDS));
+        }
+
+        document.reset();
+        assertThrows(IllegalStateException.class, document::get);
+    }
+}
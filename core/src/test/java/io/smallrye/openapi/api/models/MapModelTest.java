@@ -0,0 +1,89 @@
+package io.smallrye.openapi.api.models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.models.callbacks.CallbackImpl;
+import io.smallrye.openapi.api.models.media.ContentImpl;
+import io.smallrye.openapi.api.models.responses.APIResponsesImpl;
+
+class MapModelTest {
+
+    @Test
+    void testReadsDoNotCreateMap() {
+        for (MapModel<?> model : emptyModels()) {
+            assertEquals(0, model.size());
+            assertTrue(model.isEmpty());
+            assertFalse(model.containsKey("key"));
+            assertFalse(model.containsValue("value"));
+            assertNull(model.get("key"));
+            assertNull(model.remove("key"));
+            assertTrue(model.keySet().isEmpty());
+            assertTrue(model.values().isEmpty());
+            assertTrue(model.entrySet().isEmpty());
+            model.clear();
+
+            assertNull(model.getMap(), model.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    void testReadsDoNotAllocate() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        Assumptions.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        List<MapModel<?>> models = emptyModels();
+        long threadId = Thread.currentThread().getId();
+        int iterations = 100_000;
+        int result = 0;
+
+        // Warm up
+        result += read(models, iterations);
+
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        result += read(models, iterations);
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        assertEquals(0, result);
+        // Allow for allocations of the measurement itself, far below one object per read
+        assertTrue(allocated < 64 * 1024, "Allocated " + allocated + " bytes");
+        for (MapModel<?> model : models) {
+            assertNull(model.getMap(), model.getClass().getSimpleName());
+        }
+    }
+
+    private static List<MapModel<?>> emptyModels() {
+        return Arrays.asList(new PathsImpl(), new CallbackImpl(), new APIResponsesImpl(), new ContentImpl());
+    }
+
+    private static int read(List<MapModel<?>> models, int iterations) {
+        int result = 0;
+
+        for (int i = 0; i < iterations; i++) {
+            for (int m = 0, count = models.size(); m < count; m++) {
+                MapModel<?> model = models.get(m);
+                result += model.size();
+                result += model.isEmpty() ? 0 : 1;
+                result += model.containsKey("key") ? 1 : 0;
+                result += model.get("key") != null ? 1 : 0;
+                result += model.keySet().size();
+                result += model.entrySet().isEmpty() ? 0 : 1;
+            }
+        }
+
+        return result;
+    }
+}
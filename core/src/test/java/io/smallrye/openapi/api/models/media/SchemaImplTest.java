@@ -0,0 +1,200 @@
+package io.smallrye.openapi.api.models.media;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+import org.junit.jupiter.api.Test;
+
+class SchemaImplTest {
+
+    private static Schema sample() {
+        return new SchemaImpl("Sample")
+                .type(SchemaType.OBJECT)
+                .description("A sample")
+                .addProperty("name", new SchemaImpl().type(SchemaType.STRING).description("The name"))
+                .addProperty("tags", new SchemaImpl().type(SchemaType.ARRAY)
+                        .items(new SchemaImpl().type(SchemaType.STRING)))
+                .addProperty("ref", new SchemaImpl().ref("Other"))
+                .addRequired("name")
+                .addAllOf(new SchemaImpl().type(SchemaType.OBJECT))
+                .xml(new XMLImpl().name("sample"))
+                .addExtension("x-sample", "value");
+    }
+
+    @Test
+    void testCopyIsEqual() {
+        Schema original = sample();
+        Schema copy = SchemaImpl.copyOf(original);
+
+        assertNotSame(original, copy);
+        assertEquals("Sample", ((SchemaImpl) copy).getName());
+        assertEquals(SchemaType.OBJECT, copy.getType());
+        assertEquals("A sample", copy.getDescription());
+        assertEquals(Arrays.asList("name", "tags", "ref"), Arrays.asList(copy.getProperties().keySet().toArray()));
+        assertEquals("The name", copy.getProperties().get("name").getDescription());
+        assertEquals(SchemaType.STRING, copy.getProperties().get("tags").getItems().getType());
+        assertEquals(Collections.singletonList("name"), copy.getRequired());
+        assertEquals(1, copy.getAllOf().size());
+        assertEquals("sample", copy.getXml().getName());
+        assertEquals("value", copy.getExtensions().get("x-sample"));
+        assertEquals(SchemaImpl.getModCount(original), SchemaImpl.getModCount(copy));
+    }
+
+    @Test
+    void testCopyNotAffectedByOriginal() {
+        Schema original = sample();
+        Schema copy = SchemaImpl.copyOf(original);
+
+        original.getProperties().get("name").setDescription("Modified");
+        original.getProperties().get("tags").getItems().setFormat("uuid");
+        original.addProperty("added", new SchemaImpl());
+        original.addRequired("tags");
+        original.getAllOf().get(0).setTitle("Modified");
+        original.getXml().setName("modified");
+        original.addExtension("x-added", "value");
+
+        assertEquals("The name", copy.getProperties().get("name").getDescription());
+        assertNull(copy.getProperties().get("tags").getItems().getFormat());
+        assertEquals(3, copy.getProperties().size());
+        assertEquals(Collections.singletonList("name"), copy.getRequired());
+        assertNull(copy.getAllOf().get(0).getTitle());
+        assertEquals("sample", copy.getXml().getName());
+        assertEquals(1, copy.getExtensions().size());
+    }
+
+    @Test
+    void testOriginalNotAffectedByCopy() {
+        Schema original = sample();
+        Schema copy = SchemaImpl.copyOf(original);
+
+        copy.getProperties().get("name").setDescription("Modified");
+        copy.getProperties().get("tags").getItems().setFormat("uuid");
+        copy.removeProperty("tags");
+        copy.removeRequired("name");
+        copy.getAllOf().get(0).setTitle("Modified");
+        copy.getXml().setName("modified");
+        copy.removeExtension("x-sample");
+
+        assertEquals("The name", original.getProperties().get("name").getDescription());
+        assertNull(original.getProperties().get("tags").getItems().getFormat());
+        assertEquals(3, original.getProperties().size());
+        assertEquals(Collections.singletonList("name"), original.getRequired());
+        assertNull(original.getAllOf().get(0).getTitle());
+        assertEquals("sample", original.getXml().getName());
+        assertEquals("value", original.getExtensions().get("x-sample"));
+    }
+
+    @Test
+    void testCopiesOfCopiesAreIndependent() {
+        Schema original = sample();
+        Schema copy1 = SchemaImpl.copyOf(original);
+        Schema copy2 = SchemaImpl.copyOf(copy1);
+
+        copy1.getProperties().get("name").setDescription("Copy 1");
+        copy2.getProperties().get("name").setDescription("Copy 2");
+
+        assertEquals("The name", original.getProperties().get("name").getDescription());
+        assertEquals("Copy 1", copy1.getProperties().get("name").getDescription());
+        assertEquals("Copy 2", copy2.getProperties().get("name").getDescription());
+    }
+
+    @Test
+    void testCopyOfFrozenSharesNestedSchemas() {
+        Schema frozen = SchemaImpl.freeze(sample());
+        Schema copy = SchemaImpl.copyOf(frozen);
+
+        assertFalse(SchemaImpl.isFrozen(copy));
+        assertSame(frozen.getProperties().get("name"), copy.getProperties().get("name"));
+        assertSame(frozen.getAllOf().get(0), copy.getAllOf().get(0));
+        assertTrue(SchemaImpl.isFrozen(copy.getProperties().get("tags").getItems()));
+
+        // Reading does not replace anything
+        assertSame(copy.getProperties().get("name"), copy.getProperties().get("name"));
+
+        copy.setDescription("Modified");
+        copy.addProperty("added", new SchemaImpl());
+        copy.removeProperty("ref");
+        copy.addRequired("tags");
+        copy.addExtension("x-added", "value");
+        copy.getXml().setName("modified");
+
+        assertEquals("A sample", frozen.getDescription());
+        assertEquals(Arrays.asList("name", "tags", "ref"), Arrays.asList(frozen.getProperties().keySet().toArray()));
+        assertEquals(Arrays.asList("name", "tags", "added"), Arrays.asList(copy.getProperties().keySet().toArray()));
+        assertEquals(Collections.singletonList("name"), frozen.getRequired());
+        assertEquals(1, frozen.getExtensions().size());
+        assertEquals("sample", frozen.getXml().getName());
+    }
+
+    @Test
+    void testFrozenSchemaNotModifiable() {
+        Schema frozen = SchemaImpl.freeze(sample());
+        Schema copy = SchemaImpl.copyOf(frozen);
+        Schema name = copy.getProperties().get("name");
+
+        assertThrows(UnsupportedOperationException.class, () -> frozen.setDescription("Modified"));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.addProperty("added", new SchemaImpl()));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.addExtension("x-added", "value"));
+        assertThrows(UnsupportedOperationException.class, () -> name.setDescription("Modified"));
+        assertThrows(UnsupportedOperationException.class, () -> SchemaImpl.copyFrozenNested(frozen));
+        assertEquals("The name", name.getDescription());
+    }
+
+    @Test
+    void testCopyOfUnfrozenSharesOnlyFrozenSchemas() {
+        Schema items = SchemaImpl.freeze(new SchemaImpl().type(SchemaType.STRING));
+        Schema original = new SchemaImpl().type(SchemaType.ARRAY).items(items)
+                .addAllOf(new SchemaImpl().type(SchemaType.OBJECT));
+        Schema copy = SchemaImpl.copyOf(original);
+
+        assertSame(items, copy.getItems());
+        assertNotSame(original.getAllOf().get(0), copy.getAllOf().get(0));
+        assertFalse(SchemaImpl.isFrozen(copy.getAllOf().get(0)));
+    }
+
+    @Test
+    void testCopyFrozenNested() {
+        Schema frozen = SchemaImpl.freeze(sample());
+        Schema copy = SchemaImpl.copyOf(frozen);
+        int modCount = SchemaImpl.getModCount(copy);
+
+        SchemaImpl.copyFrozenNested(copy);
+
+        Schema tags = copy.getProperties().get("tags");
+        assertNotSame(frozen.getProperties().get("tags"), tags);
+        assertFalse(SchemaImpl.isFrozen(tags));
+        assertFalse(SchemaImpl.isFrozen(copy.getAllOf().get(0)));
+        // Only the schemas nested directly are copied
+        assertSame(frozen.getProperties().get("tags").getItems(), tags.getItems());
+        assertEquals(Arrays.asList("name", "tags", "ref"), Arrays.asList(copy.getProperties().keySet().toArray()));
+        assertEquals(modCount, SchemaImpl.getModCount(copy));
+
+        tags.setDescription("Modified");
+        assertNull(frozen.getProperties().get("tags").getDescription());
+    }
+
+    @Test
+    void testReplacedPartsNotShared() {
+        Schema original = SchemaImpl.freeze(sample());
+        Schema copy = SchemaImpl.copyOf(original);
+        Schema items = new SchemaImpl().type(SchemaType.INTEGER);
+
+        copy.setProperties(Collections.singletonMap("count", items));
+        copy.setRequired(Collections.singletonList("count"));
+        copy.addProperty("other", items);
+
+        assertSame(items, copy.getProperties().get("count"));
+        assertEquals(3, original.getProperties().size());
+        assertEquals(Collections.singletonList("name"), original.getRequired());
+    }
+}
@@ -0,0 +1,34 @@
+package io.smallrye.openapi.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+class ClassLoaderUtilTest {
+
+    @Test
+    void testForkJoinPoolUsesContextClassLoader() throws Exception {
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        ClassLoader loader = new URLClassLoader(new URL[0], previous);
+        ForkJoinPool pool;
+
+        thread.setContextClassLoader(loader);
+
+        try {
+            pool = ClassLoaderUtil.newForkJoinPool();
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+
+        try {
+            assertSame(loader, pool.submit(() -> Thread.currentThread().getContextClassLoader()).get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -1,23 +1,43 @@
 package io.smallrye.openapi.api.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import java.io.IOException;
 import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.io.IOUtils;
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.openapi.OASFactory;
 import org.eclipse.microprofile.openapi.OASFilter;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.Operation;
 import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.eclipse.microprofile.openapi.models.tags.Tag;
 import org.json.JSONException;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.skyscreamer.jsonassert.JSONAssert;
 
 import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.OpenApiConfigImpl;
 import io.smallrye.openapi.api.OpenApiDocument;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
 import io.smallrye.openapi.runtime.io.Format;
 import io.smallrye.openapi.runtime.io.OpenApiParser;
 import io.smallrye.openapi.runtime.io.OpenApiSerializer;
@@ -80,6 +100,296 @@ class FilterUtilTest {
         assertJsonEquals(expected, actual);
     }
 
+    /**
+     * Test method for {@link FilterUtil#applyFilters(java.util.List, OpenAPI)}, applying the
+     * same changes as {@link #testApplyFilter()} using separate filters.
+     *
+     * @throws Exception
+     */
+    @Test
+    void testApplyFilters() throws Exception {
+        URL beforeUrl = FilterUtilTest.class.getResource("filter-before.json");
+        URL afterUrl = FilterUtilTest.class.getResource("filter-after.json");
+
+        OpenAPI model = OpenApiParser.parse(beforeUrl);
+        List<String> removedTags = new ArrayList<>();
+        OASFilter tagFilter = new OASFilter() {
+            @Override
+            public Tag filterTag(Tag tag) {
+                return tag.getName().equals("tag-1") ? null : tag;
+            }
+        };
+        OASFilter removedTagRecorder = new OASFilter() {
+            @Override
+            public Tag filterTag(Tag tag) {
+                removedTags.add(tag.getName());
+                return tag;
+            }
+        };
+        OASFilter pathItemFilter = new OASFilter() {
+            @Override
+            public PathItem filterPathItem(PathItem pathItem) {
+                return pathItem.getRef() != null ? null : pathItem;
+            }
+        };
+        OASFilter operationFilter = new OASFilter() {
+            @Override
+            public Operation filterOperation(Operation operation) {
+                if (operation.getTags() != null && operation.getTags().contains("tag-1")) {
+                    operation.removeTag("tag-1");
+                }
+                return operation;
+            }
+
+            @Override
+            public void filterOpenAPI(OpenAPI openAPI) {
+                openAPI.getInfo().setLicense(null);
+                openAPI.getInfo().setTitle("Updated API Title");
+            }
+        };
+
+        model = FilterUtil.applyFilters(Arrays.asList(tagFilter, removedTagRecorder, pathItemFilter, operationFilter),
+                model);
+
+        String actual = OpenApiSerializer.serialize(model, Format.JSON);
+        String expected = loadResource(afterUrl);
+
+        assertJsonEquals(expected, actual);
+        // Nodes removed by a filter are not passed to the subsequent filters
+        assertFalse(removedTags.contains("tag-1"));
+        assertFalse(removedTags.isEmpty());
+    }
+
+    /**
+     * Test method for
+     * {@link FilterUtil#applyFilter(org.eclipse.microprofile.openapi.OASFilter, org.eclipse.microprofile.openapi.models.OpenAPI)}
+     * using a {@link ThreadSafeOASFilter}.
+     *
+     * @throws Exception
+     */
+    @Test
+    void testApplyThreadSafeFilter() throws Exception {
+        URL beforeUrl = FilterUtilTest.class.getResource("filter-before.json");
+        URL afterUrl = FilterUtilTest.class.getResource("filter-after.json");
+
+        OASFilter filter = filter();
+        OpenAPI model = FilterUtil.applyFilter(new ThreadSafeOASFilter() {
+            @Override
+            public void filterOpenAPI(OpenAPI openAPI) {
+                filter.filterOpenAPI(openAPI);
+            }
+
+            @Override
+            public Tag filterTag(Tag tag) {
+                return filter.filterTag(tag);
+            }
+
+            @Override
+            public PathItem filterPathItem(PathItem pathItem) {
+                return filter.filterPathItem(pathItem);
+            }
+
+            @Override
+            public Operation filterOperation(Operation operation) {
+                return filter.filterOperation(operation);
+            }
+        }, OpenApiParser.parse(beforeUrl));
+
+        String actual = OpenApiSerializer.serialize(model, Format.JSON);
+        String expected = loadResource(afterUrl);
+
+        assertJsonEquals(expected, actual);
+    }
+
+    /**
+     * Removals by a {@link ThreadSafeOASFilter} from many paths and components are applied
+     * in the same way as by a sequential filter.
+     *
+     * @throws Exception
+     */
+    @Test
+    void testThreadSafeFilterRemovalsDeterministic() throws Exception {
+        OASFilter filter = new OASFilter() {
+            @Override
+            public PathItem filterPathItem(PathItem pathItem) {
+                return pathItem.getDescription().endsWith("3") ? null : pathItem;
+            }
+
+            @Override
+            public Schema filterSchema(Schema schema) {
+                return "remove".equals(schema.getDescription()) ? null : schema;
+            }
+        };
+        OASFilter threadSafeFilter = new ThreadSafeOASFilter() {
+            @Override
+            public PathItem filterPathItem(PathItem pathItem) {
+                return filter.filterPathItem(pathItem);
+            }
+
+            @Override
+            public Schema filterSchema(Schema schema) {
+                return filter.filterSchema(schema);
+            }
+        };
+
+        String expected = OpenApiSerializer.serialize(FilterUtil.applyFilter(filter, largeModel()), Format.JSON);
+        String actual = OpenApiSerializer.serialize(FilterUtil.applyFilter(threadSafeFilter, largeModel()), Format.JSON);
+
+        assertEquals(expected, actual);
+        assertTrue(actual.contains("/path12\""));
+        assertFalse(actual.contains("/path13\""));
+    }
+
+    /**
+     * A model instance reachable from many path items is passed to a {@link ThreadSafeOASFilter}
+     * once, and the result of the filter applies to each occurrence. This also holds when the
+     * filter is combined with a filter that is not thread-safe, and the model is filtered serially.
+     *
+     * @throws Exception
+     */
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void testThreadSafeFilterVisitsSharedModelsOnce(boolean serial) throws Exception {
+        Schema shared = OASFactory.createSchema().ref("#/components/schemas/Shared");
+        Schema removed = OASFactory.createSchema().ref("#/components/schemas/Removed");
+        OpenAPI model = OASFactory.createOpenAPI().openapi("3.0.3").paths(OASFactory.createPaths());
+
+        for (int i = 0; i < 500; i++) {
+            model.getPaths().addPathItem("/path" + i, OASFactory.createPathItem()
+                    .GET(OASFactory.createOperation()
+                            .addParameter(OASFactory.createParameter().name("shared").schema(shared))
+                            .addParameter(OASFactory.createParameter().name("removed").schema(removed))));
+        }
+
+        Map<Schema, AtomicInteger> invocations = new ConcurrentHashMap<>();
+
+        OASFilter threadSafeFilter = new ThreadSafeOASFilter() {
+            @Override
+            public Schema filterSchema(Schema schema) {
+                invocations.computeIfAbsent(schema, s -> new AtomicInteger()).incrementAndGet();
+
+                if (schema == removed) {
+                    return null;
+                }
+
+                // Not thread-safe if the same instance were passed concurrently
+                schema.setDescription(schema.getDescription() == null ? "filtered" : schema.getDescription() + " again");
+                return schema;
+            }
+        };
+
+        if (serial) {
+            FilterUtil.applyFilters(Arrays.asList(new OASFilter() {
+            }, threadSafeFilter), model);
+        } else {
+            FilterUtil.applyFilter(threadSafeFilter, model);
+        }
+
+        assertEquals(1, invocations.get(shared).get());
+        assertEquals(1, invocations.get(removed).get());
+        assertEquals("filtered", shared.getDescription());
+
+        for (PathItem pathItem : model.getPaths().getPathItems().values()) {
+            assertSame(shared, pathItem.getGET().getParameters().get(0).getSchema());
+            assertNull(pathItem.getGET().getParameters().get(1).getSchema());
+        }
+    }
+
+    /**
+     * The tasks filtering a model in parallel use the context class loader of the calling thread.
+     *
+     * @throws Exception
+     */
+    @Test
+    void testThreadSafeFilterUsesContextClassLoader() throws Exception {
+        OpenAPI model = OASFactory.createOpenAPI().openapi("3.0.3").paths(OASFactory.createPaths());
+
+        for (int i = 0; i < 50; i++) {
+            model.getPaths().addPathItem("/path" + i, OASFactory.createPathItem());
+        }
+
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        ClassLoader loader = new URLClassLoader(new URL[0], previous);
+        Set<ClassLoader> loaders = ConcurrentHashMap.newKeySet();
+
+        thread.setContextClassLoader(loader);
+
+        try {
+            FilterUtil.applyFilter(new ThreadSafeOASFilter() {
+                @Override
+                public PathItem filterPathItem(PathItem pathItem) {
+                    loaders.add(Thread.currentThread().getContextClassLoader());
+                    return pathItem;
+                }
+            }, model);
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+
+        assertEquals(Collections.singleton(loader), loaders);
+    }
+
+    /**
+     * Frozen schemas shared by the model, e.g. by copies of cached schemas, are replaced by copies
+     * before they are passed to a filter, including those nested in encoding headers.
+     *
+     * @throws Exception
+     */
+    @Test
+    void testFilterModifiesCopiesOfFrozenSchemas() throws Exception {
+        Schema frozen = SchemaImpl.freeze(OASFactory.createSchema()
+                .addProperty("nested", OASFactory.createSchema().type(Schema.SchemaType.STRING)));
+        OpenAPI model = OASFactory.createOpenAPI().openapi("3.0.3").paths(OASFactory.createPaths()
+                .addPathItem("/path", OASFactory.createPathItem()
+                        .POST(OASFactory.createOperation()
+                                .addParameter(OASFactory.createParameter().name("p").schema(SchemaImpl.copyOf(frozen)))
+                                .requestBody(OASFactory.createRequestBody().content(OASFactory.createContent()
+                                        .addMediaType("multipart/form-data", OASFactory.createMediaType()
+                                                .addEncoding("part", OASFactory.createEncoding()
+                                                        .addHeader("X-Part", OASFactory.createHeader().schema(frozen)))))))));
+
+        FilterUtil.applyFilter(new OASFilter() {
+            @Override
+            public Schema filterSchema(Schema schema) {
+                schema.setDescription("filtered");
+                return schema;
+            }
+        }, model);
+
+        Operation operation = model.getPaths().getPathItem("/path").getPOST();
+        Schema parameterSchema = operation.getParameters().get(0).getSchema();
+        Schema headerSchema = operation.getRequestBody().getContent().getMediaType("multipart/form-data")
+                .getEncoding().get("part").getHeaders().get("X-Part").getSchema();
+
+        assertNull(frozen.getDescription());
+        assertNull(frozen.getProperties().get("nested").getDescription());
+        assertEquals("filtered", parameterSchema.getProperties().get("nested").getDescription());
+        assertEquals("filtered", headerSchema.getDescription());
+        assertEquals("filtered", headerSchema.getProperties().get("nested").getDescription());
+    }
+
+    private static OpenAPI largeModel() {
+        OpenAPI model = OASFactory.createOpenAPI()
+                .openapi("3.0.3")
+                .paths(OASFactory.createPaths())
+                .components(OASFactory.createComponents());
+
+        for (int i = 0; i < 500; i++) {
+            Schema schema = OASFactory.createSchema()
+                    .addProperty("kept", OASFactory.createSchema().description("keep"))
+                    .addProperty("removed", OASFactory.createSchema().description("remove"));
+            model.getPaths().addPathItem("/path" + i, OASFactory.createPathItem()
+                    .description(String.valueOf(i))
+                    .GET(OASFactory.createOperation()
+                            .addParameter(OASFactory.createParameter().name("p").schema(schema))));
+            model.getComponents().addSchema("Schema" + i, OASFactory.createSchema().description(i % 7 == 0 ? "remove" : "keep")
+                    .addProperty("nested", OASFactory.createSchema().description("remove")));
+        }
+
+        return model;
+    }
+
     /**
      * Creates and returns the filter to use for the test.
      */
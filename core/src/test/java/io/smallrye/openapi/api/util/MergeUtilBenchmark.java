@@ -0,0 +1,127 @@
+package io.smallrye.openapi.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.Locale;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.media.Content;
+import org.eclipse.microprofile.openapi.models.media.MediaType;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.responses.APIResponses;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Measures the time taken by {@link MergeUtil#merge(OpenAPI, OpenAPI)} to merge two
+ * large generated models. Half of the paths of the second model are also present in
+ * the first model, so both the copying and the merging of nested models is measured.
+ * The first merge includes resolving the properties of each model class.
+ *
+ * Not part of the regular test run, execute with
+ * <code>mvn test -Dtest=MergeUtilBenchmark -Dsmallrye.openapi.benchmark=true</code>.
+ * Results are written to the test output.
+ */
+@EnabledIfSystemProperty(named = "smallrye.openapi.benchmark", matches = "true")
+class MergeUtilBenchmark {
+
+    private static final int[] OPERATIONS = { 1000, 5000 };
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 10;
+
+    @Test
+    void mergeLargeModels() {
+        for (int operations : OPERATIONS) {
+            System.out.printf(Locale.ROOT, "%d operations per model:%n", operations);
+
+            for (int i = 0; i < WARMUP; i++) {
+                merge(operations);
+            }
+
+            long total = 0;
+
+            for (int i = 0; i < ITERATIONS; i++) {
+                total += merge(operations);
+            }
+
+            System.out.printf(Locale.ROOT, "  merge: %,10d us/op%n", total / ITERATIONS / 1000);
+        }
+    }
+
+    private static long merge(int operations) {
+        OpenAPI document1 = model(0, operations, "first");
+        OpenAPI document2 = model(operations / 2, operations, "second");
+
+        long start = System.nanoTime();
+        OpenAPI result = MergeUtil.merge(document1, document2);
+        long elapsed = System.nanoTime() - start;
+
+        Paths paths = result.getPaths();
+        assertEquals(operations + operations / 2, paths.getPathItems().size());
+        PathItem shared = paths.getPathItem(path(operations / 2));
+        assertNotNull(shared.getGET());
+        assertNotNull(shared.getPOST());
+        assertEquals("second", shared.getGET().getDescription());
+        assertEquals(3, shared.getGET().getParameters().size());
+
+        return elapsed;
+    }
+
+    private static String path(int index) {
+        return "/resource" + index + "/{id}";
+    }
+
+    private static OpenAPI model(int first, int operations, String variant) {
+        Paths paths = OASFactory.createPaths();
+
+        for (int i = first; i < first + operations; i++) {
+            Schema schema = OASFactory.createSchema()
+                    .type(Schema.SchemaType.OBJECT)
+                    .addProperty("id", OASFactory.createSchema().type(Schema.SchemaType.STRING))
+                    .addProperty("value" + i, OASFactory.createSchema().type(Schema.SchemaType.INTEGER))
+                    .addRequired("id");
+            MediaType mediaType = OASFactory.createMediaType().schema(schema);
+            Content content = OASFactory.createContent().addMediaType("application/json", mediaType);
+            APIResponse response = OASFactory.createAPIResponse().description("OK").content(content);
+            APIResponses responses = OASFactory.createAPIResponses().addAPIResponse("200", response);
+            Parameter id = OASFactory.createParameter()
+                    .name("id")
+                    .in(Parameter.In.PATH)
+                    .required(true)
+                    .schema(OASFactory.createSchema().type(Schema.SchemaType.STRING));
+            Parameter filter = OASFactory.createParameter()
+                    .name(variant)
+                    .in(Parameter.In.QUERY)
+                    .schema(OASFactory.createSchema().type(Schema.SchemaType.STRING));
+            Operation get = OASFactory.createOperation()
+                    .operationId(variant + "Get" + i)
+                    .description(variant)
+                    .addTag("tag" + (i % 20))
+                    .addParameter(id)
+                    .addParameter(filter)
+                    .responses(responses);
+            PathItem item = OASFactory.createPathItem().GET(get);
+
+            if ("second".equals(variant)) {
+                item.POST(OASFactory.createOperation()
+                        .operationId(variant + "Post" + i)
+                        .responses(OASFactory.createAPIResponses()
+                                .addAPIResponse("204", OASFactory.createAPIResponse().description("No Content"))));
+            }
+
+            paths.addPathItem(path(i), item);
+        }
+
+        return OASFactory.createOpenAPI()
+                .openapi("3.0.3")
+                .info(OASFactory.createInfo().title(variant).version("1.0"))
+                .paths(paths);
+    }
+}
@@ -1,15 +1,24 @@
 package io.smallrye.openapi.api.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 import java.io.IOException;
 import java.net.URL;
 import java.text.ParseException;
 
 import org.apache.commons.io.IOUtils;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.json.JSONException;
 import org.junit.jupiter.api.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
 
+import io.smallrye.openapi.api.models.info.InfoImpl;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
 import io.smallrye.openapi.runtime.io.Format;
 import io.smallrye.openapi.runtime.io.OpenApiParser;
 import io.smallrye.openapi.runtime.io.OpenApiSerializer;
@@ -158,4 +167,38 @@ class MergeUtilTest {
     void testMerge_EmptyQueryParam() throws IOException, ParseException, JSONException {
         doTest("_pathEmpty/pathEmpty1.json", "_pathEmpty/pathEmpty2.json", "_pathEmpty/merged.json");
     }
+
+    /**
+     * A frozen schema nested in the target is copied before the other schema is merged into it.
+     */
+    @Test
+    void testMergeIntoFrozenNestedSchema() {
+        Schema frozen = SchemaImpl.freeze(new SchemaImpl().type(Schema.SchemaType.STRING));
+        Schema target = SchemaImpl.copyOf(SchemaImpl.freeze(new SchemaImpl().items(frozen)));
+
+        Schema merged = MergeUtil.mergeObjects(target, new SchemaImpl().items(new SchemaImpl().description("merged")));
+
+        assertSame(target, merged);
+        assertNotSame(frozen, merged.getItems());
+        assertEquals(Schema.SchemaType.STRING, merged.getItems().getType());
+        assertEquals("merged", merged.getItems().getDescription());
+        assertNull(frozen.getDescription());
+    }
+
+    /**
+     * Unchecked exceptions thrown by the model accessors are not wrapped.
+     */
+    @Test
+    void testMergeRethrowsUncheckedExceptions() {
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> MergeUtil.mergeObjects(new FailingInfo(), new FailingInfo()));
+        assertEquals("getTitle", thrown.getMessage());
+    }
+
+    public static class FailingInfo extends InfoImpl {
+        @Override
+        public String getTitle() {
+            throw new IllegalStateException("getTitle");
+        }
+    }
 }
@@ -0,0 +1,144 @@
+package io.smallrye.openapi.runtime.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.runtime.io.definition.DefinitionReader;
+
+/**
+ * Compares time, allocations and peak heap of the streaming {@link OpenApiParser} with
+ * reading the complete JSON tree first, for a large generated document.
+ *
+ * Not part of the regular test run, execute with
+ * <code>mvn test -Dtest=OpenApiParserBenchmark -Dsmallrye.openapi.benchmark=true</code>.
+ * Results are written to the test output.
+ */
+@EnabledIfSystemProperty(named = "smallrye.openapi.benchmark", matches = "true")
+class OpenApiParserBenchmark {
+
+    private static final int PATHS = 4000;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 10;
+
+    interface ParseFunction {
+        OpenAPI parse(InputStream stream, Format format) throws IOException;
+    }
+
+    @Test
+    void compareParsers() throws IOException {
+        for (Format format : Format.values()) {
+            byte[] document = OpenApiSerializer.serialize(document(), format).getBytes(StandardCharsets.UTF_8);
+            System.out.printf(Locale.ROOT, "%s document: %,d bytes%n", format, document.length);
+
+            run("tree     ", format, document, OpenApiParserBenchmark::parseTree);
+            run("streaming", format, document, OpenApiParser::parse);
+        }
+    }
+
+    private static OpenAPI parseTree(InputStream stream, Format format) throws IOException {
+        ObjectMapper mapper = format == Format.JSON ? new ObjectMapper() : new ObjectMapper(new YAMLFactory());
+        OpenAPI model = new OpenAPIImpl();
+        DefinitionReader.processDefinition(model, mapper.readTree(stream));
+        return model;
+    }
+
+    private static void run(String name, Format format, byte[] document, ParseFunction parser) throws IOException {
+        for (int i = 0; i < WARMUP; i++) {
+            parser.parse(new ByteArrayInputStream(document), format);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        List<MemoryPoolMXBean> pools = ManagementFactory.getMemoryPoolMXBeans();
+        long time = 0;
+        long allocated = 0;
+        long peak = 0;
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            System.gc();
+            long baseline = 0;
+            for (MemoryPoolMXBean pool : pools) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    pool.resetPeakUsage();
+                    baseline += pool.getUsage().getUsed();
+                }
+            }
+            long allocatedStart = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+            long start = System.nanoTime();
+
+            parser.parse(new ByteArrayInputStream(document), format);
+
+            time += System.nanoTime() - start;
+            allocated += threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocatedStart;
+            long used = 0;
+            for (MemoryPoolMXBean pool : pools) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    used += pool.getPeakUsage().getUsed();
+                }
+            }
+            peak = Math.max(peak, used - baseline);
+        }
+
+        System.out.printf(Locale.ROOT, "  %s: %,8d us/op, %,14d bytes allocated/op, %,14d bytes peak heap%n",
+                name, time / ITERATIONS / 1000, allocated / ITERATIONS, peak);
+    }
+
+    private static OpenAPI document() {
+        Paths paths = OASFactory.createPaths();
+        Components components = OASFactory.createComponents();
+
+        for (int i = 0; i < PATHS; i++) {
+            Schema schema = OASFactory.createSchema()
+                    .type(Schema.SchemaType.OBJECT)
+                    .description("Entity " + i);
+            for (int p = 0; p < 10; p++) {
+                schema.addProperty("property" + p, OASFactory.createSchema()
+                        .type(Schema.SchemaType.STRING)
+                        .maxLength(64)
+                        .description("Property " + p + " of entity " + i));
+            }
+            components.addSchema("Entity" + i, schema);
+
+            paths.addPathItem("/entities" + i + "/{id}", OASFactory.createPathItem()
+                    .GET(OASFactory.createOperation()
+                            .operationId("getEntity" + i)
+                            .addParameter(OASFactory.createParameter()
+                                    .name("id")
+                                    .in(Parameter.In.PATH)
+                                    .required(true)
+                                    .schema(OASFactory.createSchema().type(Schema.SchemaType.INTEGER)))
+                            .responses(OASFactory.createAPIResponses()
+                                    .addAPIResponse("200", OASFactory.createAPIResponse()
+                                            .description("The entity")
+                                            .content(OASFactory.createContent()
+                                                    .addMediaType("application/json", OASFactory.createMediaType()
+                                                            .schema(OASFactory.createSchema()
+                                                                    .ref("#/components/schemas/Entity" + i))))))));
+        }
+
+        return OASFactory.createOpenAPI()
+                .openapi("3.0.3")
+                .info(OASFactory.createInfo().title("Benchmark").version("1.0"))
+                .paths(paths)
+                .components(components);
+    }
+}
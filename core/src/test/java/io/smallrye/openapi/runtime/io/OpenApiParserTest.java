@@ -0,0 +1,99 @@
+package io.smallrye.openapi.runtime.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.runtime.io.definition.DefinitionReader;
+
+/**
+ * Verifies that the streaming {@link OpenApiParser} produces the same models as reading
+ * the complete JSON tree with {@link DefinitionReader#processDefinition(OpenAPI, com.fasterxml.jackson.databind.JsonNode)}.
+ */
+class OpenApiParserTest {
+
+    private static OpenAPI parseTree(InputStream stream, Format format) throws IOException {
+        ObjectMapper mapper = format == Format.JSON ? new ObjectMapper() : new ObjectMapper(new YAMLFactory());
+        OpenAPI model = new OpenAPIImpl();
+        DefinitionReader.processDefinition(model, mapper.readTree(stream));
+        return model;
+    }
+
+    private static void assertSameModel(OpenAPI expected, OpenAPI actual) throws IOException {
+        assertEquals(OpenApiSerializer.serialize(expected, Format.JSON), OpenApiSerializer.serialize(actual, Format.JSON));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "_everything.json",
+            "_everything.yaml",
+            "components-callbacks.json",
+            "components-empty.json",
+            "components-examples.json",
+            "components-headers.json",
+            "components-links.json",
+            "components-parameters.json",
+            "components-requestBodies.json",
+            "components-responses.json",
+            "components-schemas.json",
+            "components-securitySchemes.json",
+            "extensions.json",
+            "paths-empty.json",
+            "paths-ref.json",
+            "paths-with-extensions.json",
+            "schemas-with-composition.json",
+            "servers.yaml"
+    })
+    void testStreamingMatchesTree(String resource) throws IOException {
+        Format format = resource.endsWith(".json") ? Format.JSON : Format.YAML;
+
+        try (InputStream tree = getClass().getResourceAsStream(resource);
+                InputStream stream = getClass().getResourceAsStream(resource)) {
+            assertSameModel(parseTree(tree, format), OpenApiParser.parse(stream, format));
+        }
+    }
+
+    @Test
+    void testStreamingSkipsUnknownAndInvalidValues() throws IOException {
+        String document = "{\n"
+                + "  \"unknown\": { \"paths\": { \"/a\": {} } },\n"
+                + "  \"openapi\": \"3.0.3\",\n"
+                + "  \"x-first\": [ 1, { \"b\": null } ],\n"
+                + "  \"paths\": [ \"not\", \"an\", \"object\" ],\n"
+                + "  \"components\": {\n"
+                + "    \"schemas\": \"invalid\",\n"
+                + "    \"other\": { \"schemas\": {} },\n"
+                + "    \"responses\": {},\n"
+                + "    \"x-components\": true\n"
+                + "  },\n"
+                + "  \"X-Second\": null\n"
+                + "}";
+        byte[] content = document.getBytes(StandardCharsets.UTF_8);
+
+        OpenAPI model = OpenApiParser.parse(new ByteArrayInputStream(content), Format.JSON);
+
+        assertSameModel(parseTree(new ByteArrayInputStream(content), Format.JSON), model);
+        assertNull(model.getPaths());
+        assertNull(model.getComponents().getSchemas());
+        assertEquals(0, model.getComponents().getResponses().size());
+    }
+
+    @Test
+    void testStreamingEmptyDocument() throws IOException {
+        OpenAPI model = OpenApiParser.parse(new ByteArrayInputStream(new byte[0]), Format.JSON);
+        assertSameModel(new OpenAPIImpl(), model);
+    }
+}
@@ -0,0 +1,98 @@
+package io.smallrye.openapi.runtime.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.runtime.io.OpenApiSerializerCache.SerializedDocument;
+
+class OpenApiSerializerCacheTest {
+
+    private static OpenAPI parse(String resource) throws IOException {
+        return OpenApiParser.parse(OpenApiSerializerCacheTest.class.getResource(resource));
+    }
+
+    @Test
+    void testDocumentSerializedOncePerFormat() throws IOException {
+        OpenAPI model = parse("_everything.json");
+        OpenApiSerializerCache cache = new OpenApiSerializerCache();
+
+        SerializedDocument json = cache.get(model, Format.JSON);
+        SerializedDocument yaml = cache.get(model, Format.YAML);
+
+        assertSame(json, cache.get(model, Format.JSON));
+        assertSame(yaml, cache.get(model, Format.YAML));
+        assertEquals(OpenApiSerializer.serialize(model, Format.JSON), new String(json.getContent(), StandardCharsets.UTF_8));
+        assertEquals(OpenApiSerializer.serialize(model, Format.YAML), new String(yaml.getContent(), StandardCharsets.UTF_8));
+        assertNotEquals(json.getEntityTag(), yaml.getEntityTag());
+        assertNull(json.getGzipContent());
+    }
+
+    @Test
+    void testInvalidate() throws IOException {
+        OpenAPI model = parse("_everything.json");
+        OpenApiSerializerCache cache = new OpenApiSerializerCache();
+
+        SerializedDocument json = cache.get(model, Format.JSON);
+        model.getInfo().setTitle("Changed");
+        assertSame(json, cache.get(model, Format.JSON));
+
+        cache.invalidate(model);
+        SerializedDocument changed = cache.get(model, Format.JSON);
+        assertNotSame(json, changed);
+        assertNotEquals(json.getEntityTag(), changed.getEntityTag());
+    }
+
+    @Test
+    void testGzipContent() throws IOException {
+        OpenAPI model = parse("_everything.json");
+        SerializedDocument json = new OpenApiSerializerCache(true).get(model, Format.JSON);
+
+        byte[] content = IOUtils.toByteArray(new GZIPInputStream(new ByteArrayInputStream(json.getGzipContent())));
+        assertArrayEquals(json.getContent(), content);
+    }
+
+    @Test
+    void testGzipEntityTag() throws IOException {
+        SerializedDocument json = new OpenApiSerializerCache(true).get(parse("_everything.json"), Format.JSON);
+        String tag = json.getEntityTag();
+        String gzipTag = json.getGzipEntityTag();
+
+        assertEquals(tag.substring(0, tag.length() - 1) + "-gzip\"", gzipTag);
+        assertTrue(json.matches(gzipTag, true));
+        assertTrue(json.matches("W/" + gzipTag, true));
+        assertTrue(json.matches("*", true));
+        assertFalse(json.matches(tag, true));
+        assertFalse(json.matches(gzipTag, false));
+        assertFalse(json.matches(gzipTag));
+        assertNull(new OpenApiSerializerCache().get(parse("_everything.json"), Format.JSON).getGzipEntityTag());
+    }
+
+    @Test
+    void testEntityTagMatches() throws IOException {
+        SerializedDocument json = new OpenApiSerializerCache().get(parse("_everything.json"), Format.JSON);
+        String tag = json.getEntityTag();
+
+        assertTrue(tag.startsWith("\"") && tag.endsWith("\""));
+        assertTrue(json.matches(tag));
+        assertTrue(json.matches("W/" + tag));
+        assertTrue(json.matches("\"other\", " + tag));
+        assertTrue(json.matches("*"));
+        assertFalse(json.matches("\"other\""));
+        assertFalse(json.matches(null));
+    }
+}
@@ -0,0 +1,142 @@
+package io.smallrye.openapi.runtime.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.json.JSONException;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import io.smallrye.openapi.runtime.io.definition.DefinitionWriter;
+
+/**
+ * Verifies the output of the streaming serializer, for each of the {@link OpenApiSerializer}
+ * variants and for {@link DefinitionWriter#writeOpenAPI(ObjectNode, OpenAPI)}.
+ */
+class OpenApiSerializerTest {
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
+
+    private static String loadResource(String resource) throws IOException {
+        return IOUtils.toString(resource(resource), StandardCharsets.UTF_8);
+    }
+
+    private static URL resource(String resource) {
+        return OpenApiSerializerTest.class.getResource(resource);
+    }
+
+    private static Format format(String resource) {
+        return resource.endsWith(".json") ? Format.JSON : Format.YAML;
+    }
+
+    private static String toJson(String document, Format format) throws IOException {
+        ObjectMapper mapper = format == Format.JSON ? JSON_MAPPER : YAML_MAPPER;
+        return JSON_MAPPER.writeValueAsString(mapper.readTree(document));
+    }
+
+    /**
+     * Serializes the model with each of the serializer variants and returns the
+     * output, after checking that all variants produce the same document.
+     */
+    private static String serialize(OpenAPI model, Format format) throws IOException {
+        String result = OpenApiSerializer.serialize(model, format);
+
+        StringWriter writer = new StringWriter();
+        OpenApiSerializer.serialize(model, format, writer);
+        assertEquals(result, writer.toString());
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        OpenApiSerializer.serialize(model, format, stream);
+        assertEquals(result, new String(stream.toByteArray(), StandardCharsets.UTF_8));
+
+        if (format == Format.JSON) {
+            ObjectNode tree = JsonUtil.objectNode();
+            DefinitionWriter.writeOpenAPI(tree, model);
+            assertEquals(result, JSON_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(tree));
+        }
+
+        return result;
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "_everything.json",
+            "_everything.yaml",
+            "components-callbacks.json",
+            "components-examples.json",
+            "components-links.json",
+            "components-schemas.json",
+            "components-securitySchemes.json",
+            "extensions.json",
+            "paths-all-operations.json",
+            "paths-get-response-content.json",
+            "paths-with-extensions.json",
+            "schemas-discriminator.json",
+            "schemas-with-additionalProperties.json",
+            "schemas-with-composition.json",
+            "schemas-with-example.json",
+            "schemas-with-metaData.json",
+            "schemas-with-xml.json",
+            "security.json",
+            "servers.yaml"
+    })
+    void testSerializeDocument(String resource) throws IOException, JSONException {
+        String expected = toJson(loadResource(resource), format(resource));
+        OpenAPI model = OpenApiParser.parse(resource(resource));
+
+        for (Format format : Format.values()) {
+            JSONAssert.assertEquals(expected, toJson(serialize(model, format), format), true);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void testSerializeEdgeCases(boolean withDefaultResponse) throws IOException {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("decimal", new BigDecimal("1.50"));
+        value.put("integer", BigInteger.TEN);
+        value.put("float", 1.5f);
+        value.put("long", Long.MAX_VALUE);
+        value.put("list", Arrays.asList("a", null, 1, Collections.singletonMap("b", true)));
+        value.put("skipped", null);
+        value.put("unknown", new Object());
+
+        OpenAPI model = OASFactory.createOpenAPI()
+                .openapi("3.0.3")
+                .addExtension("foo", "first")
+                .addExtension("x-bar", value)
+                .addExtension("x-foo", "second")
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/items", OASFactory.createPathItem()
+                                .GET(OASFactory.createOperation()
+                                        .responses(OASFactory.createAPIResponses()
+                                                .addAPIResponse("200", OASFactory.createAPIResponse().description("OK"))
+                                                .defaultValue(withDefaultResponse
+                                                        ? OASFactory.createAPIResponse().description("Error")
+                                                        : null)))));
+
+        String resource = withDefaultResponse ? "serializer-edge-cases-default-response" : "serializer-edge-cases";
+        assertEquals(loadResource(resource + ".json"), serialize(model, Format.JSON));
+        assertEquals(loadResource(resource + ".yaml"), serialize(model, Format.YAML));
+    }
+}
@@ -0,0 +1,179 @@
+package io.smallrye.openapi.runtime.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.runtime.OpenApiProcessor;
+import io.smallrye.openapi.runtime.OpenApiStaticFile;
+
+class OpenApiSnapshotTest {
+
+    private static final OpenApiConfig CONFIG = new OpenApiConfig() {
+    };
+
+    private static OpenAPI parse(String resource) throws IOException {
+        return OpenApiParser.parse(OpenApiSnapshotTest.class.getResource(resource));
+    }
+
+    private static byte[] snapshot(OpenAPI model, String fingerprint) throws IOException {
+        return snapshot(model, CONFIG, fingerprint);
+    }
+
+    private static byte[] snapshot(OpenAPI model, OpenApiConfig config, String fingerprint) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OpenApiSnapshotWriter.write(model, config, fingerprint, out);
+        return out.toByteArray();
+    }
+
+    private static ClassLoader loader(byte[] snapshot) {
+        return new ClassLoader(OpenApiSnapshotTest.class.getClassLoader()) {
+            @Override
+            public InputStream getResourceAsStream(String name) {
+                if (OpenApiSnapshot.RESOURCE.equals(name)) {
+                    return new ByteArrayInputStream(snapshot);
+                }
+                return super.getResourceAsStream(name);
+            }
+        };
+    }
+
+    private static OpenApiStaticFile staticFile(String content) {
+        return new OpenApiStaticFile(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), Format.YAML);
+    }
+
+    private static Index index(Class<?>... classes) throws IOException {
+        Indexer indexer = new Indexer();
+        for (Class<?> klazz : classes) {
+            try (InputStream stream = klazz.getResourceAsStream(klazz.getSimpleName() + ".class")) {
+                indexer.index(stream);
+            }
+        }
+        return indexer.complete();
+    }
+
+    @Test
+    void testSnapshotRoundTrip() throws IOException {
+        OpenAPI model = parse("_everything.json");
+        byte[] snapshot = snapshot(model, "fingerprint");
+
+        OpenAPI result = OpenApiSnapshotReader.read(new ByteArrayInputStream(snapshot), CONFIG, "fingerprint");
+
+        assertEquals(OpenApiSerializer.serialize(model, Format.JSON), OpenApiSerializer.serialize(result, Format.JSON));
+    }
+
+    @Test
+    void testSnapshotFingerprintMismatch() throws IOException {
+        byte[] snapshot = snapshot(parse("_everything.json"), "fingerprint");
+        assertNull(OpenApiSnapshotReader.read(new ByteArrayInputStream(snapshot), CONFIG, "other"));
+    }
+
+    @Test
+    void testInvalidSnapshot() {
+        byte[] content = "{ \"openapi\": \"3.0.3\" }".getBytes();
+        assertThrows(IOException.class,
+                () -> OpenApiSnapshotReader.read(new ByteArrayInputStream(content), CONFIG, "fingerprint"));
+    }
+
+    @Test
+    void testFingerprintCoversIndexAndConfig() throws IOException {
+        Index index = index(OpenApiSnapshotTest.class);
+        String fingerprint = OpenApiSnapshot.fingerprint(CONFIG, index, Collections.emptyList());
+
+        assertEquals(fingerprint,
+                OpenApiSnapshot.fingerprint(CONFIG, index(OpenApiSnapshotTest.class), Collections.emptyList()));
+        assertNotEquals(fingerprint,
+                OpenApiSnapshot.fingerprint(CONFIG, index(OpenApiSnapshotTest.class, Format.class), Collections.emptyList()));
+        assertNotEquals(fingerprint, OpenApiSnapshot.fingerprint(new OpenApiConfig() {
+            @Override
+            public String filter() {
+                return "com.example.Filter";
+            }
+        }, index, Collections.emptyList()));
+        assertNotEquals(fingerprint, OpenApiSnapshot.fingerprint(new OpenApiConfig() {
+            @Override
+            public boolean compositeFilterEnable() {
+                return true;
+            }
+        }, index, Collections.emptyList()));
+    }
+
+    @Test
+    void testFingerprintCoversStaticFiles() throws IOException {
+        Index index = index(OpenApiSnapshotTest.class);
+        byte[] content = "openapi: 3.0.3".getBytes(StandardCharsets.UTF_8);
+        String fingerprint = OpenApiSnapshot.fingerprint(CONFIG, index, Collections.singletonList(content));
+
+        assertEquals(fingerprint, OpenApiSnapshot.fingerprint(CONFIG, index, Collections.singletonList(content.clone())));
+        assertNotEquals(fingerprint, OpenApiSnapshot.fingerprint(CONFIG, index, Collections.emptyList()));
+        assertNotEquals(fingerprint, OpenApiSnapshot.fingerprint(CONFIG, index,
+                Collections.singletonList("openapi: 3.0.2".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void testBootstrapFromSnapshot() throws IOException {
+        Index index = index(OpenApiSnapshotTest.class);
+        OpenAPI model = parse("_everything.json");
+        byte[] snapshot = snapshot(model, OpenApiSnapshot.fingerprint(CONFIG, index, Collections.emptyList()));
+
+        OpenAPI result = OpenApiProcessor.bootstrap(CONFIG, index, loader(snapshot));
+
+        assertEquals(OpenApiSerializer.serialize(model, Format.JSON), OpenApiSerializer.serialize(result, Format.JSON));
+    }
+
+    @Test
+    void testBootstrapRejectsSnapshotOfEditedStaticFile() throws IOException {
+        Index index = index(OpenApiSnapshotTest.class);
+        String original = "openapi: 3.0.3\ninfo:\n  title: Original\n  version: '1.0'\n";
+        String edited = "openapi: 3.0.3\ninfo:\n  title: Edited\n  version: '1.0'\n";
+        OpenAPI model = OpenApiProcessor.bootstrap(CONFIG, index, getClass().getClassLoader(), staticFile(original));
+        model.getInfo().setTitle("Snapshot");
+        byte[] snapshot = snapshot(model, OpenApiSnapshot.fingerprint(CONFIG, index,
+                Collections.singletonList(original.getBytes(StandardCharsets.UTF_8))));
+
+        assertEquals("Snapshot",
+                OpenApiProcessor.bootstrap(CONFIG, index, loader(snapshot), staticFile(original)).getInfo().getTitle());
+        assertEquals("Edited",
+                OpenApiProcessor.bootstrap(CONFIG, index, loader(snapshot), staticFile(edited)).getInfo().getTitle());
+    }
+
+    @Test
+    void testBootstrapRejectsSnapshotOfChangedPathServers() throws IOException {
+        Index index = index(OpenApiSnapshotTest.class);
+        String content = "openapi: 3.0.3\npaths:\n  /hello:\n    get:\n      operationId: hello\n";
+        OpenApiConfig config = new OpenApiConfig() {
+            @Override
+            public Set<String> pathServers(String path) {
+                return "/hello".equals(path) ? Collections.singleton("https://hello.example.com") : new HashSet<>();
+            }
+        };
+        OpenAPI model = OpenApiProcessor.bootstrap(CONFIG, index, getClass().getClassLoader(), staticFile(content));
+        byte[] snapshot = snapshot(model, CONFIG, OpenApiSnapshot.fingerprint(CONFIG, index,
+                Collections.singletonList(content.getBytes(StandardCharsets.UTF_8))));
+
+        assertNull(OpenApiProcessor.bootstrap(CONFIG, index, loader(snapshot), staticFile(content))
+                .getPaths().getPathItem("/hello").getServers());
+        assertNull(OpenApiSnapshotReader.read(new ByteArrayInputStream(snapshot), config,
+                OpenApiSnapshot.fingerprint(config, index,
+                        Collections.singletonList(content.getBytes(StandardCharsets.UTF_8)))));
+        assertEquals("https://hello.example.com",
+                OpenApiProcessor.bootstrap(config, index, loader(snapshot), staticFile(content))
+                        .getPaths().getPathItem("/hello").getServers().get(0).getUrl());
+    }
+}
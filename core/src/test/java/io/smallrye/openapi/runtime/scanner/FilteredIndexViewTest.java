@@ -2,6 +2,9 @@ package io.smallrye.openapi.runtime.scanner;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Collection;
@@ -13,11 +16,13 @@ import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 import org.junit.jupiter.api.Test;
 
 import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.runtime.scanner.dataobject.AugmentedIndexView;
 
 class FilteredIndexViewTest {
@@ -204,6 +209,41 @@ class FilteredIndexViewTest {
         assertTrue(view.accepts(DotName.createSimple("int")));
     }
 
+    @Test
+    void testAcceptsDecisionsCached() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(OASConfig.SCAN_PACKAGES, "com.example.pkgA");
+        OpenApiConfig config = IndexScannerTestBase.dynamicConfig(properties);
+        FilteredIndexView view = new FilteredIndexView(null, config);
+        DotName myBean = DotName.createSimple("com.example.pkgA.MyBean");
+        DotName myClass = DotName.createSimple("com.example.pkgA.MyClass");
+
+        assertTrue(view.accepts(myBean));
+        assertTrue(view.accepts(myBean));
+        assertTrue(view.explicitlyAccepts(myBean));
+        assertTrue(view.accepts(myClass));
+        assertFalse(view.accepts(DotName.createSimple("com.example.pkgB.MyImpl")));
+
+        assertEquals(2, view.getDecisionCacheHits());
+        assertEquals(3, view.getDecisionCacheMisses());
+        assertEquals(1, view.getPackageCacheHits());
+        assertEquals(2, view.getPackageCacheMisses());
+    }
+
+    @Test
+    void testExplicitlyAcceptsCachedImpliedDecision() {
+        Map<String, Object> properties = new HashMap<>();
+        OpenApiConfig config = IndexScannerTestBase.dynamicConfig(properties);
+        FilteredIndexView view = new FilteredIndexView(null, config);
+        DotName myBean = DotName.createSimple("com.example.pkgA.MyBean");
+
+        assertTrue(view.accepts(myBean));
+        assertFalse(view.explicitlyAccepts(myBean));
+        assertTrue(view.accepts(myBean));
+        assertEquals(2, view.getDecisionCacheHits());
+        assertEquals(1, view.getDecisionCacheMisses());
+    }
+
     @Test
     void testGetAnnotationsWithRepeatable() {
         class Target {
@@ -236,4 +276,45 @@ class FilteredIndexViewTest {
                 .getAnnotationsWithRepeatable(DotName.createSimple(Parameter.class.getName()), index);
         assertEquals(4, params.size());
     }
+
+    @Test
+    void testLookupCacheDisabledByDefault() {
+        IndexView index = IndexScannerTestBase.indexOf(APIResponse.class, FilteredIndexViewTest.class);
+        FilteredIndexView view = new FilteredIndexView(index, IndexScannerTestBase.emptyConfig());
+        DotName test = DotName.createSimple(Test.class.getName());
+
+        assertNotSame(view.getAnnotations(test), view.getAnnotations(test));
+    }
+
+    interface Marker {
+    }
+
+    static class IncludedMarker implements Marker {
+    }
+
+    static class ExcludedMarker implements Marker {
+    }
+
+    @Test
+    void testLookupCacheEnabled() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(OpenApiConstants.SMALLRYE_INDEX_LOOKUP_CACHE_ENABLE, Boolean.TRUE);
+        properties.put(OASConfig.SCAN_EXCLUDE_CLASSES, ExcludedMarker.class.getName());
+        OpenApiConfig config = IndexScannerTestBase.dynamicConfig(properties);
+        IndexView index = IndexScannerTestBase.indexOf(Marker.class, IncludedMarker.class, ExcludedMarker.class,
+                FilteredIndexViewTest.class);
+        FilteredIndexView view = new FilteredIndexView(index, config);
+        DotName test = DotName.createSimple(Test.class.getName());
+        DotName marker = DotName.createSimple(Marker.class.getName());
+
+        Collection<AnnotationInstance> tests = view.getAnnotations(test);
+        assertEquals(index.getAnnotations(test).size(), tests.size());
+        assertSame(tests, view.getAnnotations(test));
+        assertThrows(UnsupportedOperationException.class, () -> tests.clear());
+
+        Collection<ClassInfo> implementors = view.getAllKnownImplementors(marker);
+        assertEquals(1, implementors.size());
+        assertEquals(IncludedMarker.class.getName(), implementors.iterator().next().name().toString());
+        assertSame(implementors, view.getAllKnownImplementors(marker));
+    }
 }
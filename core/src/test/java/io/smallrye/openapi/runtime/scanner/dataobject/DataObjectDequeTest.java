@@ -0,0 +1,112 @@
+package io.smallrye.openapi.runtime.scanner.dataobject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.Type;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+import io.smallrye.openapi.runtime.scanner.dataobject.DataObjectDeque.PathEntry;
+
+class DataObjectDequeTest extends IndexScannerTestBase {
+
+    static class Root {
+    }
+
+    static class Child {
+    }
+
+    static class Leaf {
+    }
+
+    static class Box<T> {
+    }
+
+    private static DataObjectDeque deque() {
+        return new DataObjectDeque(AugmentedIndexView.augment(indexOf(Root.class, Child.class, Leaf.class, Box.class)));
+    }
+
+    private static Type type(Class<?> clazz) {
+        return Type.create(componentize(clazz.getName()), Type.Kind.CLASS);
+    }
+
+    private static Type box(Class<?> argument) {
+        return ParameterizedType.create(componentize(Box.class.getName()), new Type[] { type(argument) }, null);
+    }
+
+    @Test
+    void testHasParent() {
+        DataObjectDeque deque = deque();
+        PathEntry root = deque.leafNode(null, null, type(Root.class), new SchemaImpl());
+        PathEntry child = deque.leafNode(root, null, type(Child.class), new SchemaImpl());
+        PathEntry leaf = deque.leafNode(child, null, box(String.class), new SchemaImpl());
+
+        assertTrue(leaf.hasParent(deque.leafNode(leaf, null, type(Root.class), new SchemaImpl())));
+        assertTrue(leaf.hasParent(deque.leafNode(leaf, null, type(Child.class), new SchemaImpl())));
+        assertTrue(leaf.hasParent(leaf));
+        assertFalse(leaf.hasParent(deque.leafNode(leaf, null, type(Leaf.class), new SchemaImpl())));
+        assertFalse(child.hasParent(leaf));
+
+        // The class of the candidate is on the path, the arguments are compared when walking the path
+        assertTrue(leaf.hasParent(deque.leafNode(leaf, null, box(String.class), new SchemaImpl())));
+        assertFalse(leaf.hasParent(deque.leafNode(leaf, null, box(Integer.class), new SchemaImpl())));
+    }
+
+    @Test
+    void testPushDetectsCycle() {
+        DataObjectDeque deque = deque();
+        PathEntry rootEntry = deque.leafNode(null, null, type(Root.class), new SchemaImpl());
+
+        Schema childSchema = new SchemaImpl();
+        deque.push(null, rootEntry, type(Child.class), childSchema);
+        assertEquals(1, deque.size());
+        PathEntry childEntry = deque.pop();
+        assertNull(childSchema.getDescription());
+
+        Schema cyclic = new SchemaImpl();
+        deque.push(null, childEntry, type(Root.class), cyclic);
+        assertTrue(deque.isEmpty());
+        assertEquals("Cyclic reference to " + Root.class.getName(), cyclic.getDescription());
+    }
+
+    @Test
+    void testPathFilterFalsePositives() {
+        long[] filter = new long[8];
+
+        for (int depth = 0; depth < 100; depth++) {
+            filter = PathEntry.addToFilter(filter, PathEntry.classHash(DotName.createSimple("test.Node" + depth)));
+
+            if (depth == 49) {
+                assertTrue(falsePositives(filter) < 300, "Depth 50");
+            }
+        }
+
+        assertTrue(falsePositives(filter) < 1200, "Depth 100");
+
+        // A class already in the filter does not copy it
+        assertSame(filter, PathEntry.addToFilter(filter, PathEntry.classHash(DotName.createSimple("test.Node0"))));
+    }
+
+    /**
+     * Number of 10000 classes not in the filter that require a walk of the path.
+     */
+    private static int falsePositives(long[] filter) {
+        int count = 0;
+
+        for (int i = 0; i < 10000; i++) {
+            if (PathEntry.mightContain(filter, PathEntry.classHash(DotName.createSimple("test.Other" + i)))) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+}
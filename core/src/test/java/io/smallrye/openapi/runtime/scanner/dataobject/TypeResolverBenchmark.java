@@ -0,0 +1,158 @@
+package io.smallrye.openapi.runtime.scanner.dataobject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.jboss.jandex.Type;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.openapi.runtime.util.JandexUtil;
+
+/**
+ * Compares the time taken by {@link TypeResolver#sorted(Map, Set)} with the previous
+ * implementation that searched the property order and inheritance chain lists for
+ * each comparison. The classes are generated and compiled by the benchmark: wide
+ * classes in a deep inheritance chain, each level declaring a partial property order
+ * using <code>@JsonbPropertyOrder</code> or <code>@JsonPropertyOrder</code>.
+ *
+ * Not part of the regular test run, execute with
+ * <code>mvn test -Dtest=TypeResolverBenchmark -Dsmallrye.openapi.benchmark=true</code>.
+ * Results are written to the test output.
+ */
+@EnabledIfSystemProperty(named = "smallrye.openapi.benchmark", matches = "true")
+class TypeResolverBenchmark extends IndexScannerTestBase {
+
+    private static final int DEPTH = 8;
+    private static final int[] PROPERTIES = { 200, 400, 800 };
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    void compareSorting() throws IOException {
+        for (int properties : PROPERTIES) {
+            Index index = compile(properties);
+            AnnotationScannerContext context = new AnnotationScannerContext(index,
+                    Thread.currentThread().getContextClassLoader(), emptyConfig());
+            ClassInfo leafKlazz = index.getClassByName(DotName.createSimple(className(properties, DEPTH - 1)));
+            Type leaf = Type.create(leafKlazz.name(), Type.Kind.CLASS);
+            Set<ClassInfo> chain = JandexUtil.inheritanceChain(context.getAugmentedIndex(), leafKlazz, leaf).keySet();
+
+            // Reverse the order of the properties to give the sort some work
+            List<Map.Entry<String, TypeResolver>> entries = new ArrayList<>(
+                    TypeResolver.getAllFields(context, leaf, leafKlazz, null).entrySet());
+            Collections.reverse(entries);
+            Map<String, TypeResolver> input = new LinkedHashMap<>();
+            entries.forEach(e -> input.put(e.getKey(), e.getValue()));
+            assertEquals(properties, input.size());
+
+            List<String> expected = new ArrayList<>(TypeResolverTests.searchSorted(input, chain).keySet());
+            assertEquals(expected, new ArrayList<>(TypeResolver.sorted(input, chain).keySet()));
+
+            System.out.printf(Locale.ROOT, "%d properties in %d classes:%n", properties, DEPTH);
+            run("indexOf", input, chain, TypeResolverTests::searchSorted);
+            run("ranked ", input, chain, TypeResolver::sorted);
+        }
+    }
+
+    private static void run(String name, Map<String, TypeResolver> properties, Set<ClassInfo> chain,
+            BiFunction<Map<String, TypeResolver>, Set<ClassInfo>, Map<String, TypeResolver>> sort) {
+        for (int i = 0; i < WARMUP; i++) {
+            sort.apply(properties, chain);
+        }
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertEquals(properties.size(), sort.apply(properties, chain).size());
+        }
+
+        System.out.printf(Locale.ROOT, "  %s: %,10d us/op%n", name, (System.nanoTime() - start) / ITERATIONS / 1000);
+    }
+
+    private static String className(int properties, int level) {
+        return "bench.Wide" + properties + "Level" + level;
+    }
+
+    private Index compile(int properties) throws IOException {
+        Path sourceDir = Files.createDirectories(workDir.resolve("src" + properties).resolve("bench"));
+        Path classDir = Files.createDirectories(workDir.resolve("classes" + properties));
+        int perLevel = properties / DEPTH;
+        List<String> arguments = new ArrayList<>(Arrays.asList("-proc:none", "-classpath",
+                System.getProperty("java.class.path"), "-d", classDir.toString()));
+
+        for (int level = 0; level < DEPTH; level++) {
+            String simpleName = className(properties, level).substring("bench.".length());
+            StringBuilder source = new StringBuilder("package bench;\n");
+            List<String> order = new ArrayList<>();
+
+            // Order the second half of the level's properties, last first
+            for (int p = perLevel - 1; p >= perLevel / 2; p--) {
+                order.add('"' + "l" + level + "p" + p + '"');
+            }
+            if (level % 2 == 0) {
+                source.append("@javax.json.bind.annotation.JsonbPropertyOrder({");
+            } else {
+                source.append("@com.fasterxml.jackson.annotation.JsonPropertyOrder({");
+            }
+            source.append(String.join(", ", order)).append("})\n");
+            source.append("public class ").append(simpleName);
+            if (level > 0) {
+                source.append(" extends ").append(className(properties, level - 1));
+            }
+            source.append(" {\n");
+            for (int p = 0; p < perLevel; p++) {
+                source.append("    public String l").append(level).append('p').append(p).append(";\n");
+            }
+            source.append("}\n");
+
+            Path file = sourceDir.resolve(simpleName + ".java");
+            Files.write(file, source.toString().getBytes(StandardCharsets.UTF_8));
+            arguments.add(file.toString());
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertEquals(0, compiler.run(null, null, null, arguments.toArray(new String[0])));
+
+        Indexer indexer = new Indexer();
+
+        try (Stream<Path> files = Files.walk(classDir)) {
+            for (Path file : files.filter(f -> f.toString().endsWith(".class")).collect(Collectors.toList())) {
+                try (InputStream stream = Files.newInputStream(file)) {
+                    indexer.index(stream);
+                }
+            }
+        }
+
+        return indexer.complete();
+    }
+}
@@ -4,11 +4,20 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.jboss.jandex.AnnotationInstance;
@@ -25,6 +34,7 @@ import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.runtime.io.schema.SchemaConstant;
 import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.openapi.runtime.util.JandexUtil;
 import io.smallrye.openapi.runtime.util.TypeUtil;
 
 /**
@@ -685,4 +695,143 @@ class TypeResolverTests extends IndexScannerTestBase {
         assertEquals(second, keys.next());
         assertEquals(third, keys.next());
     }
+
+    @Test
+    void testPropertyModelCachedPerScan() {
+        @SuppressWarnings("unused")
+        class Inner {
+            public String value;
+        }
+
+        @SuppressWarnings("unused")
+        class Outer {
+            @com.fasterxml.jackson.annotation.JsonUnwrapped(prefix = "first_")
+            public Inner first;
+            @com.fasterxml.jackson.annotation.JsonUnwrapped(prefix = "second_")
+            public Inner second;
+        }
+
+        final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        AnnotationScannerContext context = new AnnotationScannerContext(indexOf(Inner.class, Outer.class), loader,
+                emptyConfig());
+        ClassInfo innerKlazz = context.getIndex().getClassByName(componentize(Inner.class.getName()));
+        ClassInfo outerKlazz = context.getIndex().getClassByName(componentize(Outer.class.getName()));
+        Type inner = Type.create(innerKlazz.name(), Type.Kind.CLASS);
+        Type outer = Type.create(outerKlazz.name(), Type.Kind.CLASS);
+
+        Map<String, TypeResolver> outerProperties = TypeResolver.getAllFields(context, outer, outerKlazz, null);
+        assertEquals("first_value", outerProperties.get("first_value").getPropertyName());
+        assertEquals("second_value", outerProperties.get("second_value").getPropertyName());
+
+        // Inner is computed once, both @JsonUnwrapped members share the same visibility context
+        PropertyModelCache cache = context.getPropertyModelCache();
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertSame(outerProperties, TypeResolver.getAllFields(context, outer, outerKlazz, null));
+
+        Map<String, TypeResolver> innerProperties = TypeResolver.getAllFields(context, inner, innerKlazz, null);
+        assertEquals("value", innerProperties.get("value").getPropertyName());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(3, cache.getHitCount());
+
+        assertThrows(UnsupportedOperationException.class, () -> innerProperties.remove("value"));
+        assertThrows(UnsupportedOperationException.class,
+                () -> innerProperties.get("value").getConstraintTargets().clear());
+    }
+
+    @Test
+    void testSortedMatchesPropertyOrderSearch() {
+        @SuppressWarnings("unused")
+        @javax.json.bind.annotation.JsonbPropertyOrder({ "a2", "a1" })
+        class Level0 {
+            public String a0;
+            public String a1;
+            public String a2;
+            public String a3;
+        }
+
+        @SuppressWarnings("unused")
+        @com.fasterxml.jackson.annotation.JsonPropertyOrder({ "b3", "b2" })
+        class Level1 extends Level0 {
+            public String b0;
+            public String b1;
+            public String b2;
+            public String b3;
+        }
+
+        @SuppressWarnings("unused")
+        @javax.json.bind.annotation.JsonbPropertyOrder({ "c1" })
+        class Level2 extends Level1 {
+            public String c0;
+            public String c1;
+            public String c2;
+        }
+
+        final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        AnnotationScannerContext context = new AnnotationScannerContext(indexOf(Level0.class, Level1.class, Level2.class),
+                loader, emptyConfig());
+        ClassInfo leafKlazz = context.getIndex().getClassByName(componentize(Level2.class.getName()));
+        Type leaf = Type.create(leafKlazz.name(), Type.Kind.CLASS);
+        Set<ClassInfo> chain = JandexUtil.inheritanceChain(context.getAugmentedIndex(), leafKlazz, leaf).keySet();
+
+        // Reverse the order of the properties to give the sort some work
+        List<Map.Entry<String, TypeResolver>> entries = new ArrayList<>(
+                TypeResolver.getAllFields(context, leaf, leafKlazz, null).entrySet());
+        Collections.reverse(entries);
+        Map<String, TypeResolver> input = new LinkedHashMap<>();
+        entries.forEach(e -> input.put(e.getKey(), e.getValue()));
+
+        List<String> sorted = new ArrayList<>(TypeResolver.sorted(input, chain).keySet());
+        assertEquals(new ArrayList<>(searchSorted(input, chain).keySet()), sorted);
+        assertEquals(Arrays.asList("a2", "a1", "b3", "b2", "c1", "a3", "a0", "b1", "b0", "c2", "c0"), sorted);
+    }
+
+    /**
+     * Reference ordering for {@link TypeResolver#sorted(Map, Set)}: searches the declared
+     * property orders and the inheritance chain for each comparison.
+     */
+    static Map<String, TypeResolver> searchSorted(Map<String, TypeResolver> properties, Set<ClassInfo> chainKeys) {
+        List<ClassInfo> chain = new ArrayList<>(chainKeys);
+        Collections.reverse(chain);
+        List<String> order = chain.stream()
+                .map(TypeResolver::propertyOrder)
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+        List<DotName> chainClassNames = chain.stream().map(ClassInfo::name).collect(Collectors.toList());
+
+        return properties.entrySet()
+                .stream()
+                .sorted((e1, e2) -> {
+                    TypeResolver r1 = e1.getValue();
+                    TypeResolver r2 = e2.getValue();
+
+                    int pIndex1 = order.indexOf(r1.getPropertyName());
+                    if (pIndex1 < 0) {
+                        pIndex1 = order.indexOf(e1.getKey());
+                    }
+
+                    int pIndex2 = order.indexOf(r2.getPropertyName());
+                    if (pIndex2 < 0) {
+                        pIndex2 = order.indexOf(e2.getKey());
+                    }
+
+                    if (pIndex1 > -1) {
+                        if (pIndex2 < 0) {
+                            return -1;
+                        }
+                        return Integer.compare(pIndex1, pIndex2);
+                    }
+
+                    if (pIndex2 > -1) {
+                        return 1;
+                    }
+
+                    return Integer.compare(chainClassNames.indexOf(r1.getDeclaringClass().name()),
+                            chainClassNames.indexOf(r2.getDeclaringClass().name()));
+                })
+                .collect(Collectors.toMap(Map.Entry::getKey,
+                        Map.Entry::getValue,
+                        (e1, e2) -> e1,
+                        LinkedHashMap::new));
+    }
 }
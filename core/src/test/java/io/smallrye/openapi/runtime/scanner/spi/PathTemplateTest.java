@@ -0,0 +1,73 @@
+package io.smallrye.openapi.runtime.scanner.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+class PathTemplateTest {
+
+    static final Pattern TEMPLATE_PARAM_PATTERN = Pattern
+            .compile("\\{[ \\t]*(\\w[\\w\\.-]*)[ \\t]*:[ \\t]*((?:[^{}]|\\{[^{}]+\\})+)\\}");
+
+    @Test
+    void testEmptyPath() {
+        PathTemplate template = PathTemplate.parse("", TEMPLATE_PARAM_PATTERN);
+        assertEquals("", template.getPath());
+        assertTrue(template.getSegments().isEmpty());
+    }
+
+    @Test
+    void testRegexVariablesRemoved() {
+        PathTemplate template = PathTemplate.parse("items/{ id : \\d{1,3} }/{name}/{v:[a-z]+}", TEMPLATE_PARAM_PATTERN);
+        assertEquals("/items/{id}/{name}/{v}", template.getPath());
+        assertEquals(6, template.getSegments().size());
+
+        PathTemplate.Segment id = template.getSegments().get(1);
+        assertEquals(PathTemplate.Kind.REGEX, id.getKind());
+        assertEquals("id", id.getText());
+        assertEquals("\\d{1,3}", id.getPattern());
+
+        PathTemplate.Segment name = template.getSegments().get(3);
+        assertEquals(PathTemplate.Kind.VARIABLE, name.getKind());
+        assertEquals("name", name.getText());
+        assertNull(name.getPattern());
+
+        assertEquals("[a-z]+", template.getSegments().get(5).getPattern());
+        assertTrue(template.hasVariable("id"));
+        assertTrue(template.hasVariable("name"));
+        assertFalse(template.hasVariable("items"));
+    }
+
+    @Test
+    void testMatrixAfterVariable() {
+        PathTemplate template = PathTemplate.parse("{id}/sub/{id}", TEMPLATE_PARAM_PATTERN);
+        PathTemplate result = template.withMatrix("id", "idMatrix");
+        assertEquals("/{id}/sub/{id}{idMatrix}", result.getPath());
+        // The original template is not modified
+        assertEquals("/{id}/sub/{id}", template.getPath());
+    }
+
+    @Test
+    void testMatrixAfterLiteral() {
+        PathTemplate template = PathTemplate.parse("seg/{id}/seg/tail", TEMPLATE_PARAM_PATTERN);
+        PathTemplate result = template.withMatrix("seg", "seg");
+        assertEquals("/seg/{id}/seg{seg}/tail", result.getPath());
+        assertEquals(5, result.getSegments().size());
+        assertEquals(PathTemplate.Kind.MATRIX, result.getSegments().get(3).getKind());
+        assertNull(template.withMatrix("missing", "missing"));
+    }
+
+    @Test
+    void testUnbalancedBracesAreLiteral() {
+        PathTemplate template = PathTemplate.parse("a{/{}/{b}", TEMPLATE_PARAM_PATTERN);
+        assertEquals("/a{/{}/{b}", template.getPath());
+        assertEquals(2, template.getSegments().size());
+        assertEquals(PathTemplate.Kind.LITERAL, template.getSegments().get(0).getKind());
+        assertEquals(PathTemplate.Kind.VARIABLE, template.getSegments().get(1).getKind());
+    }
+}
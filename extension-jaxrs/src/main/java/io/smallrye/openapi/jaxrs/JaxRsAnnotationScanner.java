@@ -38,8 +38,10 @@ import io.smallrye.openapi.api.util.MergeUtil;
 import io.smallrye.openapi.runtime.io.CurrentScannerInfo;
 import io.smallrye.openapi.runtime.io.parameter.ParameterReader;
 import io.smallrye.openapi.runtime.io.response.ResponseReader;
+import io.smallrye.openapi.runtime.io.securityscheme.SecuritySchemeReader;
 import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.openapi.runtime.scanner.FilteredIndexView;
+import io.smallrye.openapi.runtime.scanner.ParallelClassScanner;
 import io.smallrye.openapi.runtime.scanner.ResourceParameters;
 import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
 import io.smallrye.openapi.runtime.scanner.processor.JavaSecurityProcessor;
@@ -145,6 +147,9 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
 
     @Override
     public OpenAPI scan(final AnnotationScannerContext context, OpenAPI openApi) {
+        // Process exception mappers once, the resulting responses apply to methods of all resource classes
+        exceptionAnnotationMap = processExceptionMappers(context);
+
         // Get all JaxRs applications and convert them to OpenAPI models (and merge them into a single one)
         processApplicationClasses(context, openApi);
 
@@ -213,13 +218,52 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
 
     private void processResourceClasses(final AnnotationScannerContext context, OpenAPI openApi) {
         // Now find all jax-rs endpoints
-        Collection<ClassInfo> resourceClasses = getJaxRsResourceClasses(context);
-        for (ClassInfo resourceClass : resourceClasses) {
-            TypeResolver resolver = TypeResolver.forClass(context, resourceClass, null);
-            context.getResolverStack().push(resolver);
-            processResourceClass(context, openApi, resourceClass, null);
-            context.getResolverStack().pop();
+        List<ClassInfo> resourceClasses = getJaxRsResourceClasses(context);
+
+        ParallelClassScanner.scan(context, openApi, resourceClasses, this,
+                () -> initWorker(new JaxRsAnnotationScanner()),
+                context.getConfig().parallelScanEnable() && isParallelScanSupported(context, openApi),
+                JaxRsAnnotationScanner::processRootResourceClass);
+    }
+
+    private void processRootResourceClass(final AnnotationScannerContext context, OpenAPI openApi, ClassInfo resourceClass) {
+        TypeResolver resolver = TypeResolver.forClass(context, resourceClass, null);
+        context.getResolverStack().push(resolver);
+        processResourceClass(context, openApi, resourceClass, null);
+        context.getResolverStack().pop();
+    }
+
+    /**
+     * Resource classes may not be processed in parallel when roles found on the resource methods
+     * are added as scopes to the security scheme of the model, changing the model while scanning.
+     * This is the case when the model has a single OAuth2/OpenIdConnect scheme, or may become the
+     * case when a resource class (rather than an application) declares a security scheme.
+     *
+     * @param context the scanning context
+     * @param openApi the openAPI model
+     * @return true if resource classes may be processed in parallel
+     */
+    private boolean isParallelScanSupported(final AnnotationScannerContext context, OpenAPI openApi) {
+        if (JavaSecurityProcessor.appliesTo(openApi)) {
+            return false;
         }
+
+        return SecuritySchemeReader.getSecuritySchemeAnnotations(context.getIndex())
+                .stream()
+                .map(AnnotationInstance::target)
+                .filter(Objects::nonNull)
+                .filter(target -> target.kind() == AnnotationTarget.Kind.CLASS)
+                .map(AnnotationTarget::asClass)
+                .allMatch(classInfo -> isApplication(context, classInfo));
+    }
+
+    private boolean isApplication(final AnnotationScannerContext context, ClassInfo classInfo) {
+        return JaxRsConstants.APPLICATION
+                .stream()
+                .map(context.getIndex()::getAllKnownSubclasses)
+                .flatMap(Collection::stream)
+                .map(ClassInfo::name)
+                .anyMatch(classInfo.name()::equals);
     }
 
     /**
@@ -261,9 +305,6 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
         // Process tags (both declarations and references).
         Set<String> tagRefs = processTags(context, resourceClass, openApi, false);
 
-        // Process exception mapper to auto generate api response based on method exceptions
-        Map<DotName, AnnotationInstance> exceptionAnnotationMap = processExceptionMappers(context);
-
         for (MethodInfo methodInfo : getResourceMethods(context, resourceClass)) {
             final AtomicInteger resourceCount = new AtomicInteger(0);
 
@@ -288,7 +329,8 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
      * Build a map between exception class name and its corresponding @ApiResponse annotation in the jax-rs exception mapper
      * 
      */
-    private Map<DotName, AnnotationInstance> processExceptionMappers(final AnnotationScannerContext context) {
+    @Override
+    public Map<DotName, AnnotationInstance> processExceptionMappers(final AnnotationScannerContext context) {
         Collection<ClassInfo> exceptionMappers = new ArrayList<>();
 
         for (DotName dn : JaxRsConstants.EXCEPTION_MAPPER) {
@@ -506,7 +548,7 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
      * @param context current scanning context
      * @return Collection of ClassInfo's
      */
-    private Collection<ClassInfo> getJaxRsResourceClasses(AnnotationScannerContext context) {
+    private List<ClassInfo> getJaxRsResourceClasses(AnnotationScannerContext context) {
         Collection<AnnotationInstance> pathAnnotations = new ArrayList<>();
 
         for (DotName dn : JaxRsConstants.PATH) {
@@ -22,7 +22,6 @@ import io.smallrye.openapi.api.models.media.EncodingImpl;
 import io.smallrye.openapi.runtime.io.parameter.ParameterConstant;
 import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.openapi.runtime.scanner.ResourceParameters;
-import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
 import io.smallrye.openapi.runtime.scanner.spi.AbstractParameterProcessor;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
 import io.smallrye.openapi.runtime.scanner.spi.FrameworkParameter;
@@ -89,18 +88,21 @@ public class JaxRsParameterProcessor extends AbstractParameterProcessor {
         /*
          * Phase I - Read class fields, constructors, "setter" methods not annotated with JAX-RS
          * HTTP method. Check both the class declaring the method as well as the resource
-         * class, if different.
+         * class, if different. The result is the same for all methods of the class and only
+         * read once.
          */
-        readParametersInherited(resourceMethodClass, null, false);
-
-        if (!resourceClass.equals(resourceMethodClass)) {
-            /*
-             * The resource class may be a subclass/implementor of the resource method class. Scanning
-             * the resource class after the method's class allows for parameter details to be overridden
-             * by annotations in the subclass.
-             */
-            readParameters(resourceClass, null, true);
-        }
+        readClassParameters(resourceClass, resourceMethod, () -> {
+            readParametersInherited(resourceMethodClass, null, false);
+
+            if (!resourceClass.equals(resourceMethodClass)) {
+                /*
+                 * The resource class may be a subclass/implementor of the resource method class. Scanning
+                 * the resource class after the method's class allows for parameter details to be overridden
+                 * by annotations in the subclass.
+                 */
+                readParameters(resourceClass, null, true);
+            }
+        });
 
         parameters.setPathItemParameters(getParameters(resourceMethod));
     }
@@ -211,7 +213,8 @@ public class JaxRsParameterProcessor extends AbstractParameterProcessor {
             ClassInfo beanParam;
 
             if (targetType != null && (beanParam = index.getClassByName(targetType.name())) != null) {
-                this.scannerContext.getResolverStack().push(TypeResolver.forClass(this.scannerContext, beanParam, targetType));
+                this.scannerContext.getResolverStack().push(this.scannerContext.getParameterTemplateCache()
+                        .getResolver(this.scannerContext, beanParam, targetType));
                 readParametersInherited(beanParam, annotation, overriddenParametersOnly);
                 this.scannerContext.getResolverStack().pop();
             }
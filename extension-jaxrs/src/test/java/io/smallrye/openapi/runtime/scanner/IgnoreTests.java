@@ -10,8 +10,11 @@ import org.jboss.jandex.Type;
 import org.json.JSONException;
 import org.junit.jupiter.api.Test;
 
+import test.io.smallrye.openapi.runtime.scanner.entities.IgnoreReferenceContainer;
 import test.io.smallrye.openapi.runtime.scanner.entities.IgnoreSchemaOnFieldExample;
 import test.io.smallrye.openapi.runtime.scanner.entities.IgnoreTestContainer;
+import test.io.smallrye.openapi.runtime.scanner.entities.JsonIgnoreInInterfaceExample;
+import test.io.smallrye.openapi.runtime.scanner.entities.JsonIgnoreInSuperclassExample;
 import test.io.smallrye.openapi.runtime.scanner.entities.JsonIgnoreOnFieldExample;
 import test.io.smallrye.openapi.runtime.scanner.entities.JsonIgnoreTypeExample;
 import test.io.smallrye.openapi.runtime.scanner.entities.TransientFieldExample;
@@ -122,4 +125,43 @@ class IgnoreTests extends JaxRsDataObjectScannerTestBase {
         printToConsole(name.local(), result);
         assertJsonEquals(name.local(), "ignore.transientField.expected.json", result);
     }
+
+    // The ignore annotation is only present on the member referencing the class.
+    @Test
+    void testIgnore_jsonIgnorePropertiesOnReferenceOnly() throws IOException, JSONException {
+        String name = IgnoreReferenceContainer.class.getName();
+        FieldInfo fieldInfo = getFieldFromKlazz(name, "values");
+        OpenApiDataObjectScanner scanner = new OpenApiDataObjectScanner(context, fieldInfo, fieldInfo.type());
+
+        Schema result = scanner.process();
+
+        printToConsole(name, result);
+        assertJsonEquals(name, "ignore.jsonIgnorePropertiesOnReferenceOnly.expected.json", result);
+    }
+
+    // The ignore annotation is only present in the superclass declaring the field.
+    @Test
+    void testIgnore_jsonIgnoreFieldInSuperclass() throws IOException, JSONException {
+        DotName name = DotName.createSimple(JsonIgnoreInSuperclassExample.class.getName());
+        OpenApiDataObjectScanner scanner = new OpenApiDataObjectScanner(context,
+                ClassType.create(name, Type.Kind.CLASS));
+
+        Schema result = scanner.process();
+
+        printToConsole(name.local(), result);
+        assertJsonEquals(name.local(), "ignore.jsonIgnoreFieldInSuperclass.expected.json", result);
+    }
+
+    // The ignore annotation is only present in the interface declaring the getter.
+    @Test
+    void testIgnore_jsonIgnoreMethodInInterface() throws IOException, JSONException {
+        DotName name = DotName.createSimple(JsonIgnoreInInterfaceExample.class.getName());
+        OpenApiDataObjectScanner scanner = new OpenApiDataObjectScanner(context,
+                ClassType.create(name, Type.Kind.CLASS));
+
+        Schema result = scanner.process();
+
+        printToConsole(name.local(), result);
+        assertJsonEquals(name.local(), "ignore.jsonIgnoreMethodInInterface.expected.json", result);
+    }
 }
@@ -1,6 +1,8 @@
 package io.smallrye.openapi.runtime.scanner;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 
 import java.io.IOException;
 
@@ -71,4 +73,23 @@ class KitchenSinkTest extends JaxRsDataObjectScannerTestBase {
         printToConsole(oai);
         assertJsonEquals("refsEnabled.kitchenSink.expected.json", oai);
     }
+
+    @Test
+    void testInlineSchemaCachedPerScan() throws IOException {
+        Type kitchenSink = ClassType.create(DotName.createSimple(KitchenSink.class.getName()), Type.Kind.CLASS);
+        InlineSchemaCache cache = context.getInlineSchemaCache();
+
+        Schema first = OpenApiDataObjectScanner.process(context, kitchenSink);
+        String expected = schemaToString("KitchenSink", first);
+        assertEquals(0, cache.getHitCount());
+
+        // Modifying a result must not affect later occurrences
+        first.setDescription("Modified");
+        first.getProperties().values().iterator().next().setDescription("Modified");
+
+        Schema second = OpenApiDataObjectScanner.process(context, kitchenSink);
+        assertEquals(1, cache.getHitCount());
+        assertNotSame(first, second);
+        assertEquals(expected, schemaToString("KitchenSink", second));
+    }
 }
@@ -0,0 +1,61 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+class ParallelScanTests extends IndexScannerTestBase {
+
+    private static String scan(IndexView index, boolean parallel, boolean schemaReferences) throws IOException {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(OpenApiConstants.SMALLRYE_PARALLEL_SCAN_ENABLE, parallel);
+        properties.put(OpenApiConstants.SCHEMA_REFERENCES_ENABLE, schemaReferences);
+        OpenApiAnnotationScanner scanner = new OpenApiAnnotationScanner(dynamicConfig(properties), index);
+        return OpenApiSerializer.serialize(scanner.scan(), Format.JSON);
+    }
+
+    private static void assertParallelScanMatchesSerial(IndexView index) throws IOException {
+        for (boolean schemaReferences : new boolean[] { true, false }) {
+            String serial = scan(index, false, schemaReferences);
+            String parallel = scan(index, true, schemaReferences);
+            assertEquals(serial, parallel);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "test/io/smallrye/openapi/runtime/scanner/",
+            "test/io/smallrye/openapi/runtime/scanner/jakarta/",
+            "test/io/smallrye/openapi/runtime/scanner/resources/"
+    })
+    void testParallelScanMatchesSerial(String baseDir) throws IOException {
+        Indexer indexer = new Indexer();
+        indexDirectory(indexer, baseDir);
+        indexDirectory(indexer, "test/io/smallrye/openapi/runtime/scanner/entities/");
+        assertParallelScanMatchesSerial(indexer.complete());
+    }
+
+    @Test
+    void testParallelScanWithRoleScopesMatchesSerial() throws IOException {
+        Index index = indexOf(test.io.smallrye.openapi.runtime.scanner.RolesAllowedApp.class,
+                test.io.smallrye.openapi.runtime.scanner.RolesAllowedResource1.class,
+                test.io.smallrye.openapi.runtime.scanner.RolesAllowedResource2.class,
+                test.io.smallrye.openapi.runtime.scanner.RolesDeclaredResource.class,
+                test.io.smallrye.openapi.runtime.scanner.NoRolesResource.class);
+
+        assertParallelScanMatchesSerial(index);
+    }
+}
@@ -1,19 +1,38 @@
 package io.smallrye.openapi.runtime.scanner;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
 import java.io.IOException;
 import java.time.LocalTime;
 import java.time.OffsetTime;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.Index;
 import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
 import org.json.JSONException;
 import org.junit.jupiter.api.Test;
 
 import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.api.util.ClassLoaderUtil;
+import io.smallrye.openapi.jaxrs.JaxRsParameterProcessor;
+import io.smallrye.openapi.runtime.io.parameter.ParameterReader;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.openapi.runtime.scanner.spi.ParameterTemplateCache;
 
 /**
  * @author Michael Edgar {@literal <michael@xlate.io>}
@@ -350,6 +369,89 @@ class ResourceParameterTests extends JaxRsDataObjectScannerTestBase {
         assertJsonEquals("params.beanparam-multipartform-inherited.json", result);
     }
 
+    @Test
+    void testBeanParamTemplateCachedPerScan() {
+        Index i = indexOf(test.io.smallrye.openapi.runtime.scanner.BeanParamMultipartFormInheritanceResource.class,
+                test.io.smallrye.openapi.runtime.scanner.MultipartFormVerify.class,
+                test.io.smallrye.openapi.runtime.scanner.MultipartFormUploadIconForm.class,
+                test.io.smallrye.openapi.runtime.scanner.BeanParamBase.class,
+                test.io.smallrye.openapi.runtime.scanner.BeanParamImpl.class,
+                test.io.smallrye.openapi.runtime.scanner.BeanParamAddon.class);
+        AnnotationScannerContext ctx = new AnnotationScannerContext(i, ClassLoaderUtil.getDefaultClassLoader(),
+                emptyConfig());
+        ParameterTemplateCache cache = ctx.getParameterTemplateCache();
+        ClassInfo resource = i.getClassByName(
+                DotName.createSimple(test.io.smallrye.openapi.runtime.scanner.BeanParamMultipartFormInheritanceResource.class
+                        .getName()));
+        MethodInfo method = resource.methods()
+                .stream()
+                .filter(m -> m.parameters().size() == 1)
+                .filter(m -> m.parameters().get(0).name().local().equals("BeanParamImpl"))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+        Function<AnnotationInstance, Parameter> reader = a -> ParameterReader.readParameter(ctx, a);
+
+        List<Parameter> first = JaxRsParameterProcessor.process(ctx, resource, method, reader, Collections.emptyList())
+                .getOperationParameters();
+        // Templates of the resource class (class-level parameters) and of the bean
+        assertEquals(2, cache.getMissCount());
+        assertEquals(0, cache.getHitCount());
+
+        // The second use of the bean replays the cached template. The class-level parameters
+        // are restored from the class parameters read by the first call, without a template lookup.
+        List<Parameter> second = JaxRsParameterProcessor.process(ctx, resource, method, reader, Collections.emptyList())
+                .getOperationParameters();
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+
+        assertEquals(Arrays.asList("qc1", "hi1", "cc1"), first.stream().map(Parameter::getName).collect(Collectors.toList()));
+        assertEquals(first.size(), second.size());
+
+        for (int p = 0; p < first.size(); p++) {
+            assertNotSame(first.get(p), second.get(p));
+            assertEquals(first.get(p).getName(), second.get(p).getName());
+            assertEquals(first.get(p).getIn(), second.get(p).getIn());
+        }
+    }
+
+    @Test
+    void testClassParametersReadOncePerClass() {
+        Index i = indexOf(test.io.smallrye.openapi.runtime.scanner.ParameterInBeanFromFieldTestResource.class,
+                test.io.smallrye.openapi.runtime.scanner.ParameterInBeanFromFieldTestResource.Bean.class,
+                test.io.smallrye.openapi.runtime.scanner.Widget.class);
+        AnnotationScannerContext ctx = new AnnotationScannerContext(i, ClassLoaderUtil.getDefaultClassLoader(),
+                emptyConfig());
+        ParameterTemplateCache cache = ctx.getParameterTemplateCache();
+        ClassInfo resource = i.getClassByName(
+                DotName.createSimple(test.io.smallrye.openapi.runtime.scanner.ParameterInBeanFromFieldTestResource.class
+                        .getName()));
+        MethodInfo method = resource.method("get");
+        Function<AnnotationInstance, Parameter> reader = a -> ParameterReader.readParameter(ctx, a);
+
+        List<Parameter> first = JaxRsParameterProcessor.process(ctx, resource, method, reader, Collections.emptyList())
+                .getPathItemParameters();
+        long hits = cache.getHitCount();
+        long misses = cache.getMissCount();
+
+        // Modifying the result must not affect later methods of the class
+        first.get(0).getSchema().setDescription("Modified");
+
+        List<Parameter> second = JaxRsParameterProcessor.process(ctx, resource, method, reader, Collections.emptyList())
+                .getPathItemParameters();
+
+        // Neither the class nor the bean parameter are read again
+        assertEquals(hits, cache.getHitCount());
+        assertEquals(misses, cache.getMissCount());
+
+        assertEquals(1, second.size());
+        assertNotSame(first.get(0), second.get(0));
+        assertNotSame(first.get(0).getSchema(), second.get(0).getSchema());
+        assertEquals("id", second.get(0).getName());
+        assertEquals(Parameter.In.PATH, second.get(0).getIn());
+        assertEquals("BEAN", second.get(0).getSchema().getDefaultValue());
+        assertNull(second.get(0).getSchema().getDescription());
+    }
+
     /*
      * Test case derived from original example in SmallRye OpenAPI issue #330.
      *
@@ -1,8 +1,15 @@
 package io.smallrye.openapi.runtime.scanner;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.jboss.jandex.ClassInfo;
@@ -142,6 +149,47 @@ class SchemaRegistryTests extends IndexScannerTestBase {
         assertEquals("#/components/schemas/NestableExtendsNestable", field2SchemaName);
     }
 
+    @Test
+    void testConcurrentRegistrationUsesSingleSchemaPerType() throws Exception {
+        Index index = indexOf(Container.class, Nestable.class, NamedNestable.class);
+        AnnotationScannerContext context = new AnnotationScannerContext(index, ClassLoaderUtil.getDefaultClassLoader(),
+                emptyConfig());
+        SchemaRegistry registry = SchemaRegistry.newInstance(context);
+
+        assertSame(registry, context.getSchemaRegistry());
+        assertSame(registry, SchemaRegistry.currentInstance());
+
+        List<Type> types = index.getClassByName(componentize(Container.class.getName()))
+                .fields()
+                .stream()
+                .map(FieldInfo::type)
+                .collect(Collectors.toList());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<List<Schema>>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> types.stream()
+                        .map(type -> SchemaRegistry.checkRegistration(context, type, null, new SchemaImpl()))
+                        .collect(Collectors.toList())));
+            }
+
+            List<Schema> expected = results.get(0).get();
+
+            for (Future<List<Schema>> result : results) {
+                List<Schema> actual = result.get();
+                for (int i = 0; i < expected.size(); i++) {
+                    assertSame(expected.get(i), actual.get(i));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(types.size(), context.getOpenApi().getComponents().getSchemas().size());
+    }
+
     public static class Container {
         Nestable<String, Nestable<String, String>> n1;
         Nestable<String, Nestable<String, Object>> n2;
@@ -1,5 +1,6 @@
 package io.smallrye.openapi.runtime.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -135,6 +136,32 @@ class TypeUtilTest extends IndexScannerTestBase {
         assertTrue(result);
     }
 
+    @Test
+    void testIsA_IndexedSubjectUsesCachedSuperTypes() {
+        final Class<?> subjectClass = ChildCollection.class;
+        Index index = indexOf(subjectClass, CustomCollection.class);
+        AnnotationScannerContext context = new AnnotationScannerContext(index, ClassLoaderUtil.getDefaultClassLoader(),
+                emptyConfig());
+        Type testSubject = Type.create(DotName.createSimple(subjectClass.getName()), Type.Kind.CLASS);
+
+        assertTrue(TypeUtil.isA(context, testSubject, TYPE_COLLECTION));
+        assertTrue(TypeUtil.isA(context, testSubject, TYPE_COLLECTION));
+        assertEquals(0, context.getTypeHierarchyCache().getClassLoaderFallbackCount());
+    }
+
+    @Test
+    void testIsA_UnloadableSubjectCounted() {
+        Index index = indexOf();
+        AnnotationScannerContext context = new AnnotationScannerContext(index, ClassLoaderUtil.getDefaultClassLoader(),
+                emptyConfig());
+        Type testSubject = Type.create(DotName.createSimple("com.example.DoesNotExist"), Type.Kind.CLASS);
+
+        assertFalse(TypeUtil.isA(context, testSubject, TYPE_COLLECTION));
+        assertFalse(TypeUtil.isA(context, testSubject, TYPE_MAP));
+        assertEquals(2, context.getTypeHierarchyCache().getClassLoaderFallbackCount());
+        assertEquals(1, context.getTypeHierarchyCache().getUnloadableClassCount());
+    }
+
     private boolean isA(Index index, Type testSubject, Type testObject) {
         AnnotationScannerContext context = new AnnotationScannerContext(index, ClassLoaderUtil.getDefaultClassLoader(),
                 emptyConfig());
@@ -0,0 +1,12 @@
+package test.io.smallrye.openapi.runtime.scanner.entities;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * The ignore annotation is only present on the referencing member, the referenced
+ * class and this class have no other ignore-related annotations.
+ */
+public class IgnoreReferenceContainer {
+    @JsonIgnoreProperties({ "anIntegerProperty" })
+    SimpleValues values;
+}
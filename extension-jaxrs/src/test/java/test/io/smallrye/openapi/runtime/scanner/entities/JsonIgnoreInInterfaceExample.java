@@ -0,0 +1,18 @@
+package test.io.smallrye.openapi.runtime.scanner.entities;
+
+/**
+ * No ignore-related annotations in this class, only in the interface it implements.
+ */
+public class JsonIgnoreInInterfaceExample implements JsonIgnoreInterface {
+    private String ignoredInInterface;
+    private String exposed;
+
+    @Override
+    public String getIgnoredInInterface() {
+        return ignoredInInterface;
+    }
+
+    public String getExposed() {
+        return exposed;
+    }
+}
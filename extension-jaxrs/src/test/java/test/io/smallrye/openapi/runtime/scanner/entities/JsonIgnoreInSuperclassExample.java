@@ -0,0 +1,8 @@
+package test.io.smallrye.openapi.runtime.scanner.entities;
+
+/**
+ * No ignore-related annotations in this class, only in its superclass.
+ */
+public class JsonIgnoreInSuperclassExample extends JsonIgnoreSuperclass {
+    String subclassField;
+}
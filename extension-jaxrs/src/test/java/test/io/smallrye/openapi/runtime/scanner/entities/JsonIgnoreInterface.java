@@ -0,0 +1,9 @@
+package test.io.smallrye.openapi.runtime.scanner.entities;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+public interface JsonIgnoreInterface {
+    // Should be ignored in implementations by virtue of @JsonIgnore
+    @JsonIgnore
+    String getIgnoredInInterface();
+}
@@ -0,0 +1,11 @@
+package test.io.smallrye.openapi.runtime.scanner.entities;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+public class JsonIgnoreSuperclass {
+    // Should be ignored in subclasses by virtue of @JsonIgnore
+    @JsonIgnore
+    String ignoredInSuperclass;
+
+    String inheritedField;
+}
@@ -28,8 +28,10 @@ import io.smallrye.openapi.api.models.PathItemImpl;
 import io.smallrye.openapi.api.util.ListUtil;
 import io.smallrye.openapi.api.util.MergeUtil;
 import io.smallrye.openapi.runtime.io.CurrentScannerInfo;
+import io.smallrye.openapi.runtime.io.definition.DefinitionReader;
 import io.smallrye.openapi.runtime.io.parameter.ParameterReader;
 import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
+import io.smallrye.openapi.runtime.scanner.ParallelClassScanner;
 import io.smallrye.openapi.runtime.scanner.ResourceParameters;
 import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
 import io.smallrye.openapi.runtime.scanner.processor.JavaSecurityProcessor;
@@ -119,6 +121,9 @@ public class SpringAnnotationScanner extends AbstractAnnotationScanner {
 
     @Override
     public OpenAPI scan(final AnnotationScannerContext context, OpenAPI openApi) {
+        // Process exception handlers once, the resulting responses apply to methods of all scanned classes
+        exceptionAnnotationMap = processExceptionMappers(context);
+
         // Get all Spring controllers and convert them to OpenAPI models (and merge them into a single one)
         processControllerClasses(context, openApi);
 
@@ -159,10 +164,24 @@ public class SpringAnnotationScanner extends AbstractAnnotationScanner {
         // this can be a useful extension point to set/override the application path
         processScannerExtensions(context, applications);
 
-        for (ClassInfo controller : applications) {
-            OpenAPI applicationOpenApi = processControllerClass(context, controller);
-            openApi = MergeUtil.merge(openApi, applicationOpenApi);
-        }
+        ParallelClassScanner.scan(context, openApi, applications, this,
+                () -> initWorker(new SpringAnnotationScanner()),
+                context.getConfig().parallelScanEnable() && isParallelScanSupported(applications),
+                (scanner, workerContext, workerOpenApi, controller) -> {
+                    OpenAPI applicationOpenApi = scanner.processControllerClass(workerContext, controller);
+                    MergeUtil.merge(workerOpenApi, applicationOpenApi);
+                });
+    }
+
+    /**
+     * Classes may not be processed in parallel when any of them has an <code>@OpenAPIDefinition</code>,
+     * the components it declares are available to the classes processed after it.
+     *
+     * @param classes the controller classes
+     * @return true if the classes may be processed in parallel
+     */
+    private boolean isParallelScanSupported(List<ClassInfo> classes) {
+        return classes.stream().noneMatch(classInfo -> DefinitionReader.getDefinitionAnnotation(classInfo) != null);
     }
 
     /**
@@ -324,7 +343,7 @@ public class SpringAnnotationScanner extends AbstractAnnotationScanner {
         }
 
         // Process @APIResponse annotations
-        processResponse(context, method, operation, null);
+        processResponse(context, method, operation, exceptionAnnotationMap);
 
         // Process @SecurityRequirement annotations
         processSecurityRequirementAnnotation(resourceClass, method, operation);
@@ -27,8 +27,10 @@ import io.smallrye.openapi.api.models.PathItemImpl;
 import io.smallrye.openapi.api.util.ListUtil;
 import io.smallrye.openapi.api.util.MergeUtil;
 import io.smallrye.openapi.runtime.io.CurrentScannerInfo;
+import io.smallrye.openapi.runtime.io.definition.DefinitionReader;
 import io.smallrye.openapi.runtime.io.parameter.ParameterReader;
 import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
+import io.smallrye.openapi.runtime.scanner.ParallelClassScanner;
 import io.smallrye.openapi.runtime.scanner.ResourceParameters;
 import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
 import io.smallrye.openapi.runtime.scanner.processor.JavaSecurityProcessor;
@@ -92,6 +94,9 @@ public class VertxAnnotationScanner extends AbstractAnnotationScanner {
 
     @Override
     public OpenAPI scan(final AnnotationScannerContext context, OpenAPI openApi) {
+        // Process exception handlers once, the resulting responses apply to methods of all scanned classes
+        exceptionAnnotationMap = processExceptionMappers(context);
+
         // Get all Vert.x routes and convert them to OpenAPI models (and merge them into a single one)
         processRoutes(context, openApi);
 
@@ -131,10 +136,24 @@ public class VertxAnnotationScanner extends AbstractAnnotationScanner {
         // this can be a useful extension point to set/override the application path
         processScannerExtensions(context, applications);
 
-        for (ClassInfo controller : applications) {
-            OpenAPI applicationOpenApi = processRouteClass(context, controller);
-            openApi = MergeUtil.merge(openApi, applicationOpenApi);
-        }
+        ParallelClassScanner.scan(context, openApi, applications, this,
+                () -> initWorker(new VertxAnnotationScanner()),
+                context.getConfig().parallelScanEnable() && isParallelScanSupported(applications),
+                (scanner, workerContext, workerOpenApi, controller) -> {
+                    OpenAPI applicationOpenApi = scanner.processRouteClass(workerContext, controller);
+                    MergeUtil.merge(workerOpenApi, applicationOpenApi);
+                });
+    }
+
+    /**
+     * Classes may not be processed in parallel when any of them has an <code>@OpenAPIDefinition</code>,
+     * the components it declares are available to the classes processed after it.
+     *
+     * @param classes the route classes
+     * @return true if the classes may be processed in parallel
+     */
+    private boolean isParallelScanSupported(List<ClassInfo> classes) {
+        return classes.stream().noneMatch(classInfo -> DefinitionReader.getDefinitionAnnotation(classInfo) != null);
     }
 
     /**
@@ -286,7 +305,7 @@ public class VertxAnnotationScanner extends AbstractAnnotationScanner {
             }
 
             // Process @APIResponse annotations
-            processResponse(context, method, operation, null);
+            processResponse(context, method, operation, exceptionAnnotationMap);
 
             // Process @SecurityRequirement annotations
             processSecurityRequirementAnnotation(resourceClass, method, operation);
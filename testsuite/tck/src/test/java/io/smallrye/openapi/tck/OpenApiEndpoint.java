@@ -2,10 +2,9 @@ package io.smallrye.openapi.tck;
 
 import static io.smallrye.openapi.runtime.io.Format.JSON;
 import static io.smallrye.openapi.runtime.io.Format.YAML;
-import static io.smallrye.openapi.runtime.io.OpenApiSerializer.serialize;
-import static java.nio.charset.StandardCharsets.UTF_8;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
 
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import javax.annotation.PostConstruct;
@@ -20,9 +19,15 @@ import javax.ws.rs.core.Response;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 
 import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializerCache;
+import io.smallrye.openapi.runtime.io.OpenApiSerializerCache.SerializedDocument;
 
 @Path("/openapi")
 public class OpenApiEndpoint {
+    static final OpenApiSerializerCache CACHE = new OpenApiSerializerCache(true);
+    static final String GZIP = "gzip";
+    static final Pattern NOT_ACCEPTABLE = Pattern.compile("q\\s*=\\s*0(\\.0*)?");
+
     @Context
     ServletContext servletContext;
     @Context
@@ -38,9 +43,48 @@ public class OpenApiEndpoint {
     @GET
     public Response openApi(@QueryParam("format") final String format) throws Exception {
         final Format formatOpenApi = getOpenApiFormat(httpHeaders, format);
-        return Response.ok(serialize(openAPI, formatOpenApi).getBytes(UTF_8))
+        final SerializedDocument document = CACHE.get(openAPI, formatOpenApi);
+        final boolean gzip = acceptsGzip(httpHeaders.getHeaderString(HttpHeaders.ACCEPT_ENCODING));
+        final String entityTag = gzip ? document.getGzipEntityTag() : document.getEntityTag();
+
+        if (document.matches(httpHeaders.getHeaderString(HttpHeaders.IF_NONE_MATCH), gzip)) {
+            return Response.notModified()
+                    .header(HttpHeaders.ETAG, entityTag)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        final Response.ResponseBuilder response = Response.ok(gzip ? document.getGzipContent() : document.getContent())
                 .type(formatOpenApi.getMimeType())
-                .build();
+                .header(HttpHeaders.ETAG, entityTag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+
+        return response.build();
+    }
+
+    /**
+     * Determine whether the client accepts the GZIP compressed document, i.e. whether
+     * <code>gzip</code> is listed in the <code>Accept-Encoding</code> header without a
+     * quality value of zero.
+     */
+    static boolean acceptsGzip(final String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+
+            if (GZIP.equalsIgnoreCase(parameters[0].trim())) {
+                return Stream.of(parameters).skip(1).noneMatch(p -> NOT_ACCEPTABLE.matcher(p.trim()).matches());
+            }
+        }
+
+        return false;
     }
 
     private Format getOpenApiFormat(final HttpHeaders httpHeaders, final String format) {
@@ -0,0 +1,99 @@
+package io.smallrye.openapi.tck;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.testng.annotations.Test;
+
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+public class OpenApiEndpointTest {
+
+    private static OpenApiEndpoint endpoint(Map<String, String> headers) {
+        OpenApiEndpoint endpoint = new OpenApiEndpoint();
+        endpoint.openAPI = OASFactory.createOpenAPI()
+                .openapi("3.0.3")
+                .info(OASFactory.createInfo().title("Gzip").version("1.0"));
+        endpoint.httpHeaders = (HttpHeaders) Proxy.newProxyInstance(HttpHeaders.class.getClassLoader(),
+                new Class<?>[] { HttpHeaders.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getHeaderString":
+                            return headers.get(args[0]);
+                        case "getAcceptableMediaTypes":
+                            return Collections.emptyList();
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        return endpoint;
+    }
+
+    private static byte[] gunzip(byte[] content) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+
+        try (InputStream stream = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            byte[] buffer = new byte[4096];
+            int length;
+            while ((length = stream.read(buffer)) > -1) {
+                result.write(buffer, 0, length);
+            }
+        }
+
+        return result.toByteArray();
+    }
+
+    @Test
+    public void testGzipVariant() throws Exception {
+        Map<String, String> headers = new HashMap<>();
+        Response identity = endpoint(headers).openApi("json");
+
+        headers.put(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.8");
+        OpenApiEndpoint endpoint = endpoint(headers);
+        Response gzip = endpoint.openApi("json");
+
+        assertNull(identity.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(identity.getHeaderString(HttpHeaders.VARY), HttpHeaders.ACCEPT_ENCODING);
+        assertEquals(gzip.getHeaderString(HttpHeaders.CONTENT_ENCODING), "gzip");
+        assertEquals(gzip.getHeaderString(HttpHeaders.VARY), HttpHeaders.ACCEPT_ENCODING);
+        assertNotEquals(gzip.getHeaderString(HttpHeaders.ETAG), identity.getHeaderString(HttpHeaders.ETAG));
+        assertEquals(gunzip((byte[]) gzip.getEntity()), (byte[]) identity.getEntity());
+        assertEquals(new String((byte[]) identity.getEntity(), "UTF-8"),
+                OpenApiSerializer.serialize(endpoint.openAPI, Format.JSON));
+
+        // The entity tag of one variant does not validate the other
+        headers.put(HttpHeaders.IF_NONE_MATCH, identity.getHeaderString(HttpHeaders.ETAG));
+        assertEquals(endpoint(headers).openApi("json").getStatus(), 200);
+        headers.put(HttpHeaders.IF_NONE_MATCH, gzip.getHeaderString(HttpHeaders.ETAG));
+        Response notModified = endpoint(headers).openApi("json");
+        assertEquals(notModified.getStatus(), 304);
+        assertEquals(notModified.getHeaderString(HttpHeaders.VARY), HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    public void testAcceptsGzip() {
+        assertTrue(OpenApiEndpoint.acceptsGzip("gzip"));
+        assertTrue(OpenApiEndpoint.acceptsGzip("br, GZIP;q=0.5"));
+        assertFalse(OpenApiEndpoint.acceptsGzip(null));
+        assertFalse(OpenApiEndpoint.acceptsGzip("deflate, br"));
+        assertFalse(OpenApiEndpoint.acceptsGzip("gzip;q=0"));
+        assertFalse(OpenApiEndpoint.acceptsGzip("gzip; q=0.000"));
+    }
+}
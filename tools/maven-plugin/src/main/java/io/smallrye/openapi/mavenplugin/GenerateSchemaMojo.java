@@ -3,6 +3,7 @@ package io.smallrye.openapi.mavenplugin;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
@@ -11,6 +12,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -44,6 +46,8 @@ import io.smallrye.openapi.runtime.OpenApiProcessor;
 import io.smallrye.openapi.runtime.OpenApiStaticFile;
 import io.smallrye.openapi.runtime.io.Format;
 import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+import io.smallrye.openapi.runtime.io.OpenApiSnapshot;
+import io.smallrye.openapi.runtime.io.OpenApiSnapshotWriter;
 import io.smallrye.openapi.runtime.scanner.OpenApiAnnotationScanner;
 
 @Mojo(name = "generate-schema", defaultPhase = LifecyclePhase.PROCESS_CLASSES, requiresDependencyCollection = ResolutionScope.COMPILE_PLUS_RUNTIME, requiresDependencyResolution = ResolutionScope.COMPILE_PLUS_RUNTIME)
@@ -87,6 +91,16 @@ public class GenerateSchemaMojo extends AbstractMojo {
     @Parameter(defaultValue = "false", property = "skip")
     private boolean skip;
 
+    /**
+     * File where to output a snapshot of the final model, e.g.
+     * <code>${project.build.outputDirectory}/META-INF/openapi.snapshot</code>.
+     * At runtime, the snapshot found at <code>META-INF/openapi.snapshot</code> is used
+     * instead of scanning the application when it was produced from the same index
+     * and configuration. No snapshot is written by default.
+     */
+    @Parameter(property = "snapshotFile")
+    private File snapshotFile;
+
     /**
      * Compiled classes of the project.
      */
@@ -181,8 +195,10 @@ public class GenerateSchemaMojo extends AbstractMojo {
         if (!skip) {
             try {
                 IndexView index = createIndex();
-                OpenApiDocument schema = generateSchema(index);
+                OpenApiConfig openApiConfig = new MavenConfig(getProperties());
+                OpenApiDocument schema = generateSchema(index, openApiConfig);
                 write(schema);
+                writeSnapshot(schema, index, openApiConfig);
             } catch (IOException ex) {
                 getLog().error(ex);
                 throw new MojoExecutionException("Could not generate OpenAPI Schema", ex); // TODO allow failOnError = false ?
@@ -242,9 +258,7 @@ public class GenerateSchemaMojo extends AbstractMojo {
         return indexer.complete();
     }
 
-    private OpenApiDocument generateSchema(IndexView index) throws IOException {
-        OpenApiConfig openApiConfig = new MavenConfig(getProperties());
-
+    private OpenApiDocument generateSchema(IndexView index, OpenApiConfig openApiConfig) throws IOException {
         OpenAPI staticModel = generateStaticModel();
         OpenAPI annotationModel = generateAnnotationModel(index, openApiConfig);
 
@@ -423,6 +437,33 @@ public class GenerateSchemaMojo extends AbstractMojo {
         }
     }
 
+    private void writeSnapshot(OpenApiDocument schema, IndexView index, OpenApiConfig openApiConfig)
+            throws MojoExecutionException {
+        if (snapshotFile == null) {
+            return;
+        }
+        try {
+            Path file = snapshotFile.toPath();
+            Path directory = file.toAbsolutePath().getParent();
+            if (directory != null && !Files.exists(directory)) {
+                Files.createDirectories(directory);
+            }
+
+            try (OutputStream stream = Files.newOutputStream(file)) {
+                Path staticFile = getStaticFile();
+                List<byte[]> staticFiles = staticFile != null
+                        ? Collections.singletonList(Files.readAllBytes(staticFile))
+                        : Collections.emptyList();
+                OpenApiSnapshotWriter.write(schema.get(), openApiConfig,
+                        OpenApiSnapshot.fingerprint(openApiConfig, index, staticFiles), stream);
+            }
+
+            getLog().info("Wrote the schema snapshot to " + snapshotFile.getAbsolutePath());
+        } catch (IOException e) {
+            throw new MojoExecutionException("Can't write the snapshot", e);
+        }
+    }
+
     private void writeSchemaFile(Path directory, String filename, byte[] contents) throws IOException {
         Path file = Paths.get(directory.toString(), filename);
         if (!Files.exists(file)) {